@@ -1,5 +1,5 @@
 import axios, { type AxiosInstance, AxiosError, type InternalAxiosRequestConfig, type AxiosResponse } from 'axios';
-import { API_TIMEOUT, HTTP_STATUS } from '@/core/constants/app.constants';
+import { API_ENDPOINTS, API_TIMEOUT, HTTP_STATUS } from '@/core/constants/app.constants';
 
 export type ServiceType = 'transactions' | 'reports' | 'auth';
 
@@ -7,8 +7,18 @@ interface HttpClientConfig {
   timeout?: number;
 }
 
+interface RetriableRequestConfig extends InternalAxiosRequestConfig {
+  _retry?: boolean;
+}
+
+const AUTH_TOKEN_KEY = 'auth_token';
+const AUTH_REFRESH_TOKEN_KEY = 'auth_refresh_token';
+const SESSION_ENDPOINTS = ['/login', '/register', '/refresh'];
+const REFRESH_LOCK_NAME = 'auth-refresh';
+
 class HttpClient {
   private static instances: Map<ServiceType, AxiosInstance> = new Map();
+  private static refreshInFlight: Promise<string | null> | null = null;
 
   static getInstance(serviceType: ServiceType, config?: HttpClientConfig): AxiosInstance {
     if (this.instances.has(serviceType)) {
@@ -48,7 +58,7 @@ class HttpClient {
     instance.interceptors.request.use(
       (config: InternalAxiosRequestConfig) => {
         // Attach JWT Bearer token if available (for authenticated requests)
-        const token = localStorage.getItem('auth_token');
+        const token = localStorage.getItem(AUTH_TOKEN_KEY);
         if (token && config.headers) {
           config.headers.Authorization = `Bearer ${token}`;
         }
@@ -66,7 +76,16 @@ class HttpClient {
         console.log(`[${serviceType.toUpperCase()} Response] ${response.status} ${response.config.url}`);
         return response;
       },
-      (error: AxiosError) => {
+      async (error: AxiosError) => {
+        const original = error.config as RetriableRequestConfig | undefined;
+        if (original && !original._retry && this.shouldRefresh(error)) {
+          original._retry = true;
+          const token = await this.refreshAccessToken();
+          if (token) {
+            return instance(original);
+          }
+        }
+
         if (!error.response) {
           console.error(`[${serviceType.toUpperCase()} Network Error]`, {
             message: error.message,
@@ -110,6 +129,69 @@ class HttpClient {
     );
   }
 
+  /**
+   * Solo un 401 indica que el access token expiró o no es válido. Un 403 es una
+   * denegación de permisos: renovar no la arregla y gastaría un refresh token en
+   * cada llamada. Las llamadas que abren o renuevan la sesión no se reintentan.
+   */
+  private static shouldRefresh(error: AxiosError): boolean {
+    if (error.response?.status !== HTTP_STATUS.UNAUTHORIZED) {
+      return false;
+    }
+    const url = error.config?.url ?? '';
+    return !SESSION_ENDPOINTS.some((endpoint) => url.endsWith(`${API_ENDPOINTS.AUTH}${endpoint}`))
+      && localStorage.getItem(AUTH_REFRESH_TOKEN_KEY) !== null;
+  }
+
+  /**
+   * Canjea el refresh token por un par nuevo. El backend invalida cada refresh
+   * token al usarlo y trata un segundo canje del mismo token como robo, cerrando
+   * la sesión, así que nunca se canjea dos veces:
+   * - las peticiones de esta pestaña que fallen a la vez comparten una sola llamada;
+   * - entre pestañas, el canje se serializa con un Web Lock y, si al obtenerlo el
+   *   token guardado ya cambió, otra pestaña acaba de rotarlo y se reutiliza el par nuevo.
+   */
+  private static refreshAccessToken(): Promise<string | null> {
+    if (!this.refreshInFlight) {
+      const usedRefreshToken = localStorage.getItem(AUTH_REFRESH_TOKEN_KEY);
+      this.refreshInFlight = this.withRefreshLock(() => this.rotateTokens(usedRefreshToken))
+        .finally(() => {
+          this.refreshInFlight = null;
+        });
+    }
+    return this.refreshInFlight;
+  }
+
+  private static withRefreshLock(task: () => Promise<string | null>): Promise<string | null> {
+    // Sin Web Locks (navegadores antiguos, jsdom) queda la deduplicación por pestaña.
+    const locks = typeof navigator !== 'undefined' ? navigator.locks : undefined;
+    return locks ? locks.request(REFRESH_LOCK_NAME, task) : task();
+  }
+
+  private static async rotateTokens(usedRefreshToken: string | null): Promise<string | null> {
+    const refreshToken = localStorage.getItem(AUTH_REFRESH_TOKEN_KEY);
+    if (refreshToken === null) {
+      return null;
+    }
+    if (refreshToken !== usedRefreshToken) {
+      return localStorage.getItem(AUTH_TOKEN_KEY);
+    }
+    try {
+      const response = await axios.post<{ token: string; refreshToken: string }>(
+        `${this.getBaseURL('auth')}${API_ENDPOINTS.AUTH}/refresh`,
+        { refreshToken },
+        { timeout: API_TIMEOUT }
+      );
+      localStorage.setItem(AUTH_TOKEN_KEY, response.data.token);
+      localStorage.setItem(AUTH_REFRESH_TOKEN_KEY, response.data.refreshToken);
+      return response.data.token;
+    } catch {
+      localStorage.removeItem(AUTH_TOKEN_KEY);
+      localStorage.removeItem(AUTH_REFRESH_TOKEN_KEY);
+      return null;
+    }
+  }
+
   static clearInstances(): void {
     this.instances.clear();
   }
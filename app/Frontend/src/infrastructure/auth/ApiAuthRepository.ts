@@ -10,6 +10,7 @@ import type {
 } from '@/core/auth/interfaces';
 
 const AUTH_TOKEN_KEY = 'auth_token';
+const AUTH_REFRESH_TOKEN_KEY = 'auth_refresh_token';
 
 /**
  * API response types matching the backend Auth microservice DTOs.
@@ -19,6 +20,7 @@ interface AuthApiResponse {
   email: string;
   displayName: string;
   token: string;
+  refreshToken?: string;
 }
 
 interface UserApiResponse {
@@ -44,6 +46,9 @@ interface ApiErrorResponse {
  * El JWT devuelto por el backend se persiste en localStorage bajo la clave
  * 'auth_token'. La verificación de sesión al recargar la página se hace
  * consultando GET /api/v1/auth/me con el token almacenado.
+ *
+ * El access token dura pocos minutos; el refresh token ('auth_refresh_token')
+ * lo renueva de forma transparente desde el interceptor de HttpClient.
  */
 export class ApiAuthRepository implements IAuthRepository {
 
@@ -110,17 +115,21 @@ export class ApiAuthRepository implements IAuthRepository {
   }
 
   /**
-   * Persiste el token JWT en localStorage.
+   * Persiste el token JWT y, si viene, el refresh token en localStorage.
    */
-  private saveToken(token: string): void {
-    localStorage.setItem(AUTH_TOKEN_KEY, token);
+  private saveTokens(response: AuthApiResponse): void {
+    localStorage.setItem(AUTH_TOKEN_KEY, response.token);
+    if (response.refreshToken) {
+      localStorage.setItem(AUTH_REFRESH_TOKEN_KEY, response.refreshToken);
+    }
   }
 
   /**
-   * Elimina el token JWT de localStorage.
+   * Elimina el token JWT y el refresh token de localStorage.
    */
   private removeToken(): void {
     localStorage.removeItem(AUTH_TOKEN_KEY);
+    localStorage.removeItem(AUTH_REFRESH_TOKEN_KEY);
   }
 
   /**
@@ -144,7 +153,7 @@ export class ApiAuthRepository implements IAuthRepository {
         }
       );
 
-      this.saveToken(response.data.token);
+      this.saveTokens(response.data);
       return this.mapApiResponse(response.data);
     } catch (error) {
       this.handleApiError(error);
@@ -194,7 +203,7 @@ export class ApiAuthRepository implements IAuthRepository {
         }
       );
 
-      this.saveToken(response.data.token);
+      this.saveTokens(response.data);
       return this.mapApiResponse(response.data);
     } catch (error) {
       this.handleApiError(error);
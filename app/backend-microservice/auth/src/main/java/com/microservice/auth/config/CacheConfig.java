@@ -0,0 +1,44 @@
+package com.microservice.auth.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caché en memoria de perfiles de usuario para {@code GET /me}.
+ *
+ * <p>El interceptor de caché se ordena por fuera del transaccional, así que la
+ * invalidación de un perfil ocurre después del commit y una lectura concurrente no
+ * puede volver a cachear el valor anterior. Con {@code recordStats} Actuator publica
+ * {@code cache.gets{result=hit|miss}}, {@code cache.size} y {@code cache.evictions}.</p>
+ *
+ * <p>La caché es local a cada instancia: el TTL acota cuánto puede tardar una
+ * réplica en ver un cambio de perfil hecho en otra.</p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String USER_PROFILES = "userProfiles";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.user-profiles.max-size:10000}") long maxSize,
+            @Value("${app.cache.user-profiles.ttl-seconds:600}") long ttlSeconds) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(USER_PROFILES);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
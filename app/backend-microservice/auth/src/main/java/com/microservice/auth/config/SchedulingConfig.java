@@ -0,0 +1,12 @@
+package com.microservice.auth.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas {@code @Scheduled} (recarga y purga de tokens revocados).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
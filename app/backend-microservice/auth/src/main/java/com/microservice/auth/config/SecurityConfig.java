@@ -1,44 +1,98 @@
 package com.microservice.auth.config;
 
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import com.microservice.auth.security.JwtAuthenticationFilter;
+import com.microservice.auth.security.BoundedPasswordEncoder;
+import com.microservice.auth.service.TokenRevocationService;
+import com.microservice.security.JwtAuthenticationFilter;
+import com.microservice.security.JwtVerifier;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
-@RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
-
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 401 sin token válido (el frontend renueva la sesión); 403 queda para falta de permisos.
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/refresh").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/api/v1/internal/**").hasRole("SERVICE")
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Filtro JWT compartido con el resto de servicios; aquí los revocados se consultan
+     * directamente en {@link TokenRevocationService}. Los userIds de
+     * {@code app.security.admin-user-ids} reciben el rol ADMIN.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public JwtAuthenticationFilter jwtAuthenticationFilter(
+            @Value("${app.jwt.secret}") String secret,
+            TokenRevocationService tokenRevocationService,
+            @Value("${app.security.admin-user-ids:}") Set<String> adminUserIds) {
+        return new JwtAuthenticationFilter(new JwtVerifier(secret), tokenRevocationService::isRevoked,
+                adminUserIds);
+    }
+
+    /**
+     * BCrypt ejecutado en un pool dedicado y acotado (ver {@link BoundedPasswordEncoder}),
+     * para que las ráfagas de login no agoten la CPU de los hilos de Tomcat.
+     *
+     * <p>Los hashes nuevos se guardan con prefijo {@code {bcrypt}} y el coste configurado
+     * en {@code app.security.password.bcrypt-strength}. Los hashes heredados sin prefijo
+     * se siguen verificando como BCrypt; {@code upgradeEncoding} los marca para rehash
+     * en el siguiente login correcto, igual que a los que tienen un coste menor.</p>
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${app.security.password.hash-threads:0}") int hashThreads,
+            @Value("${app.security.password.queue-capacity:32}") int queueCapacity,
+            @Value("${app.security.password.max-wait-ms:5000}") long maxWaitMs,
+            @Value("${app.security.password.retry-after-seconds:2}") long retryAfterSeconds) {
+        int threads = hashThreads > 0 ? hashThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegatingEncoder(bcryptStrength), threads, queueCapacity,
+                maxWaitMs, retryAfterSeconds, meterRegistry);
+    }
+
+    public static PasswordEncoder delegatingEncoder(int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
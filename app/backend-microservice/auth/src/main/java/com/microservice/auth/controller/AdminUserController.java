@@ -0,0 +1,50 @@
+package com.microservice.auth.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.microservice.auth.service.UserImportService;
+import com.microservice.auth.service.UserImportService.CsvColumns;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Operaciones de administración de usuarios (rol ADMIN).
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/admin/users")
+public class AdminUserController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final UserImportService userImportService;
+
+    /**
+     * Alta masiva desde un CSV enviado como cuerpo ({@code Content-Type: text/csv}) con
+     * las columnas {@code email,password,displayName}. El cuerpo se lee y la respuesta se
+     * escribe en streaming: un CSV con una línea de resultado por fila
+     * ({@code line,email,status,detail}).
+     */
+    @PostMapping(path = "/import", consumes = TEXT_CSV)
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BufferedReader csv = request.getReader();
+        CsvColumns columns = userImportService.readHeader(csv);
+
+        response.setContentType(TEXT_CSV);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("import-results.csv").build().toString());
+        userImportService.importUsers(csv, columns, response.getWriter());
+    }
+}
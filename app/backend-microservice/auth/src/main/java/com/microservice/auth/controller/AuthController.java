@@ -1,20 +1,27 @@
 package com.microservice.auth.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.microservice.auth.dto.AuthResponse;
 import com.microservice.auth.dto.LoginRequest;
+import com.microservice.auth.dto.RefreshTokenRequest;
 import com.microservice.auth.dto.RegisterRequest;
+import com.microservice.auth.dto.UpdateProfileRequest;
 import com.microservice.auth.dto.UserResponse;
+import com.microservice.auth.security.LoginAttemptGuard;
 import com.microservice.auth.service.AuthService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -23,7 +30,10 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("api/v1/auth")
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
+    private final LoginAttemptGuard loginAttemptGuard;
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
@@ -32,22 +42,43 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        // Throttling before the DB lookup and BCrypt, so floods are rejected cheaply.
+        loginAttemptGuard.checkAttempt(request.email(), httpRequest.getRemoteAddr());
         AuthResponse response = authService.login(request);
+        loginAttemptGuard.loginSucceeded(request.email());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+        String userId = authentication.getName();
         UserResponse response = authService.getCurrentUser(userId);
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/me")
+    public ResponseEntity<UserResponse> updateProfile(Authentication authentication,
+            @Valid @RequestBody UpdateProfileRequest request) {
+        String userId = authentication.getName();
+        UserResponse response = authService.updateProfile(userId, request);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout() {
-        // JWT is stateless — the client is responsible for discarding the token.
-        // This endpoint exists for API completeness and future token blacklist support.
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        // Revokes the presented token and its refresh-token session.
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            authService.logout(authorization.substring(BEARER_PREFIX.length()));
+        }
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,41 @@
+package com.microservice.auth.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.microservice.auth.dto.RevocationListResponse;
+import com.microservice.auth.service.TokenRevocationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoints internos consumidos por otros microservicios con un token de servicio.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/internal/revocations")
+public class InternalRevocationController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Lista de tokens revocados vigentes. Responde 304 sin cuerpo cuando el cliente
+     * ya tiene la versión actual ({@code If-None-Match}), que es el caso habitual en
+     * cada refresco.
+     */
+    @GetMapping
+    public ResponseEntity<RevocationListResponse> getRevocations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        RevocationListResponse revocations = tokenRevocationService.getActiveRevocations();
+        String etag = "\"" + revocations.version() + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(revocations);
+    }
+}
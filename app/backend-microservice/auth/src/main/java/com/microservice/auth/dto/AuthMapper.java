@@ -8,12 +8,13 @@ public class AuthMapper {
         // Utility class — prevent instantiation
     }
 
-    public static AuthResponse toAuthResponse(User user, String token) {
+    public static AuthResponse toAuthResponse(User user, String token, String refreshToken) {
         return new AuthResponse(
                 user.getUserId(),
                 user.getEmail(),
                 user.getDisplayName(),
-                token);
+                token,
+                refreshToken);
     }
 
     public static UserResponse toUserResponse(User user) {
@@ -4,5 +4,6 @@ public record AuthResponse(
         String userId,
         String email,
         String displayName,
-        String token) {
+        String token,
+        String refreshToken) {
 }
@@ -0,0 +1,14 @@
+package com.microservice.auth.dto;
+
+/**
+ * Refresh token recién emitido.
+ *
+ * @param userId   dueño del token
+ * @param familyId sesión a la que pertenece; se copia en el claim {@code sid} del access token
+ * @param token    valor en claro, que solo se entrega al cliente
+ */
+public record RefreshTokenGrant(
+        String userId,
+        String familyId,
+        String token) {
+}
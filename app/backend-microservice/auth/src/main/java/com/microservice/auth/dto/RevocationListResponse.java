@@ -0,0 +1,14 @@
+package com.microservice.auth.dto;
+
+import java.util.List;
+
+/**
+ * Lista de tokens revocados vigentes que consumen el resto de microservicios.
+ *
+ * @param version  identificador del contenido; se repite en el ETag
+ * @param tokenIds valores {@code jti} revocados que aún no han expirado
+ */
+public record RevocationListResponse(
+        String version,
+        List<String> tokenIds) {
+}
@@ -0,0 +1,16 @@
+package com.microservice.auth.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Cambios parciales del perfil: los campos {@code null} se dejan como están.
+ */
+public record UpdateProfileRequest(
+        @Size(min = 3, max = 100, message = "Display name must be between 3 and 100 characters")
+        @Pattern(regexp = ".*\\S.*", message = "Display name must not be blank")
+        String displayName,
+
+        @Size(max = 500, message = "Photo URL must be at most 500 characters")
+        String photoURL) {
+}
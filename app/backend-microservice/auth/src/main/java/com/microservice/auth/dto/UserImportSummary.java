@@ -0,0 +1,10 @@
+package com.microservice.auth.dto;
+
+public record UserImportSummary(
+        int rows,
+        int created,
+        int duplicates,
+        int invalid,
+        int skipped,
+        int rejected) {
+}
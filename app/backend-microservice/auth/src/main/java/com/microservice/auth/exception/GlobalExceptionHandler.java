@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -35,6 +36,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<CustomErrorResponse> handleServiceBusy(ServiceBusyException ex, HttpServletRequest request) {
+        CustomErrorResponse body = CustomErrorResponse.builder()
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .dateTime(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    @ExceptionHandler(TooManyAttemptsException.class)
+    public ResponseEntity<CustomErrorResponse> handleTooManyAttempts(TooManyAttemptsException ex,
+            HttpServletRequest request) {
+        CustomErrorResponse body = CustomErrorResponse.builder()
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .dateTime(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<CustomErrorResponse> handleInvalidImportFile(InvalidImportFileException ex,
+            HttpServletRequest request) {
+        CustomErrorResponse body = CustomErrorResponse.builder()
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .dateTime(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<CustomErrorResponse> handleValidation(MethodArgumentNotValidException ex,
             HttpServletRequest request) {
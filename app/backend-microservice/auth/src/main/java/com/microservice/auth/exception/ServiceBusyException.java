@@ -0,0 +1,18 @@
+package com.microservice.auth.exception;
+
+/**
+ * El servicio rechaza la petición por saturación; el cliente debe reintentar
+ * pasados {@code retryAfterSeconds}.
+ */
+public class ServiceBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
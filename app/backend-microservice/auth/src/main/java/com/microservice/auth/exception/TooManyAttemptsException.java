@@ -0,0 +1,18 @@
+package com.microservice.auth.exception;
+
+/**
+ * Se superó el límite de intentos de login; el cliente debe esperar
+ * {@code retryAfterSeconds} antes de reintentar.
+ */
+public class TooManyAttemptsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
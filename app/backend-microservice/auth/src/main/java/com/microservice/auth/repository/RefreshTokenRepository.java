@@ -0,0 +1,35 @@
+package com.microservice.auth.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.microservice.auth.model.RefreshToken;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marca el token como rotado solo si sigue activo. Devuelve 0 si otra petición
+     * lo rotó o revocó antes, lo que se trata como reutilización.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now, r.replacedBy = :replacedBy "
+            + "WHERE r.id = :id AND r.revokedAt IS NULL")
+    int markRotated(@Param("id") String id, @Param("replacedBy") String replacedBy, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") OffsetDateTime now);
+}
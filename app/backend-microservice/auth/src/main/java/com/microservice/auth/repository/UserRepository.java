@@ -4,11 +4,16 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.microservice.auth.model.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
+    /**
+     * En su propia transacción de solo lectura: el login la llama sin transacción
+     * abierta y verifica la contraseña después, ya con la conexión devuelta al pool.
+     */
+    @Transactional(readOnly = true)
     Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
 }
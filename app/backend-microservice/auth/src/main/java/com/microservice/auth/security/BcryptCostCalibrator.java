@@ -0,0 +1,85 @@
+package com.microservice.auth.security;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Herramienta de línea de comandos que mide la latencia de BCrypt en el host y
+ * recomienda el valor de {@code app.security.password.bcrypt-strength}.
+ *
+ * <p>Para cada coste entre {@code minCost} y {@code maxCost} hashea una contraseña
+ * de muestra {@code samples} veces y reporta p50/p99. La recomendación es el mayor
+ * coste cuyo p99 no supera el objetivo. La medición es de un solo hilo sobre un
+ * host sin carga: el p99 real del login añade la espera en la cola de
+ * {@link BoundedPasswordEncoder}, así que conviene dejar margen.</p>
+ *
+ * <pre>
+ * java -Dloader.main=com.microservice.auth.security.BcryptCostCalibrator \
+ *      -cp auth.jar org.springframework.boot.loader.launch.PropertiesLauncher \
+ *      [targetMs=250] [samples=20] [minCost=8] [maxCost=14]
+ * </pre>
+ */
+public final class BcryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibration-Password-123";
+
+    private BcryptCostCalibrator() {
+    }
+
+    public static void main(String[] args) {
+        long targetMs = args.length > 0 ? Long.parseLong(args[0]) : 250;
+        int samples = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int minCost = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        int maxCost = args.length > 3 ? Integer.parseInt(args[3]) : 14;
+
+        System.out.printf(Locale.ROOT, "Objetivo p99: %d ms, %d muestras por coste, %d núcleos%n",
+                targetMs, samples, Runtime.getRuntime().availableProcessors());
+        System.out.printf(Locale.ROOT, "%6s %10s %10s%n", "coste", "p50 (ms)", "p99 (ms)");
+
+        int recommended = -1;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            double[] latencies = measure(cost, samples);
+            double p50 = percentile(latencies, 0.50);
+            double p99 = percentile(latencies, 0.99);
+            System.out.printf(Locale.ROOT, "%6d %10.1f %10.1f%n", cost, p50, p99);
+
+            if (p99 <= targetMs) {
+                recommended = cost;
+            } else if (p50 > targetMs * 2) {
+                // Cada punto de coste duplica el trabajo: los siguientes solo pueden ser peores.
+                break;
+            }
+        }
+
+        if (recommended < 0) {
+            System.out.printf(Locale.ROOT,
+                    "Ningún coste >= %d cumple %d ms; usa %d y revisa la capacidad del host%n",
+                    minCost, targetMs, minCost);
+        } else {
+            System.out.printf(Locale.ROOT, "Recomendado: app.security.password.bcrypt-strength=%d%n",
+                    recommended);
+        }
+    }
+
+    static double[] measure(int cost, int samples) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        encoder.encode(SAMPLE_PASSWORD); // calentamiento del JIT
+        double[] latencies = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            latencies[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        return latencies;
+    }
+
+    /** Percentil por rango más cercano. */
+    static double percentile(double[] values, double quantile) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -1,47 +1,69 @@
 package com.microservice.auth.security;
 
 import java.util.Date;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import com.microservice.security.JwtClaims;
+import com.microservice.security.JwtKeys;
+import com.microservice.security.JwtPrincipal;
+import com.microservice.security.JwtVerifier;
+
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 
+/**
+ * Issues the access tokens of this service. Reading them back goes through the shared
+ * {@link JwtVerifier}, the same one the request filter of every service uses.
+ */
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtVerifier jwtVerifier;
     private final long expirationMs;
 
     public JwtTokenProvider(
             @Value("${app.jwt.secret}") String secret,
             @Value("${app.jwt.expiration-ms}") long expirationMs) {
-        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(
-                java.util.Base64.getEncoder().encodeToString(secret.getBytes())));
+        this.secretKey = JwtKeys.hmacKey(secret);
+        this.jwtVerifier = new JwtVerifier(secret);
         this.expirationMs = expirationMs;
     }
 
     /**
      * Generates a signed JWT token for the given user ID and email.
+     * Each token carries a random {@code jti} so it can be revoked individually.
      *
      * @param userId  the user's UUID
      * @param email   the user's email (stored as a claim)
      * @return signed JWT token string
      */
     public String generateToken(String userId, String email) {
+        return generateToken(userId, email, null);
+    }
+
+    /**
+     * Generates a signed access token bound to a refresh-token session.
+     *
+     * @param userId    the user's UUID
+     * @param email     the user's email (stored as a claim)
+     * @param sessionId the refresh-token family, stored in the {@code sid} claim; may be null
+     * @return signed JWT token string
+     */
+    public String generateToken(String userId, String email, String sessionId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId)
-                .claim("email", email)
+                .claim(JwtClaims.EMAIL, email)
+                .claim(JwtClaims.SESSION, sessionId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
@@ -55,7 +77,7 @@ public class JwtTokenProvider {
      * @return user ID stored as the subject
      */
     public String getUserIdFromToken(String token) {
-        return parseClaims(token).getSubject();
+        return parseClaims(token).userId();
     }
 
     /**
@@ -65,7 +87,48 @@ public class JwtTokenProvider {
      * @return email stored as a claim
      */
     public String getEmailFromToken(String token) {
-        return parseClaims(token).get("email", String.class);
+        return parseClaims(token).email();
+    }
+
+    /**
+     * Extracts the token id ({@code jti}) from a valid JWT token.
+     *
+     * @param token the JWT token string
+     * @return the token id, or {@code null} for tokens issued without one
+     */
+    public String getTokenId(String token) {
+        return parseClaims(token).tokenId();
+    }
+
+    /**
+     * Extracts the refresh-token session ({@code sid}) from a valid JWT token.
+     *
+     * @param token the JWT token string
+     * @return the session id, or {@code null} for tokens issued without one
+     */
+    public String getSessionId(String token) {
+        return parseClaims(token).sessionId();
+    }
+
+    /**
+     * Extracts the expiration instant from a valid JWT token.
+     *
+     * @param token the JWT token string
+     * @return the expiration date
+     */
+    public Date getExpiration(String token) {
+        return Date.from(parseClaims(token).expiresAt());
+    }
+
+    /**
+     * Whether a valid token was issued for another microservice
+     * ({@code scope=service}) rather than for an end user.
+     *
+     * @param token the JWT token string
+     * @return true for service tokens
+     */
+    public boolean isServiceToken(String token) {
+        return parseClaims(token).service();
     }
 
     /**
@@ -78,18 +141,12 @@ public class JwtTokenProvider {
         try {
             parseClaims(token);
             return true;
-        } catch (ExpiredJwtException e) {
-            return false;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private JwtPrincipal parseClaims(String token) {
+        return jwtVerifier.verify(token);
     }
 }
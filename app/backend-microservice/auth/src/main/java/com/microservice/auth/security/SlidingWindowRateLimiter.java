@@ -0,0 +1,149 @@
+package com.microservice.auth.security;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limitador en memoria de ventana deslizante exacta: como máximo {@code maxAttempts}
+ * intentos por clave en cualquier intervalo de {@code windowMs}.
+ *
+ * <p>Cada clave guarda un anillo de {@code maxAttempts} marcas de tiempo; el intento
+ * se admite si la marca más antigua ya salió de la ventana, así que la decisión es
+ * O(1) y el coste por clave es fijo.</p>
+ *
+ * <p>Las claves se reparten en {@code stripes} segmentos, cada uno con su propio lock
+ * y un {@link LinkedHashMap} en orden de acceso. Eso acota la memoria (como máximo
+ * {@code maxKeys} claves; al superarlo se descarta la menos usada) y permite expulsar
+ * las claves inactivas desde la cabeza del mapa en cada acceso, sin hilo de limpieza.</p>
+ */
+public class SlidingWindowRateLimiter {
+
+    /** Claves inactivas revisadas como máximo por acceso, para acotar la latencia. */
+    private static final int EVICTIONS_PER_CALL = 4;
+
+    private final int maxAttempts;
+    private final long windowMs;
+    private final Clock clock;
+    private final Stripe[] stripes;
+
+    public SlidingWindowRateLimiter(int maxAttempts, long windowMs, int maxKeys, int stripes, Clock clock) {
+        if (maxAttempts < 1 || windowMs < 1 || maxKeys < 1 || stripes < 1) {
+            throw new IllegalArgumentException("Rate limiter parameters must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+        this.windowMs = windowMs;
+        this.clock = clock;
+        int stripeCount = Integer.highestOneBit(stripes - 1) << 1;
+        // Potencia de dos también al recortar por maxKeys: stripeFor enmascara con stripes.length - 1.
+        stripeCount = Math.max(1, Math.min(stripeCount, Integer.highestOneBit(maxKeys)));
+        int keysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(keysPerStripe);
+        }
+    }
+
+    /**
+     * Registra un intento para {@code key} si hay cupo.
+     *
+     * @return 0 si el intento se admite; si no, los milisegundos hasta que quede cupo
+     */
+    public long tryAcquire(String key) {
+        long now = clock.millis();
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(now, windowMs);
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                window = new Window(maxAttempts);
+                stripe.windows.put(key, window);
+            }
+            return window.tryRecord(now, windowMs);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** Olvida el historial de {@code key}, p. ej. tras un login correcto. */
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.windows.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** Número de claves rastreadas; pensado para métricas y tests. */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.windows.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Window> windows;
+
+        Stripe(int maxKeys) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+
+        /** En orden de acceso la cabeza es la clave menos usada; se detiene en la primera que sigue activa. */
+        void evictIdle(long now, long windowMs) {
+            Iterator<Window> it = windows.values().iterator();
+            for (int i = 0; i < EVICTIONS_PER_CALL && it.hasNext(); i++) {
+                if (now - it.next().lastAttempt < windowMs) {
+                    return;
+                }
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Window {
+        private final long[] attempts;
+        private int next;
+        private long lastAttempt;
+
+        Window(int maxAttempts) {
+            this.attempts = new long[maxAttempts];
+            Arrays.fill(attempts, Long.MIN_VALUE);
+        }
+
+        long tryRecord(long now, long windowMs) {
+            long oldest = attempts[next];
+            if (oldest != Long.MIN_VALUE && now - oldest < windowMs) {
+                return oldest + windowMs - now;
+            }
+            attempts[next] = now;
+            next = (next + 1) % attempts.length;
+            lastAttempt = now;
+            return 0;
+        }
+    }
+}
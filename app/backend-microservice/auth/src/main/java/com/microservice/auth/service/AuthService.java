@@ -2,11 +2,16 @@ package com.microservice.auth.service;
 
 import com.microservice.auth.dto.AuthResponse;
 import com.microservice.auth.dto.LoginRequest;
+import com.microservice.auth.dto.RefreshTokenRequest;
 import com.microservice.auth.dto.RegisterRequest;
+import com.microservice.auth.dto.UpdateProfileRequest;
 import com.microservice.auth.dto.UserResponse;
 
 public interface AuthService {
     AuthResponse register(RegisterRequest request);
     AuthResponse login(LoginRequest request);
+    AuthResponse refresh(RefreshTokenRequest request);
+    void logout(String accessToken);
     UserResponse getCurrentUser(String userId);
+    UserResponse updateProfile(String userId, UpdateProfileRequest request);
 }
@@ -0,0 +1,9 @@
+package com.microservice.auth.service;
+
+import com.microservice.auth.dto.RefreshTokenGrant;
+
+public interface RefreshTokenService {
+    RefreshTokenGrant issue(String userId);
+    RefreshTokenGrant rotate(String refreshToken);
+    void revokeFamily(String familyId);
+}
@@ -0,0 +1,9 @@
+package com.microservice.auth.service;
+
+import com.microservice.auth.dto.RevocationListResponse;
+
+public interface TokenRevocationService {
+    void revoke(String token);
+    boolean isRevoked(String tokenId);
+    RevocationListResponse getActiveRevocations();
+}
@@ -0,0 +1,30 @@
+package com.microservice.auth.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+
+import com.microservice.auth.dto.UserImportSummary;
+import com.microservice.auth.exception.InvalidImportFileException;
+
+public interface UserImportService {
+
+    /**
+     * Lee la cabecera del CSV. Se llama antes de empezar a escribir la respuesta, para
+     * que un archivo mal formado todavía pueda responderse con un 400.
+     *
+     * @throws InvalidImportFileException si falta la cabecera o alguna columna obligatoria
+     */
+    CsvColumns readHeader(BufferedReader csv) throws IOException;
+
+    /**
+     * Importa las filas restantes y escribe una línea de resultado por fila.
+     */
+    UserImportSummary importUsers(BufferedReader csv, CsvColumns columns, Writer results) throws IOException;
+
+    /**
+     * Posición de cada columna en el CSV; el orden de las columnas es libre.
+     */
+    record CsvColumns(int email, int password, int displayName) {
+    }
+}
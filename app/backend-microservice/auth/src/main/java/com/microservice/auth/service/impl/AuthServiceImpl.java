@@ -2,23 +2,35 @@ package com.microservice.auth.service.impl;
 
 import java.util.UUID;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.microservice.auth.config.CacheConfig;
 import com.microservice.auth.dto.AuthMapper;
 import com.microservice.auth.dto.AuthResponse;
 import com.microservice.auth.dto.LoginRequest;
+import com.microservice.auth.dto.RefreshTokenGrant;
+import com.microservice.auth.dto.RefreshTokenRequest;
 import com.microservice.auth.dto.RegisterRequest;
+import com.microservice.auth.dto.UpdateProfileRequest;
 import com.microservice.auth.dto.UserResponse;
 import com.microservice.auth.exception.AuthException;
 import com.microservice.auth.exception.EmailAlreadyExistsException;
+import com.microservice.auth.exception.ServiceBusyException;
 import com.microservice.auth.model.User;
 import com.microservice.auth.repository.UserRepository;
 import com.microservice.auth.security.JwtTokenProvider;
 import com.microservice.auth.service.AuthService;
+import com.microservice.auth.service.RefreshTokenService;
+import com.microservice.auth.service.TokenRevocationService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementación del servicio de autenticación.
@@ -29,23 +41,38 @@ import lombok.RequiredArgsConstructor;
  *
  * <h3>Flujo de Registro</h3>
  * <ol>
- *   <li>Validar que el email no esté registrado.</li>
  *   <li>Generar UUID como userId.</li>
  *   <li>Hashear la contraseña con BCrypt.</li>
- *   <li>Persistir el usuario.</li>
- *   <li>Generar token JWT y retornar AuthResponse.</li>
+ *   <li>Insertar el usuario. No se consulta antes si el email existe: la restricción
+ *       única {@code uk_auth_users_email} rechaza el duplicado, también cuando dos
+ *       registros con el mismo email llegan a la vez.</li>
+ *   <li>Abrir una sesión: access token JWT de vida corta y refresh token.</li>
  * </ol>
  *
  * <h3>Flujo de Login</h3>
  * <ol>
  *   <li>Buscar usuario por email.</li>
  *   <li>Verificar la contraseña contra el hash almacenado.</li>
- *   <li>Generar token JWT y retornar AuthResponse.</li>
+ *   <li>Rehashear si el hash usa un formato o coste anterior al configurado.</li>
+ *   <li>Abrir una sesión: access token JWT de vida corta y refresh token.</li>
  * </ol>
  *
+ * <h3>Hashing fuera de transacción</h3>
+ * <p>BCrypt tarda decenas de milisegundos y puede esperar turno en el pool acotado de
+ * hashing. Registro y login lo ejecutan sin transacción abierta, para no retener una
+ * conexión de base de datos mientras tanto: la búsqueda del usuario usa la transacción
+ * de solo lectura del repositorio y las escrituras (alta, rehash, sesión) abren una
+ * transacción corta con {@link TransactionTemplate} al final.</p>
+ *
+ * <h3>Sesiones</h3>
+ * <p>Los access tokens duran minutos y el resto de microservicios solo validan su
+ * firma. La sesión se mantiene canjeando el refresh token en {@link #refresh}; es ahí
+ * donde se aplica la revocación (logout, reutilización, cuenta deshabilitada).</p>
+ *
  * @see AuthService Contrato (interfaz) que esta clase implementa
  * @see JwtTokenProvider Generación y validación de tokens JWT
  */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class AuthServiceImpl implements AuthService {
@@ -53,6 +80,9 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Registra un nuevo usuario en el sistema.
@@ -62,13 +92,7 @@ public class AuthServiceImpl implements AuthService {
      * @throws EmailAlreadyExistsException si el email ya está registrado
      */
     @Override
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
-            throw new EmailAlreadyExistsException(
-                    "El correo electrónico '" + request.email() + "' ya está registrado");
-        }
-
         User user = User.builder()
                 .userId(UUID.randomUUID().toString())
                 .email(request.email())
@@ -77,10 +101,21 @@ public class AuthServiceImpl implements AuthService {
                 .enabled(true)
                 .build();
 
-        User saved = userRepository.save(user);
-        String token = jwtTokenProvider.generateToken(saved.getUserId(), saved.getEmail());
-
-        return AuthMapper.toAuthResponse(saved, token);
+        return transactionTemplate.execute(status -> {
+            User saved;
+            try {
+                // flush: el INSERT debe ejecutarse aquí para traducir la violación de la
+                // restricción única, no al confirmar la transacción.
+                saved = userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                if (!EmailConstraint.isViolatedBy(e)) {
+                    throw e;
+                }
+                throw new EmailAlreadyExistsException(
+                        "El correo electrónico '" + request.email() + "' ya está registrado");
+            }
+            return openSession(saved);
+        });
     }
 
     /**
@@ -91,7 +126,6 @@ public class AuthServiceImpl implements AuthService {
      * @throws AuthException si el email no existe o la contraseña es incorrecta
      */
     @Override
-    @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new AuthException("Credenciales incorrectas"));
@@ -104,19 +138,67 @@ public class AuthServiceImpl implements AuthService {
             throw new AuthException("Credenciales incorrectas");
         }
 
-        String token = jwtTokenProvider.generateToken(user.getUserId(), user.getEmail());
+        String upgradedHash = upgradedPasswordHash(user, request.password());
 
-        return AuthMapper.toAuthResponse(user, token);
+        return transactionTemplate.execute(status -> {
+            if (upgradedHash != null) {
+                user.setPasswordHash(upgradedHash);
+                userRepository.save(user);
+            }
+            return openSession(user);
+        });
+    }
+
+    /**
+     * Canjea un refresh token por un access token nuevo y rota el refresh token.
+     *
+     * @param request refresh token vigente
+     * @return access token y refresh token nuevos
+     * @throws AuthException si el refresh token no es válido o la cuenta está deshabilitada
+     */
+    @Override
+    @Transactional(noRollbackFor = AuthException.class)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenGrant grant = refreshTokenService.rotate(request.refreshToken());
+        User user = userRepository.findById(grant.userId())
+                .orElseThrow(() -> new AuthException("Usuario no encontrado"));
+
+        if (!user.getEnabled()) {
+            refreshTokenService.revokeFamily(grant.familyId());
+            throw new AuthException("Esta cuenta ha sido deshabilitada");
+        }
+
+        String token = jwtTokenProvider.generateToken(user.getUserId(), user.getEmail(), grant.familyId());
+        return AuthMapper.toAuthResponse(user, token, grant.token());
+    }
+
+    /**
+     * Cierra la sesión del access token: lo revoca de inmediato y revoca los
+     * refresh tokens de su sesión para que no pueda renovarse.
+     *
+     * @param accessToken JWT presentado en la petición de logout
+     */
+    @Override
+    public void logout(String accessToken) {
+        tokenRevocationService.revoke(accessToken);
+        String sessionId = jwtTokenProvider.getSessionId(accessToken);
+        if (sessionId != null) {
+            refreshTokenService.revokeFamily(sessionId);
+        }
     }
 
     /**
      * Obtiene los datos del usuario autenticado actual.
      *
+     * <p>Se sirve desde la caché {@link CacheConfig#USER_PROFILES}; solo los fallos
+     * consultan la base de datos.</p>
+     *
      * @param userId el ID del usuario extraído del token JWT
      * @return respuesta con los datos del usuario (sin token)
      * @throws AuthException si el usuario no existe
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USER_PROFILES, key = "#userId")
     @Transactional(readOnly = true)
     public UserResponse getCurrentUser(String userId) {
         User user = userRepository.findById(userId)
@@ -124,4 +206,55 @@ public class AuthServiceImpl implements AuthService {
 
         return AuthMapper.toUserResponse(user);
     }
+
+    /**
+     * Actualiza el nombre visible y/o la foto del usuario e invalida su perfil en caché.
+     *
+     * @param userId  el ID del usuario extraído del token JWT
+     * @param request campos a cambiar; {@code null} deja el valor actual y una
+     *                URL de foto vacía la elimina
+     * @return el perfil actualizado
+     * @throws AuthException si el usuario no existe
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_PROFILES, key = "#userId")
+    @Transactional
+    public UserResponse updateProfile(String userId, UpdateProfileRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new AuthException("Usuario no encontrado"));
+
+        if (request.displayName() != null) {
+            user.setDisplayName(request.displayName().trim());
+        }
+        if (request.photoURL() != null) {
+            user.setPhotoUrl(request.photoURL().isBlank() ? null : request.photoURL().trim());
+        }
+
+        return AuthMapper.toUserResponse(userRepository.save(user));
+    }
+
+    private AuthResponse openSession(User user) {
+        RefreshTokenGrant grant = refreshTokenService.issue(user.getUserId());
+        String token = jwtTokenProvider.generateToken(user.getUserId(), user.getEmail(), grant.familyId());
+        return AuthMapper.toAuthResponse(user, token, grant.token());
+    }
+
+    /**
+     * Aprovecha la contraseña en claro del login correcto para migrar el hash al
+     * formato y coste actuales. Si el pool de hashing está saturado se omite: el
+     * login no debe fallar por esto y se reintentará en el siguiente.
+     *
+     * @return el hash nuevo, o {@code null} si no hay que cambiarlo
+     */
+    private String upgradedPasswordHash(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            return null;
+        }
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } catch (ServiceBusyException ex) {
+            log.debug("Rehash de la contraseña de {} pospuesto: {}", user.getUserId(), ex.getMessage());
+            return null;
+        }
+    }
 }
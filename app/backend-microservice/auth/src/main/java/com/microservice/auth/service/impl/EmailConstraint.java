@@ -0,0 +1,37 @@
+package com.microservice.auth.service.impl;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.microservice.auth.model.User;
+
+/**
+ * Distingue un email repetido del resto de violaciones de integridad al insertar un
+ * usuario (longitud, {@code NOT NULL}...), que no deben responderse como duplicado.
+ */
+final class EmailConstraint {
+
+    private EmailConstraint() {
+    }
+
+    /**
+     * @return {@code true} si la violación es la de la restricción única
+     *         {@link User#EMAIL_CONSTRAINT}
+     */
+    static boolean isViolatedBy(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return mentionsConstraint(violation.getConstraintName());
+            }
+        }
+        // JdbcTemplate no pasa por Hibernate: solo queda el mensaje del driver, que nombra
+        // la clave (MySQL: "for key 'auth_users.uk_auth_users_email'").
+        return mentionsConstraint(e.getMostSpecificCause().getMessage());
+    }
+
+    private static boolean mentionsConstraint(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT);
+    }
+}
@@ -0,0 +1,139 @@
+package com.microservice.auth.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.microservice.auth.dto.RefreshTokenGrant;
+import com.microservice.auth.exception.AuthException;
+import com.microservice.auth.model.RefreshToken;
+import com.microservice.auth.repository.RefreshTokenRepository;
+import com.microservice.auth.service.RefreshTokenService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación de los refresh tokens con rotación.
+ *
+ * <p>Cada uso de un refresh token lo invalida y emite uno nuevo de la misma familia.
+ * Los valores son 256 bits aleatorios, así que basta un SHA-256 para guardarlos sin
+ * exponerlos si se filtra la tabla; no hace falta un hash lento como BCrypt.</p>
+ *
+ * <h3>Detección de reutilización</h3>
+ * <p>Si se presenta un token ya rotado o revocado, alguien más tiene una copia: se
+ * revoca la familia completa y el usuario legítimo tendrá que volver a iniciar
+ * sesión. Esa revocación se confirma aunque la petición falle
+ * ({@code noRollbackFor}).</p>
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpirationMs;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${app.jwt.refresh-expiration-ms:1209600000}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    /**
+     * Emite el primer refresh token de una sesión nueva.
+     *
+     * @param userId dueño del token
+     * @return el token en claro y su familia
+     */
+    @Override
+    @Transactional
+    public RefreshTokenGrant issue(String userId) {
+        return save(userId, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Canjea un refresh token activo por otro de la misma familia.
+     *
+     * @param refreshToken valor en claro presentado por el cliente
+     * @return el token nuevo
+     * @throws AuthException si el token no existe, expiró o ya se usó
+     */
+    @Override
+    @Transactional(noRollbackFor = AuthException.class)
+    public RefreshTokenGrant rotate(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new AuthException("Sesión inválida"));
+        OffsetDateTime now = OffsetDateTime.now();
+
+        if (current.getRevokedAt() != null) {
+            log.warn("Refresh token reuse detected for user {}, revoking session {}",
+                    current.getUserId(), current.getFamilyId());
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new AuthException("Sesión inválida");
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new AuthException("La sesión ha expirado");
+        }
+
+        String nextId = UUID.randomUUID().toString();
+        if (refreshTokenRepository.markRotated(current.getId(), nextId, now) == 0) {
+            // Otra petición rotó el mismo token entre la lectura y la actualización.
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new AuthException("Sesión inválida");
+        }
+        return save(current.getUserId(), current.getFamilyId(), nextId);
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId, OffsetDateTime.now());
+    }
+
+    @Scheduled(cron = "${app.jwt.refresh-prune-cron:0 45 3 * * *}")
+    @Transactional
+    public void pruneExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(OffsetDateTime.now());
+        if (deleted > 0) {
+            log.info("Pruned {} expired refresh tokens", deleted);
+        }
+    }
+
+    private RefreshTokenGrant save(String userId, String familyId, String id) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .id(id)
+                .tokenHash(hash(token))
+                .userId(userId)
+                .familyId(familyId)
+                .expiresAt(OffsetDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)))
+                .build());
+        return new RefreshTokenGrant(userId, familyId, token);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
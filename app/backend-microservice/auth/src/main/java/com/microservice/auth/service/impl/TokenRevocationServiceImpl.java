@@ -0,0 +1,106 @@
+package com.microservice.auth.service.impl;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.microservice.auth.dto.RevocationListResponse;
+import com.microservice.auth.model.RevokedToken;
+import com.microservice.auth.repository.RevokedTokenRepository;
+import com.microservice.auth.security.JwtTokenProvider;
+import com.microservice.auth.service.TokenRevocationService;
+import com.microservice.security.RevocationSnapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación de la lista de tokens revocados.
+ *
+ * <p>La tabla {@code revoked_tokens} es la fuente de verdad; las consultas del filtro
+ * JWT se resuelven contra un {@link RevocationSnapshot} en memoria, sin acceso a base
+ * de datos. La copia se actualiza al revocar en esta instancia y se recarga de la
+ * tabla periódicamente para recoger las revocaciones hechas en otras réplicas.</p>
+ *
+ * <p>Las filas expiradas se purgan: un token expirado ya es rechazado por su firma,
+ * así que la lista solo crece con los logins de las últimas {@code expiration-ms}.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private volatile RevocationSnapshot snapshot = RevocationSnapshot.EMPTY;
+
+    /**
+     * Revoca un token válido hasta su expiración.
+     *
+     * <p>La fila se confirma antes de publicar la nueva copia en memoria. Los tokens
+     * emitidos antes de incluir el claim {@code jti} no pueden revocarse
+     * individualmente y se ignoran.</p>
+     *
+     * @param token JWT firmado por este servicio
+     */
+    @Override
+    public void revoke(String token) {
+        String tokenId = jwtTokenProvider.getTokenId(token);
+        if (tokenId == null) {
+            log.debug("Token without jti cannot be revoked; it stays valid until it expires");
+            return;
+        }
+        if (!revokedTokenRepository.existsById(tokenId)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .tokenId(tokenId)
+                    .userId(jwtTokenProvider.getUserIdFromToken(token))
+                    .expiresAt(jwtTokenProvider.getExpiration(token).toInstant().atOffset(ZoneOffset.UTC))
+                    .build());
+        }
+        synchronized (this) {
+            snapshot = snapshot.with(tokenId);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return snapshot.isRevoked(tokenId);
+    }
+
+    @Override
+    public RevocationListResponse getActiveRevocations() {
+        RevocationSnapshot current = snapshot;
+        List<String> tokenIds = new ArrayList<>(current.tokenIds());
+        Collections.sort(tokenIds);
+        return new RevocationListResponse(current.version(), tokenIds);
+    }
+
+    /**
+     * Recarga la copia en memoria desde la tabla. Una revocación local que coincida
+     * con una recarga en curso puede perderse como mucho hasta la siguiente.
+     */
+    @Scheduled(fixedDelayString = "${app.revocation.refresh-ms:15000}")
+    public void refresh() {
+        RevocationSnapshot loaded = RevocationSnapshot.of(
+                revokedTokenRepository.findActiveTokenIds(OffsetDateTime.now()));
+        synchronized (this) {
+            snapshot = loaded;
+        }
+    }
+
+    @Scheduled(cron = "${app.revocation.prune-cron:0 15 * * * *}")
+    @Transactional
+    public void pruneExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(OffsetDateTime.now());
+        if (deleted > 0) {
+            log.info("Pruned {} expired revoked tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.microservice.auth.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.microservice.auth.config.SecurityConfig;
+import com.microservice.auth.dto.RegisterRequest;
+import com.microservice.auth.dto.UserImportSummary;
+import com.microservice.auth.exception.InvalidImportFileException;
+import com.microservice.auth.service.UserImportService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Alta masiva de usuarios a partir de un CSV ({@code email,password,displayName}).
+ *
+ * <p>El archivo se procesa en bloques de {@code batch-size} filas, sin cargarlo entero
+ * en memoria:</p>
+ * <ol>
+ *   <li>Cada fila se valida con las mismas reglas que {@code /register}.</li>
+ *   <li>Las contraseñas del bloque se hashean en paralelo en un pool propio y acotado.
+ *       Es independiente del pool de login ({@code BoundedPasswordEncoder}), así que una
+ *       importación grande no provoca 503 en los logins.</li>
+ *   <li>El bloque se inserta con un único batch JDBC; en MySQL el datasource usa
+ *       {@code rewriteBatchedStatements=true} para que viaje como un INSERT multi-fila.
+ *       No se consulta {@code existsByEmail}: la restricción única de {@code email}
+ *       rechaza los duplicados (ya registrados o repetidos en el archivo).</li>
+ * </ol>
+ *
+ * <p>Las filas que superan {@code max-rows} se informan como {@code SKIPPED} sin
+ * validarlas ni hashearlas. Una fila que viola la restricción única del email es
+ * {@code DUPLICATE}; si la base de datos la rechaza por otra restricción, es
+ * {@code REJECTED} con el mensaje del driver como detalle.</p>
+ *
+ * <p>No hay una transacción global: cada bloque queda confirmado al insertarse y el
+ * archivo de resultados indica qué pasó con cada fila, de modo que un reintento con el
+ * mismo archivo solo crea las filas que faltaban.</p>
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+
+    static final String STATUS_CREATED = "CREATED";
+    static final String STATUS_DUPLICATE = "DUPLICATE";
+    static final String STATUS_INVALID = "INVALID";
+    static final String STATUS_SKIPPED = "SKIPPED";
+    static final String STATUS_REJECTED = "REJECTED";
+
+    private static final String RESULTS_HEADER = "line,email,status,detail";
+    private static final String INSERT_SQL = "INSERT INTO auth_users "
+            + "(user_id, email, password_hash, display_name, enabled, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int NOT_EXECUTED = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashExecutor;
+    private final int batchSize;
+    private final int maxRows;
+
+    public UserImportServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            Validator validator,
+            @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${app.user-import.hash-threads:0}") int hashThreads,
+            @Value("${app.user-import.batch-size:200}") int batchSize,
+            @Value("${app.user-import.max-rows:50000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.validator = validator;
+        this.passwordEncoder = SecurityConfig.delegatingEncoder(bcryptStrength);
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        int threads = hashThreads > 0 ? hashThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        AtomicInteger counter = new AtomicInteger();
+        // Cola acotada + CallerRuns: si varias importaciones coinciden, el hilo de la
+        // petición hashea también en lugar de acumular trabajo sin límite.
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, batchSize)), runnable -> {
+                    Thread thread = new Thread(runnable, "auth-import-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public CsvColumns readHeader(BufferedReader csv) throws IOException {
+        String header = csv.readLine();
+        if (header == null || header.isBlank()) {
+            throw new InvalidImportFileException("El archivo está vacío");
+        }
+        List<String> names = parseLine(stripBom(header)).stream()
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int email = names.indexOf("email");
+        int password = names.indexOf("password");
+        int displayName = names.indexOf("displayname");
+        if (email < 0 || password < 0 || displayName < 0) {
+            throw new InvalidImportFileException(
+                    "La cabecera debe incluir las columnas email, password y displayName");
+        }
+        return new CsvColumns(email, password, displayName);
+    }
+
+    @Override
+    public UserImportSummary importUsers(BufferedReader csv, CsvColumns columns, Writer results)
+            throws IOException {
+        results.write(RESULTS_HEADER);
+        results.write('\n');
+
+        Counts counts = new Counts();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+        int lineNumber = 1;
+        String line;
+        while ((line = csv.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (counts.rows >= maxRows) {
+                ImportRow skipped = new ImportRow(lineNumber, field(parseLine(line), columns.email()), null, null);
+                skipped.reject(STATUS_SKIPPED, "Se superó el máximo de " + maxRows + " filas por importación");
+                chunk.add(skipped);
+            } else {
+                counts.rows++;
+                chunk.add(toRow(lineNumber, parseLine(line), columns));
+            }
+            if (chunk.size() == batchSize) {
+                processChunk(chunk, counts, results);
+                chunk.clear();
+            }
+        }
+        processChunk(chunk, counts, results);
+
+        UserImportSummary summary = new UserImportSummary(counts.rows, counts.created, counts.duplicates,
+                counts.invalid, counts.skipped, counts.rejected);
+        log.info("User import finished: {}", summary);
+        return summary;
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+
+    private ImportRow toRow(int lineNumber, List<String> fields, CsvColumns columns) {
+        String email = field(fields, columns.email());
+        String password = field(fields, columns.password());
+        String displayName = field(fields, columns.displayName());
+        ImportRow row = new ImportRow(lineNumber, email, password, displayName);
+
+        Set<ConstraintViolation<RegisterRequest>> violations =
+                validator.validate(new RegisterRequest(displayName, email, password));
+        if (!violations.isEmpty()) {
+            String detail = violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .reduce((a, b) -> a + "; " + b)
+                    .orElse("");
+            row.reject(STATUS_INVALID, detail);
+        }
+        return row;
+    }
+
+    private void processChunk(List<ImportRow> chunk, Counts counts, Writer results) throws IOException {
+        List<ImportRow> valid = chunk.stream().filter(row -> row.status == null).toList();
+        if (!valid.isEmpty()) {
+            hashPasswords(valid);
+            int[] updateCounts = insertBatch(valid);
+            for (int i = 0; i < valid.size(); i++) {
+                ImportRow row = valid.get(i);
+                if (STATUS_REJECTED.equals(row.status)) {
+                    continue;
+                }
+                if (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    row.status = STATUS_CREATED;
+                    row.detail = row.userId;
+                } else {
+                    row.reject(STATUS_DUPLICATE, "El correo electrónico ya está registrado");
+                }
+            }
+        }
+
+        for (ImportRow row : chunk) {
+            switch (row.status) {
+                case STATUS_CREATED -> counts.created++;
+                case STATUS_DUPLICATE -> counts.duplicates++;
+                case STATUS_INVALID -> counts.invalid++;
+                case STATUS_SKIPPED -> counts.skipped++;
+                case STATUS_REJECTED -> counts.rejected++;
+                default -> { }
+            }
+            results.write(row.lineNumber + "," + escape(row.email) + "," + row.status + ","
+                    + escape(row.detail) + "\n");
+        }
+        results.flush();
+    }
+
+    private void hashPasswords(List<ImportRow> rows) {
+        List<Future<String>> hashes = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String rawPassword = row.password;
+            hashes.add(hashExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            try {
+                row.passwordHash = hashes.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("User import interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Password hashing failed", e.getCause());
+            }
+            row.password = null;
+            row.userId = UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * Inserta las filas en un único batch. Devuelve un recuento por fila: positivo o
+     * {@link Statement#SUCCESS_NO_INFO} si se insertó, {@link Statement#EXECUTE_FAILED}
+     * o 0 si la base de datos la rechazó (las rechazadas por una restricción distinta
+     * del email quedan además marcadas {@code REJECTED}).
+     *
+     * <p>Si el batch falla, las filas sin recuento o con {@code EXECUTE_FAILED} se
+     * reintentan una a una. Con {@code rewriteBatchedStatements} un duplicado hace fallar
+     * el INSERT multi-fila completo y el driver marca {@code EXECUTE_FAILED} todas sus
+     * filas, aunque ninguna se insertó; otros drivers se detienen en el primer error y
+     * devuelven menos recuentos que filas.</p>
+     */
+    private int[] insertBatch(List<ImportRow> rows) {
+        OffsetDateTime now = OffsetDateTime.now();
+        int[] counts = jdbcTemplate.execute(INSERT_SQL, (PreparedStatementCallback<int[]>) ps -> {
+            for (ImportRow row : rows) {
+                bind(ps, row, now);
+                ps.addBatch();
+            }
+            try {
+                return ps.executeBatch();
+            } catch (BatchUpdateException e) {
+                int[] partial = e.getUpdateCounts();
+                int[] padded = Arrays.copyOf(partial, rows.size());
+                Arrays.fill(padded, partial.length, rows.size(), NOT_EXECUTED);
+                for (int i = 0; i < partial.length; i++) {
+                    if (padded[i] == Statement.EXECUTE_FAILED) {
+                        padded[i] = NOT_EXECUTED;
+                    }
+                }
+                return padded;
+            }
+        });
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == NOT_EXECUTED) {
+                counts[i] = insertOne(rows.get(i), now);
+            }
+        }
+        return counts;
+    }
+
+    private int insertOne(ImportRow row, OffsetDateTime now) {
+        try {
+            return jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row, now));
+        } catch (DataIntegrityViolationException e) {
+            if (!EmailConstraint.isViolatedBy(e)) {
+                String message = String.valueOf(e.getMostSpecificCause().getMessage());
+                row.reject(STATUS_REJECTED, message.lines().findFirst().orElse(message));
+            }
+            return Statement.EXECUTE_FAILED;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, ImportRow row, OffsetDateTime now) throws SQLException {
+        ps.setString(1, row.userId);
+        ps.setString(2, row.email);
+        ps.setString(3, row.passwordHash);
+        ps.setString(4, row.displayName);
+        ps.setBoolean(5, true);
+        ps.setObject(6, now);
+        ps.setObject(7, now);
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : "";
+    }
+
+    private static String stripBom(String header) {
+        return !header.isEmpty() && header.charAt(0) == '\uFEFF' ? header.substring(1) : header;
+    }
+
+    /**
+     * Separa una línea CSV (RFC 4180) admitiendo campos entre comillas con comas y
+     * comillas dobles escapadas. No admite saltos de línea dentro de un campo.
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        // Evita que una hoja de cálculo interprete el valor como fórmula.
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        return needsQuotes ? "\"" + safe.replace("\"", "\"\"") + "\"" : safe;
+    }
+
+    private static final class ImportRow {
+        private final int lineNumber;
+        private final String email;
+        private final String displayName;
+        private String password;
+        private String passwordHash;
+        private String userId;
+        private String status;
+        private String detail;
+
+        private ImportRow(int lineNumber, String email, String password, String displayName) {
+            this.lineNumber = lineNumber;
+            this.email = email;
+            this.password = password;
+            this.displayName = displayName;
+        }
+
+        private void reject(String status, String detail) {
+            this.status = status;
+            this.detail = detail;
+            this.password = null;
+        }
+    }
+
+    private static final class Counts {
+        private int rows;
+        private int created;
+        private int duplicates;
+        private int invalid;
+        private int skipped;
+        private int rejected;
+    }
+}
@@ -1,10 +1,15 @@
 package com.microservice.auth.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,8 +40,11 @@ import com.microservice.auth.dto.UserResponse;
 import com.microservice.auth.exception.AuthException;
 import com.microservice.auth.exception.EmailAlreadyExistsException;
 import com.microservice.auth.exception.GlobalExceptionHandler;
+import com.microservice.auth.exception.TooManyAttemptsException;
 import com.microservice.auth.security.JwtTokenProvider;
+import com.microservice.auth.security.LoginAttemptGuard;
 import com.microservice.auth.service.AuthService;
+import com.microservice.auth.service.TokenRevocationService;
 
 @WebMvcTest(AuthController.class)
 @Import({GlobalExceptionHandler.class, AuthControllerTest.TestSecurityConfig.class})
@@ -77,11 +85,18 @@ class AuthControllerTest {
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
     private static final String BASE_URL = "/api/v1/auth";
     private static final String TEST_USER_ID = "550e8400-e29b-41d4-a716-446655440000";
     private static final String TEST_EMAIL = "test@example.com";
     private static final String TEST_DISPLAY_NAME = "Test User";
     private static final String TEST_TOKEN = "eyJhbGciOiJIUzI1NiJ9.test.token";
+    private static final String TEST_REFRESH_TOKEN = "q3Zt0yXyS1m2bqk8Yf0o7JkR9s3eWl4uPz6nVc2aXhE";
 
     @Nested
     @DisplayName("POST /api/v1/auth/register")
@@ -92,7 +107,8 @@ class AuthControllerTest {
         void shouldReturn201OnSuccessfulRegistration() throws Exception {
             // Arrange
             RegisterRequest request = new RegisterRequest(TEST_DISPLAY_NAME, TEST_EMAIL, "SecurePass123");
-            AuthResponse response = new AuthResponse(TEST_USER_ID, TEST_EMAIL, TEST_DISPLAY_NAME, TEST_TOKEN);
+            AuthResponse response = new AuthResponse(TEST_USER_ID, TEST_EMAIL, TEST_DISPLAY_NAME, TEST_TOKEN,
+                    TEST_REFRESH_TOKEN);
             when(authService.register(any(RegisterRequest.class))).thenReturn(response);
 
             // Act & Assert
@@ -175,7 +191,8 @@ class AuthControllerTest {
         void shouldReturn200OnSuccessfulLogin() throws Exception {
             // Arrange
             LoginRequest request = new LoginRequest(TEST_EMAIL, "SecurePass123");
-            AuthResponse response = new AuthResponse(TEST_USER_ID, TEST_EMAIL, TEST_DISPLAY_NAME, TEST_TOKEN);
+            AuthResponse response = new AuthResponse(TEST_USER_ID, TEST_EMAIL, TEST_DISPLAY_NAME, TEST_TOKEN,
+                    TEST_REFRESH_TOKEN);
             when(authService.login(any(LoginRequest.class))).thenReturn(response);
 
             // Act & Assert
@@ -204,6 +221,24 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.message").value("Credenciales incorrectas"));
         }
 
+        @Test
+        @DisplayName("should return 429 TOO MANY REQUESTS without authenticating when throttled")
+        void shouldReturn429WhenThrottled() throws Exception {
+            // Arrange
+            LoginRequest request = new LoginRequest(TEST_EMAIL, "SecurePass123");
+            doThrow(new TooManyAttemptsException("Demasiados intentos", 30))
+                    .when(loginAttemptGuard).checkAttempt(anyString(), anyString());
+
+            // Act & Assert
+            mockMvc.perform(post(BASE_URL + "/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "30"));
+
+            verify(authService, never()).login(any(LoginRequest.class));
+        }
+
         @Test
         @DisplayName("should return 400 BAD REQUEST when email format is invalid")
         void shouldReturn400WhenEmailFormatInvalid() throws Exception {
@@ -259,5 +294,19 @@ class AuthControllerTest {
                             .with(authentication(auth)))
                     .andExpect(status().isNoContent());
         }
+
+        @Test
+        @DisplayName("should log out the session of the bearer token presented")
+        void shouldRevokePresentedToken() throws Exception {
+            UsernamePasswordAuthenticationToken auth =
+                    new UsernamePasswordAuthenticationToken(TEST_USER_ID, null, Collections.emptyList());
+
+            mockMvc.perform(post(BASE_URL + "/logout")
+                            .header("Authorization", "Bearer " + TEST_TOKEN)
+                            .with(authentication(auth)))
+                    .andExpect(status().isNoContent());
+
+            verify(authService).logout(TEST_TOKEN);
+        }
     }
 }
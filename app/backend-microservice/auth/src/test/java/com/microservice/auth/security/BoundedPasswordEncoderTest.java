@@ -0,0 +1,114 @@
+package com.microservice.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.microservice.auth.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Nested
+    @DisplayName("when there is capacity")
+    class WithCapacity {
+
+        @Test
+        @DisplayName("should delegate and record hashing time per operation")
+        void shouldDelegateAndRecordMetrics() {
+            encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), 1, 1, 1_000, 2, meterRegistry);
+
+            String hash = encoder.encode("secret");
+
+            assertThat(hash).isEqualTo("hashed:secret");
+            assertThat(encoder.matches("secret", hash)).isTrue();
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("when the pool is saturated")
+    class Saturated {
+
+        @Test
+        @DisplayName("should reject immediately with ServiceBusyException once the queue is full")
+        void shouldRejectWhenQueueIsFull() throws Exception {
+            encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), 1, 1, 5_000, 3, meterRegistry);
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            waitUntilQueued(1);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> encoder.encode("c"))
+                    .isInstanceOf(ServiceBusyException.class)
+                    .extracting(ex -> ((ServiceBusyException) ex).getRetryAfterSeconds())
+                    .isEqualTo(3L);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+            assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(2, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+            assertThat(queued.get(2, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+        }
+
+        private void waitUntilQueued(int expected) throws InterruptedException {
+            for (int i = 0; i < 200; i++) {
+                if (meterRegistry.get("auth.password.hash.queue").gauge().value() >= expected) {
+                    return;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    /**
+     * Encoder trivial; opcionalmente bloquea hasta que se libere el latch.
+     */
+    private record PrefixEncoder(CountDownLatch latch) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return ("hashed:" + rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            if (latch == null) {
+                return;
+            }
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -82,6 +82,22 @@ class JwtTokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("getTokenId")
+    class GetTokenId {
+
+        @Test
+        @DisplayName("should give every token a distinct jti")
+        void shouldIssueDistinctTokenIds() {
+            String token1 = jwtTokenProvider.generateToken(USER_ID, EMAIL);
+            String token2 = jwtTokenProvider.generateToken(USER_ID, EMAIL);
+
+            assertThat(jwtTokenProvider.getTokenId(token1))
+                    .isNotBlank()
+                    .isNotEqualTo(jwtTokenProvider.getTokenId(token2));
+        }
+    }
+
     @Nested
     @DisplayName("validateToken")
     class ValidateToken {
@@ -0,0 +1,121 @@
+package com.microservice.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Nested
+    @DisplayName("tryAcquire")
+    class TryAcquire {
+
+        @Test
+        @DisplayName("should admit up to maxAttempts and report the wait until the oldest attempt expires")
+        void shouldRejectOverLimitWithRemainingWait() {
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, 1_000, 100, 4, clock);
+
+            assertThat(limiter.tryAcquire("a")).isZero();
+            clock.advance(100);
+            assertThat(limiter.tryAcquire("a")).isZero();
+            assertThat(limiter.tryAcquire("a")).isZero();
+
+            assertThat(limiter.tryAcquire("a")).isEqualTo(900);
+            assertThat(limiter.tryAcquire("b")).isZero();
+        }
+
+        @Test
+        @DisplayName("should slide: each attempt frees up exactly when it leaves the window")
+        void shouldSlideWindow() {
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, 1_000, 100, 4, clock);
+            limiter.tryAcquire("a");
+            clock.advance(500);
+            limiter.tryAcquire("a");
+
+            clock.advance(499);
+            assertThat(limiter.tryAcquire("a")).isEqualTo(1);
+            clock.advance(1);
+            assertThat(limiter.tryAcquire("a")).isZero();
+            assertThat(limiter.tryAcquire("a")).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("should forget a key after reset")
+        void shouldResetKey() {
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, 1_000, 100, 4, clock);
+            limiter.tryAcquire("a");
+
+            limiter.reset("a");
+
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("memory bounds")
+    class MemoryBounds {
+
+        @Test
+        @DisplayName("should never track more than maxKeys keys")
+        void shouldCapTrackedKeys() {
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(5, 60_000, 64, 4, clock);
+
+            for (int i = 0; i < 10_000; i++) {
+                limiter.tryAcquire("ip-" + i);
+            }
+
+            assertThat(limiter.size()).isLessThanOrEqualTo(64);
+        }
+
+        @Test
+        @DisplayName("should evict idle keys on later accesses")
+        void shouldEvictIdleKeys() {
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(5, 1_000, 100, 1, clock);
+            limiter.tryAcquire("a");
+            limiter.tryAcquire("b");
+            limiter.tryAcquire("c");
+
+            clock.advance(1_000);
+            limiter.tryAcquire("d");
+
+            assertThat(limiter.size()).isEqualTo(1);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis = 1_000_000;
+
+        void advance(long ms) {
+            millis += ms;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.microservice.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.auth.config.CacheConfig;
+import com.microservice.auth.dto.UpdateProfileRequest;
+import com.microservice.auth.dto.UserResponse;
+import com.microservice.auth.model.User;
+import com.microservice.auth.repository.UserRepository;
+import com.microservice.auth.security.JwtTokenProvider;
+import com.microservice.auth.service.AuthService;
+import com.microservice.auth.service.RefreshTokenService;
+import com.microservice.auth.service.TokenRevocationService;
+
+/**
+ * Verifies the caching annotations through the real Spring proxy, which the
+ * Mockito-only {@link AuthServiceImplTest} cannot exercise.
+ */
+@SpringJUnitConfig({CacheConfig.class, AuthServiceImpl.class})
+class AuthServiceImplCachingTest {
+
+    private static final String TEST_USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.USER_PROFILES).clear();
+        user = User.builder()
+                .userId(TEST_USER_ID)
+                .email("test@example.com")
+                .passwordHash("{bcrypt}$2a$10$hash")
+                .displayName("Test User")
+                .enabled(true)
+                .build();
+        when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("should load the profile from the repository only once while cached")
+    void shouldServeRepeatedLookupsFromCache() {
+        UserResponse first = authService.getCurrentUser(TEST_USER_ID);
+        UserResponse second = authService.getCurrentUser(TEST_USER_ID);
+
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findById(TEST_USER_ID);
+    }
+
+    @Test
+    @DisplayName("should evict the cached profile when it is updated")
+    void shouldEvictOnProfileUpdate() {
+        authService.getCurrentUser(TEST_USER_ID);
+
+        authService.updateProfile(TEST_USER_ID, new UpdateProfileRequest("Renamed User", null));
+        UserResponse afterUpdate = authService.getCurrentUser(TEST_USER_ID);
+
+        assertThat(afterUpdate.displayName()).isEqualTo("Renamed User");
+        verify(userRepository, times(3)).findById(TEST_USER_ID);
+    }
+}
@@ -4,12 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,18 +23,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.microservice.auth.dto.AuthResponse;
 import com.microservice.auth.dto.LoginRequest;
+import com.microservice.auth.dto.RefreshTokenGrant;
+import com.microservice.auth.dto.RefreshTokenRequest;
 import com.microservice.auth.dto.RegisterRequest;
+import com.microservice.auth.dto.UpdateProfileRequest;
 import com.microservice.auth.dto.UserResponse;
 import com.microservice.auth.exception.AuthException;
 import com.microservice.auth.exception.EmailAlreadyExistsException;
+import com.microservice.auth.exception.ServiceBusyException;
 import com.microservice.auth.model.User;
 import com.microservice.auth.repository.UserRepository;
 import com.microservice.auth.security.JwtTokenProvider;
+import com.microservice.auth.service.RefreshTokenService;
+import com.microservice.auth.service.TokenRevocationService;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceImplTest {
@@ -42,15 +61,74 @@ class AuthServiceImplTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+
     @InjectMocks
     private AuthServiceImpl authService;
 
+    /**
+     * Gestor sin base de datos que marca la transacción como activa igual que uno real,
+     * para comprobar qué se ejecuta dentro y fuera de ella.
+     */
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    /** Anota si había una transacción activa cada vez que se llama al encoder o se abre la sesión. */
+    private List<String> recordTransactionState() {
+        List<String> calls = new ArrayList<>();
+        lenient().when(passwordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenAnswer(invocation -> {
+            calls.add("matches:" + TransactionSynchronizationManager.isActualTransactionActive());
+            return true;
+        });
+        when(passwordEncoder.encode(TEST_PASSWORD)).thenAnswer(invocation -> {
+            calls.add("encode:" + TransactionSynchronizationManager.isActualTransactionActive());
+            return TEST_HASHED_PASSWORD;
+        });
+        when(refreshTokenService.issue(anyString())).thenAnswer(invocation -> {
+            calls.add("issue:" + TransactionSynchronizationManager.isActualTransactionActive());
+            return new RefreshTokenGrant(invocation.getArgument(0), TEST_SESSION_ID, TEST_REFRESH_TOKEN);
+        });
+        when(jwtTokenProvider.generateToken(anyString(), anyString(), eq(TEST_SESSION_ID))).thenReturn(TEST_TOKEN);
+        return calls;
+    }
+
     private static final String TEST_USER_ID = "550e8400-e29b-41d4-a716-446655440000";
     private static final String TEST_EMAIL = "test@example.com";
     private static final String TEST_PASSWORD = "SecurePass123";
     private static final String TEST_DISPLAY_NAME = "Test User";
     private static final String TEST_HASHED_PASSWORD = "$2a$10$hashedpassword";
     private static final String TEST_TOKEN = "eyJhbGciOiJIUzI1NiJ9.test.token";
+    private static final String TEST_SESSION_ID = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+    private static final String TEST_REFRESH_TOKEN = "q3Zt0yXyS1m2bqk8Yf0o7JkR9s3eWl4uPz6nVc2aXhE";
+
+    private void stubSession() {
+        when(refreshTokenService.issue(anyString())).thenAnswer(invocation ->
+                new RefreshTokenGrant(invocation.getArgument(0), TEST_SESSION_ID, TEST_REFRESH_TOKEN));
+        when(jwtTokenProvider.generateToken(anyString(), anyString(), eq(TEST_SESSION_ID))).thenReturn(TEST_TOKEN);
+    }
 
     private User createTestUser() {
         return User.builder()
@@ -71,10 +149,9 @@ class AuthServiceImplTest {
         void shouldRegisterNewUserSuccessfully() {
             // Arrange
             RegisterRequest request = new RegisterRequest(TEST_DISPLAY_NAME, TEST_EMAIL, TEST_PASSWORD);
-            when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(false);
             when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(TEST_HASHED_PASSWORD);
-            when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenProvider.generateToken(anyString(), anyString())).thenReturn(TEST_TOKEN);
+            when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            stubSession();
 
             // Act
             AuthResponse response = authService.register(request);
@@ -84,6 +161,7 @@ class AuthServiceImplTest {
             assertThat(response.email()).isEqualTo(TEST_EMAIL);
             assertThat(response.displayName()).isEqualTo(TEST_DISPLAY_NAME);
             assertThat(response.token()).isEqualTo(TEST_TOKEN);
+            assertThat(response.refreshToken()).isEqualTo(TEST_REFRESH_TOKEN);
             assertThat(response.userId()).isNotNull().isNotBlank();
         }
 
@@ -92,17 +170,16 @@ class AuthServiceImplTest {
         void shouldHashPasswordBeforeSaving() {
             // Arrange
             RegisterRequest request = new RegisterRequest(TEST_DISPLAY_NAME, TEST_EMAIL, TEST_PASSWORD);
-            when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(false);
             when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(TEST_HASHED_PASSWORD);
-            when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenProvider.generateToken(anyString(), anyString())).thenReturn(TEST_TOKEN);
+            when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            stubSession();
 
             // Act
             authService.register(request);
 
             // Assert
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
+            verify(userRepository).saveAndFlush(userCaptor.capture());
             User savedUser = userCaptor.getValue();
 
             assertThat(savedUser.getPasswordHash()).isEqualTo(TEST_HASHED_PASSWORD);
@@ -114,10 +191,9 @@ class AuthServiceImplTest {
         void shouldGenerateUUIDAsUserId() {
             // Arrange
             RegisterRequest request = new RegisterRequest(TEST_DISPLAY_NAME, TEST_EMAIL, TEST_PASSWORD);
-            when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(false);
             when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(TEST_HASHED_PASSWORD);
-            when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenProvider.generateToken(anyString(), anyString())).thenReturn(TEST_TOKEN);
+            when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            stubSession();
 
             // Act
             AuthResponse response = authService.register(request);
@@ -127,19 +203,57 @@ class AuthServiceImplTest {
                     "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
         }
 
+        @Test
+        @DisplayName("should hash the password with no transaction open and save it in one")
+        void shouldHashOutsideTransaction() {
+            // Arrange
+            List<String> calls = recordTransactionState();
+            when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            authService.register(new RegisterRequest(TEST_DISPLAY_NAME, TEST_EMAIL, TEST_PASSWORD));
+
+            // Assert
+            assertThat(calls).containsExactly("encode:false", "issue:true");
+        }
+
         @Test
         @DisplayName("should throw EmailAlreadyExistsException when email is already registered")
         void shouldThrowWhenEmailAlreadyExists() {
             // Arrange
             RegisterRequest request = new RegisterRequest(TEST_DISPLAY_NAME, TEST_EMAIL, TEST_PASSWORD);
-            when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(true);
+            when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(TEST_HASHED_PASSWORD);
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                            new ConstraintViolationException("Duplicate entry", new SQLException(),
+                                    "auth_users.uk_auth_users_email")));
 
             // Act & Assert
             assertThatThrownBy(() -> authService.register(request))
                     .isInstanceOf(EmailAlreadyExistsException.class)
                     .hasMessageContaining(TEST_EMAIL);
 
-            verify(userRepository, never()).save(any());
+            verify(refreshTokenService, never()).issue(any());
+        }
+
+        @Test
+        @DisplayName("should not report other integrity violations as a duplicate email")
+        void shouldRethrowOtherViolations() {
+            // Arrange
+            RegisterRequest request = new RegisterRequest(TEST_DISPLAY_NAME, TEST_EMAIL, TEST_PASSWORD);
+            DataIntegrityViolationException tooLong = new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new ConstraintViolationException("Data too long for column 'display_name'",
+                            new SQLException(), null));
+            when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(TEST_HASHED_PASSWORD);
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(tooLong);
+
+            // Act & Assert
+            assertThatThrownBy(() -> authService.register(request))
+                    .isSameAs(tooLong)
+                    .isNotInstanceOf(EmailAlreadyExistsException.class);
+
+            verify(refreshTokenService, never()).issue(any());
         }
     }
 
@@ -155,7 +269,7 @@ class AuthServiceImplTest {
             User user = createTestUser();
             when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(user));
             when(passwordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
-            when(jwtTokenProvider.generateToken(TEST_USER_ID, TEST_EMAIL)).thenReturn(TEST_TOKEN);
+            stubSession();
 
             // Act
             AuthResponse response = authService.login(request);
@@ -168,6 +282,83 @@ class AuthServiceImplTest {
             assertThat(response.token()).isEqualTo(TEST_TOKEN);
         }
 
+        @Test
+        @DisplayName("should rehash and persist the password when the stored hash is outdated")
+        void shouldRehashOutdatedPasswordOnLogin() {
+            // Arrange
+            LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD);
+            User user = createTestUser();
+            String upgradedHash = "{bcrypt}$2a$12$upgradedhash";
+            when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding(TEST_HASHED_PASSWORD)).thenReturn(true);
+            when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(upgradedHash);
+            stubSession();
+
+            // Act
+            authService.login(request);
+
+            // Assert
+            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+            verify(userRepository).save(userCaptor.capture());
+            assertThat(userCaptor.getValue().getPasswordHash()).isEqualTo(upgradedHash);
+        }
+
+        @Test
+        @DisplayName("should verify and rehash the password with no transaction open")
+        void shouldHashOutsideTransaction() {
+            // Arrange
+            List<String> calls = recordTransactionState();
+            when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(createTestUser()));
+            when(passwordEncoder.upgradeEncoding(TEST_HASHED_PASSWORD)).thenReturn(true);
+
+            // Act
+            authService.login(new LoginRequest(TEST_EMAIL, TEST_PASSWORD));
+
+            // Assert
+            assertThat(calls).containsExactly("matches:false", "encode:false", "issue:true");
+            verify(userRepository).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("should not rehash when the stored hash is current")
+        void shouldNotRehashCurrentPassword() {
+            // Arrange
+            LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD);
+            when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(createTestUser()));
+            when(passwordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding(TEST_HASHED_PASSWORD)).thenReturn(false);
+            stubSession();
+
+            // Act
+            authService.login(request);
+
+            // Assert
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, never()).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("should still log in when the rehash is rejected because the hash pool is busy")
+        void shouldLoginWhenRehashIsRejected() {
+            // Arrange
+            LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD);
+            User user = createTestUser();
+            when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding(TEST_HASHED_PASSWORD)).thenReturn(true);
+            when(passwordEncoder.encode(TEST_PASSWORD)).thenThrow(new ServiceBusyException("busy", 2));
+            stubSession();
+
+            // Act
+            AuthResponse response = authService.login(request);
+
+            // Assert
+            assertThat(response.token()).isEqualTo(TEST_TOKEN);
+            assertThat(user.getPasswordHash()).isEqualTo(TEST_HASHED_PASSWORD);
+            verify(userRepository, never()).save(any(User.class));
+        }
+
         @Test
         @DisplayName("should throw AuthException when email does not exist")
         void shouldThrowWhenEmailNotFound() {
@@ -195,7 +386,8 @@ class AuthServiceImplTest {
                     .isInstanceOf(AuthException.class)
                     .hasMessage("Credenciales incorrectas");
 
-            verify(jwtTokenProvider, never()).generateToken(anyString(), anyString());
+            verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), any());
+            verify(refreshTokenService, never()).issue(anyString());
         }
 
         @Test
@@ -249,4 +441,112 @@ class AuthServiceImplTest {
                     .hasMessage("Usuario no encontrado");
         }
     }
+
+    @Nested
+    @DisplayName("updateProfile")
+    class UpdateProfile {
+
+        @Test
+        @DisplayName("should change only the fields present in the request")
+        void shouldApplyPartialChanges() {
+            // Arrange
+            User user = createTestUser();
+            user.setPhotoUrl("https://cdn.example.com/old.png");
+            when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
+            when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            UserResponse response = authService.updateProfile(TEST_USER_ID,
+                    new UpdateProfileRequest("  New Name ", null));
+
+            // Assert
+            assertThat(response.displayName()).isEqualTo("New Name");
+            assertThat(response.photoURL()).isEqualTo("https://cdn.example.com/old.png");
+        }
+
+        @Test
+        @DisplayName("should remove the photo when an empty URL is sent")
+        void shouldClearPhotoOnEmptyUrl() {
+            // Arrange
+            User user = createTestUser();
+            user.setPhotoUrl("https://cdn.example.com/old.png");
+            when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
+            when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            UserResponse response = authService.updateProfile(TEST_USER_ID, new UpdateProfileRequest(null, ""));
+
+            // Assert
+            assertThat(response.photoURL()).isNull();
+            assertThat(response.displayName()).isEqualTo(TEST_DISPLAY_NAME);
+        }
+
+        @Test
+        @DisplayName("should throw AuthException when user does not exist")
+        void shouldThrowWhenUserNotFound() {
+            when(userRepository.findById("unknown")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> authService.updateProfile("unknown", new UpdateProfileRequest("Name", null)))
+                    .isInstanceOf(AuthException.class)
+                    .hasMessage("Usuario no encontrado");
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("should rotate the refresh token and issue an access token bound to the same session")
+        void shouldRotateAndIssueAccessToken() {
+            // Arrange
+            String rotated = "rotated-refresh-token";
+            when(refreshTokenService.rotate(TEST_REFRESH_TOKEN))
+                    .thenReturn(new RefreshTokenGrant(TEST_USER_ID, TEST_SESSION_ID, rotated));
+            when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(createTestUser()));
+            when(jwtTokenProvider.generateToken(TEST_USER_ID, TEST_EMAIL, TEST_SESSION_ID)).thenReturn(TEST_TOKEN);
+
+            // Act
+            AuthResponse response = authService.refresh(new RefreshTokenRequest(TEST_REFRESH_TOKEN));
+
+            // Assert
+            assertThat(response.token()).isEqualTo(TEST_TOKEN);
+            assertThat(response.refreshToken()).isEqualTo(rotated);
+        }
+
+        @Test
+        @DisplayName("should revoke the session and reject the refresh when the account is disabled")
+        void shouldRevokeSessionOfDisabledAccount() {
+            // Arrange
+            User user = createTestUser();
+            user.setEnabled(false);
+            when(refreshTokenService.rotate(TEST_REFRESH_TOKEN))
+                    .thenReturn(new RefreshTokenGrant(TEST_USER_ID, TEST_SESSION_ID, "rotated"));
+            when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
+
+            // Act & Assert
+            assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest(TEST_REFRESH_TOKEN)))
+                    .isInstanceOf(AuthException.class)
+                    .hasMessage("Esta cuenta ha sido deshabilitada");
+
+            verify(refreshTokenService).revokeFamily(TEST_SESSION_ID);
+            verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("logout")
+    class Logout {
+
+        @Test
+        @DisplayName("should revoke the access token and its refresh-token session")
+        void shouldRevokeAccessTokenAndSession() {
+            when(jwtTokenProvider.getSessionId(TEST_TOKEN)).thenReturn(TEST_SESSION_ID);
+
+            authService.logout(TEST_TOKEN);
+
+            verify(tokenRevocationService).revoke(TEST_TOKEN);
+            verify(refreshTokenService).revokeFamily(TEST_SESSION_ID);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package com.microservice.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.microservice.auth.dto.RefreshTokenGrant;
+import com.microservice.auth.exception.AuthException;
+import com.microservice.auth.model.RefreshToken;
+import com.microservice.auth.repository.RefreshTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String FAMILY_ID = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+    private static final String RAW_TOKEN = "q3Zt0yXyS1m2bqk8Yf0o7JkR9s3eWl4uPz6nVc2aXhE";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, 60_000);
+    }
+
+    private RefreshToken storedToken(OffsetDateTime revokedAt, OffsetDateTime expiresAt) {
+        return RefreshToken.builder()
+                .id("current-id")
+                .tokenHash(RefreshTokenServiceImpl.hash(RAW_TOKEN))
+                .userId(USER_ID)
+                .familyId(FAMILY_ID)
+                .expiresAt(expiresAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("issue")
+    class Issue {
+
+        @Test
+        @DisplayName("should store only the SHA-256 hash of the token handed to the client")
+        void shouldStoreOnlyTheHash() {
+            RefreshTokenGrant grant = refreshTokenService.issue(USER_ID);
+
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository).save(captor.capture());
+            RefreshToken saved = captor.getValue();
+            assertThat(saved.getTokenHash())
+                    .isEqualTo(RefreshTokenServiceImpl.hash(grant.token()))
+                    .isNotEqualTo(grant.token());
+            assertThat(saved.getFamilyId()).isEqualTo(grant.familyId());
+            assertThat(saved.getExpiresAt()).isAfter(OffsetDateTime.now());
+        }
+    }
+
+    @Nested
+    @DisplayName("rotate")
+    class Rotate {
+
+        @Test
+        @DisplayName("should retire the presented token and issue a new one in the same family")
+        void shouldRotateWithinFamily() {
+            when(refreshTokenRepository.findByTokenHash(RefreshTokenServiceImpl.hash(RAW_TOKEN)))
+                    .thenReturn(Optional.of(storedToken(null, OffsetDateTime.now().plusDays(1))));
+            when(refreshTokenRepository.markRotated(eq("current-id"), anyString(), any())).thenReturn(1);
+
+            RefreshTokenGrant grant = refreshTokenService.rotate(RAW_TOKEN);
+
+            assertThat(grant.familyId()).isEqualTo(FAMILY_ID);
+            assertThat(grant.userId()).isEqualTo(USER_ID);
+            assertThat(grant.token()).isNotEqualTo(RAW_TOKEN);
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("should revoke the whole family when an already rotated token is reused")
+        void shouldRevokeFamilyOnReuse() {
+            when(refreshTokenRepository.findByTokenHash(RefreshTokenServiceImpl.hash(RAW_TOKEN)))
+                    .thenReturn(Optional.of(storedToken(OffsetDateTime.now().minusMinutes(1),
+                            OffsetDateTime.now().plusDays(1))));
+
+            assertThatThrownBy(() -> refreshTokenService.rotate(RAW_TOKEN))
+                    .isInstanceOf(AuthException.class);
+
+            verify(refreshTokenRepository).revokeFamily(eq(FAMILY_ID), any());
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should treat losing a concurrent rotation as reuse")
+        void shouldRevokeFamilyWhenConcurrentRotationWins() {
+            when(refreshTokenRepository.findByTokenHash(RefreshTokenServiceImpl.hash(RAW_TOKEN)))
+                    .thenReturn(Optional.of(storedToken(null, OffsetDateTime.now().plusDays(1))));
+            when(refreshTokenRepository.markRotated(eq("current-id"), anyString(), any())).thenReturn(0);
+
+            assertThatThrownBy(() -> refreshTokenService.rotate(RAW_TOKEN))
+                    .isInstanceOf(AuthException.class);
+
+            verify(refreshTokenRepository).revokeFamily(eq(FAMILY_ID), any());
+        }
+
+        @Test
+        @DisplayName("should reject an expired token without revoking the family")
+        void shouldRejectExpiredToken() {
+            when(refreshTokenRepository.findByTokenHash(RefreshTokenServiceImpl.hash(RAW_TOKEN)))
+                    .thenReturn(Optional.of(storedToken(null, OffsetDateTime.now().minusSeconds(1))));
+
+            assertThatThrownBy(() -> refreshTokenService.rotate(RAW_TOKEN))
+                    .isInstanceOf(AuthException.class)
+                    .hasMessage("La sesión ha expirado");
+
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("should reject an unknown token")
+        void shouldRejectUnknownToken() {
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+                    .isInstanceOf(AuthException.class);
+        }
+    }
+}
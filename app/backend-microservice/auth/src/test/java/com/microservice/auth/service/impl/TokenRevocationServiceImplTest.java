@@ -0,0 +1,107 @@
+package com.microservice.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.microservice.auth.dto.RevocationListResponse;
+import com.microservice.auth.model.RevokedToken;
+import com.microservice.auth.repository.RevokedTokenRepository;
+import com.microservice.auth.security.JwtTokenProvider;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceImplTest {
+
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiJ9.test.token";
+    private static final String TOKEN_ID = "6f1c2b7e-0d8a-4c55-9d43-2b1f0a9e7c11";
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @InjectMocks
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @Nested
+    @DisplayName("revoke")
+    class Revoke {
+
+        @Test
+        @DisplayName("should persist the jti until the token expires and reject it immediately")
+        void shouldPersistAndRejectImmediately() {
+            Date expiration = new Date(System.currentTimeMillis() + 60_000);
+            when(jwtTokenProvider.getTokenId(TOKEN)).thenReturn(TOKEN_ID);
+            when(jwtTokenProvider.getUserIdFromToken(TOKEN)).thenReturn(USER_ID);
+            when(jwtTokenProvider.getExpiration(TOKEN)).thenReturn(expiration);
+
+            tokenRevocationService.revoke(TOKEN);
+
+            ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+            verify(revokedTokenRepository).save(captor.capture());
+            assertThat(captor.getValue().getTokenId()).isEqualTo(TOKEN_ID);
+            assertThat(captor.getValue().getUserId()).isEqualTo(USER_ID);
+            assertThat(captor.getValue().getExpiresAt().toInstant()).isEqualTo(expiration.toInstant());
+            assertThat(tokenRevocationService.isRevoked(TOKEN_ID)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should ignore tokens issued without a jti")
+        void shouldIgnoreTokensWithoutId() {
+            when(jwtTokenProvider.getTokenId(TOKEN)).thenReturn(null);
+
+            tokenRevocationService.revoke(TOKEN);
+
+            verify(revokedTokenRepository, never()).save(any());
+            assertThat(tokenRevocationService.isRevoked(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("should replace the in-memory list with the active rows")
+        void shouldLoadActiveRevocations() {
+            when(revokedTokenRepository.findActiveTokenIds(any())).thenReturn(List.of("b", "a"));
+
+            tokenRevocationService.refresh();
+
+            assertThat(tokenRevocationService.isRevoked("a")).isTrue();
+            assertThat(tokenRevocationService.isRevoked("c")).isFalse();
+            RevocationListResponse response = tokenRevocationService.getActiveRevocations();
+            assertThat(response.tokenIds()).containsExactly("a", "b");
+            assertThat(response.version()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("should keep the same version while the content does not change")
+        void shouldKeepStableVersion() {
+            when(revokedTokenRepository.findActiveTokenIds(any())).thenReturn(List.of("a", "b"));
+            tokenRevocationService.refresh();
+            String first = tokenRevocationService.getActiveRevocations().version();
+
+            when(revokedTokenRepository.findActiveTokenIds(any())).thenReturn(List.of("b", "a"));
+            tokenRevocationService.refresh();
+
+            assertThat(tokenRevocationService.getActiveRevocations().version()).isEqualTo(first);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.microservice.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import jakarta.validation.Validation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.microservice.auth.dto.UserImportSummary;
+import com.microservice.auth.exception.InvalidImportFileException;
+import com.microservice.auth.service.UserImportService.CsvColumns;
+
+class UserImportServiceImplTest {
+
+    private static final String HEADER = "email,password,displayName\n";
+
+    private JdbcTemplate jdbcTemplate;
+    private UserImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:user-import;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("""
+                CREATE TABLE auth_users (
+                    user_id VARCHAR(36) PRIMARY KEY,
+                    email VARCHAR(150) NOT NULL,
+                    password_hash VARCHAR(100) NOT NULL,
+                    display_name VARCHAR(100) NOT NULL,
+                    photo_url VARCHAR(500),
+                    enabled BOOLEAN NOT NULL,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    CONSTRAINT uk_auth_users_email UNIQUE (email)
+                )""");
+        importService = new UserImportServiceImpl(jdbcTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), 4, 2, 3, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.destroy();
+        jdbcTemplate.execute("DROP TABLE auth_users");
+    }
+
+    private String runImport(String csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(csv));
+        CsvColumns columns = importService.readHeader(reader);
+        StringWriter results = new StringWriter();
+        importService.importUsers(reader, columns, results);
+        return results.toString();
+    }
+
+    private List<String> resultLines(String results) {
+        return results.lines().skip(1).toList();
+    }
+
+    @Nested
+    @DisplayName("importUsers")
+    class ImportUsers {
+
+        @Test
+        @DisplayName("should create valid rows and store BCrypt hashes with the {bcrypt} prefix")
+        void shouldCreateUsers() throws IOException {
+            String results = runImport(HEADER
+                    + "ana@example.com,password123,Ana\n"
+                    + "luis@example.com,password123,\"Luis, Jr.\"\n");
+
+            assertThat(results).startsWith("line,email,status,detail\n");
+            assertThat(resultLines(results)).hasSize(2)
+                    .allSatisfy(line -> assertThat(line).contains(",CREATED,"));
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT display_name FROM auth_users WHERE email = 'luis@example.com'", String.class))
+                    .isEqualTo("Luis, Jr.");
+            assertThat(jdbcTemplate.queryForList("SELECT password_hash FROM auth_users", String.class))
+                    .allSatisfy(hash -> assertThat(hash).startsWith("{bcrypt}$2a$04$"));
+        }
+
+        @Test
+        @DisplayName("should report invalid rows without inserting them")
+        void shouldRejectInvalidRows() throws IOException {
+            String results = runImport(HEADER
+                    + "not-an-email,password123,Ana\n"
+                    + "bob@example.com,short,Bob\n");
+
+            assertThat(resultLines(results)).containsExactly(
+                    "2,not-an-email,INVALID,email: Email must be a valid format",
+                    "3,bob@example.com,INVALID,password: Password must be between 8 and 100 characters");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_users", Integer.class)).isZero();
+        }
+
+        @Test
+        @DisplayName("should rely on the unique email constraint for existing and repeated emails")
+        void shouldReportDuplicates() throws IOException {
+            runImport(HEADER + "ana@example.com,password123,Ana\n");
+
+            StringWriter results = new StringWriter();
+            BufferedReader reader = new BufferedReader(new StringReader(HEADER
+                    + "ana@example.com,password123,Ana\n"
+                    + "eva@example.com,password123,Eva\n"
+                    + "eva@example.com,password123,Eva bis\n"
+                    + "leo@example.com,password123,Leo\n"));
+            UserImportSummary summary = importService.importUsers(reader, importService.readHeader(reader), results);
+
+            assertThat(summary).isEqualTo(new UserImportSummary(4, 2, 2, 0, 0, 0));
+            assertThat(resultLines(results.toString()))
+                    .extracting(line -> line.split(",")[2])
+                    .containsExactly("DUPLICATE", "CREATED", "DUPLICATE", "CREATED");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_users", Integer.class)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should report rows rejected by other constraints as REJECTED, not as duplicates")
+        void shouldReportOtherViolations() throws IOException {
+            jdbcTemplate.execute("ALTER TABLE auth_users ADD CONSTRAINT ck_auth_users_display_name "
+                    + "CHECK (display_name <> 'Blocked')");
+
+            StringWriter results = new StringWriter();
+            BufferedReader reader = new BufferedReader(new StringReader(HEADER
+                    + "ana@example.com,password123,Blocked\n"
+                    + "eva@example.com,password123,Eva\n"));
+            UserImportSummary summary = importService.importUsers(reader, importService.readHeader(reader), results);
+
+            assertThat(summary).isEqualTo(new UserImportSummary(2, 1, 0, 0, 0, 1));
+            assertThat(resultLines(results.toString()).get(0))
+                    .startsWith("2,ana@example.com,REJECTED,")
+                    .containsIgnoringCase("ck_auth_users_display_name");
+            assertThat(resultLines(results.toString()).get(1)).startsWith("3,eva@example.com,CREATED,");
+        }
+
+        @Test
+        @DisplayName("should report every row past the row limit as SKIPPED")
+        void shouldStopAtMaxRows() throws IOException {
+            importService.destroy();
+            importService = new UserImportServiceImpl(jdbcTemplate,
+                    Validation.buildDefaultValidatorFactory().getValidator(), 4, 1, 3, 1);
+
+            BufferedReader reader = new BufferedReader(new StringReader(HEADER
+                    + "ana@example.com,password123,Ana\n"
+                    + "eva@example.com,password123,Eva\n"
+                    + "not-an-email,x,\n"));
+            StringWriter results = new StringWriter();
+            UserImportSummary summary = importService.importUsers(reader, importService.readHeader(reader), results);
+
+            assertThat(summary).isEqualTo(new UserImportSummary(1, 1, 0, 0, 2, 0));
+            assertThat(resultLines(results.toString())).hasSize(3);
+            assertThat(resultLines(results.toString()).get(1)).startsWith("3,eva@example.com,SKIPPED,");
+            assertThat(resultLines(results.toString()).get(2)).startsWith("4,not-an-email,SKIPPED,");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_users", Integer.class)).isOne();
+        }
+    }
+
+    @Nested
+    @DisplayName("readHeader")
+    class ReadHeader {
+
+        @Test
+        @DisplayName("should accept columns in any order and case, ignoring a UTF-8 BOM")
+        void shouldLocateColumns() throws IOException {
+            CsvColumns columns = importService.readHeader(
+                    new BufferedReader(new StringReader("\uFEFFDisplayName,EMAIL,Password\n")));
+
+            assertThat(columns).isEqualTo(new CsvColumns(1, 2, 0));
+        }
+
+        @Test
+        @DisplayName("should reject a header without the required columns")
+        void shouldRejectMissingColumns() {
+            assertThatThrownBy(() -> importService.readHeader(
+                    new BufferedReader(new StringReader("email,displayName\n"))))
+                    .isInstanceOf(InvalidImportFileException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV helpers")
+    class CsvHelpers {
+
+        @Test
+        @DisplayName("should parse quoted fields with commas and escaped quotes")
+        void shouldParseQuotedFields() {
+            assertThat(UserImportServiceImpl.parseLine("a@b.com,\"p,\"\"w\"\"\",Ana"))
+                    .containsExactly("a@b.com", "p,\"w\"", "Ana");
+        }
+
+        @Test
+        @DisplayName("should neutralise spreadsheet formulas when writing results")
+        void shouldEscapeFormulas() {
+            assertThat(UserImportServiceImpl.escape("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+            assertThat(UserImportServiceImpl.escape("plain")).isEqualTo("plain");
+        }
+    }
+}
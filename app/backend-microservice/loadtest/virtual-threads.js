@@ -0,0 +1,87 @@
+// Carga de alta concurrencia para comparar hilos de plataforma y virtuales.
+//
+//   k6 run loadtest/virtual-threads.js                       # SPRING_THREADS_VIRTUAL_ENABLED=false
+//   k6 run -e LABEL=virtual loadtest/virtual-threads.js      # tras reiniciar con =true y JAVA_VERSION=21
+//
+// Variables: AUTH_URL, TRANSACTION_URL, REPORT_URL, VUS (pico, por defecto 800),
+// DURATION (meseta, por defecto 2m), LABEL (etiqueta del resumen).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const AUTH_URL = __ENV.AUTH_URL || 'http://localhost:8083';
+const TRANSACTION_URL = __ENV.TRANSACTION_URL || 'http://localhost:8081';
+const REPORT_URL = __ENV.REPORT_URL || 'http://localhost:8082';
+const VUS = Number(__ENV.VUS || 800);
+const LABEL = __ENV.LABEL || 'platform';
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: __ENV.DURATION || '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  tags: { mode: LABEL },
+};
+
+// Un usuario de prueba por ejecución; el access token dura lo suficiente para la prueba.
+export function setup() {
+  const email = `loadtest-${Date.now()}@example.com`;
+  const res = http.post(`${AUTH_URL}/api/v1/auth/register`,
+    JSON.stringify({ displayName: 'Load test', email, password: 'loadtest-password' }),
+    { headers: { 'Content-Type': 'application/json' } });
+  check(res, { registered: (r) => r.status === 201 });
+  return { token: res.json('token') };
+}
+
+export default function (data) {
+  const params = {
+    headers: { Authorization: `Bearer ${data.token}`, 'Content-Type': 'application/json' },
+  };
+  const roll = Math.random();
+
+  if (roll < 0.5) {
+    const res = http.get(`${TRANSACTION_URL}/api/v1/transactions?page=0&size=20`, params);
+    check(res, { 'list 200': (r) => r.status === 200 });
+  } else if (roll < 0.7) {
+    const res = http.post(`${TRANSACTION_URL}/api/v1/transactions`, JSON.stringify({
+      type: roll < 0.6 ? 'INCOME' : 'EXPENSE',
+      amount: (Math.random() * 100 + 1).toFixed(2),
+      category: 'loadtest',
+      date: new Date().toISOString().slice(0, 10),
+      description: 'k6',
+    }), params);
+    check(res, { 'create 201': (r) => r.status === 201 });
+  } else if (roll < 0.9) {
+    const res = http.get(`${REPORT_URL}/api/v1/reports/dashboard`, params);
+    check(res, { 'dashboard 200': (r) => r.status === 200 });
+  } else {
+    const res = http.get(`${AUTH_URL}/api/v1/auth/me`, params);
+    check(res, { 'me 200': (r) => r.status === 200 });
+  }
+}
+
+export function handleSummary(data) {
+  const m = data.metrics;
+  const line = [
+    `mode=${LABEL}`,
+    `vus=${VUS}`,
+    `rps=${m.http_reqs.values.rate.toFixed(1)}`,
+    `p50=${m.http_req_duration.values.med.toFixed(1)}ms`,
+    `p95=${m.http_req_duration.values['p(95)'].toFixed(1)}ms`,
+    `failed=${(m.http_req_failed.values.rate * 100).toFixed(2)}%`,
+  ].join(' ');
+  return {
+    stdout: `${line}\n`,
+    [`loadtest/results-${LABEL}.json`]: JSON.stringify(data, null, 2),
+  };
+}
@@ -0,0 +1,29 @@
+package com.microservice.report.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor de las consultas paralelas del dashboard.
+ *
+ * <p>Pool y cola acotados: con el pool saturado la sección se rechaza de
+ * inmediato y se informa como no disponible, en lugar de acumular esperas.</p>
+ */
+@Configuration
+public class DashboardExecutorConfig {
+
+    @Bean(name = "dashboardExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${app.dashboard.threads:8}") int threads,
+            @Value("${app.dashboard.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-dashboard-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,47 @@
+package com.microservice.report.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors de los jobs de reconstrucción de reportes.
+ *
+ * <ul>
+ *   <li><strong>Coordinador:</strong> un único hilo; garantiza que solo un job
+ *       se ejecute a la vez por instancia.</li>
+ *   <li><strong>Workers:</strong> pool acotado por {@code app.rebuild.parallelism}.
+ *       Con la cola llena, {@code CallerRunsPolicy} hace que el coordinador procese
+ *       la tarea él mismo, frenando la producción en lugar de descartar trabajo.</li>
+ * </ul>
+ */
+@Configuration
+public class ReportJobExecutorConfig {
+
+    @Bean(name = "reportRebuildCoordinator", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor reportRebuildCoordinator() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("report-rebuild-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "reportRebuildWorkers", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor reportRebuildWorkers(
+            @Value("${app.rebuild.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 2);
+        executor.setThreadNamePrefix("report-rebuild-worker-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.microservice.report.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor que escribe los eventos SSE a los clientes.
+ *
+ * <p>El envío a un cliente lento puede bloquear; hacerlo aquí evita que bloquee
+ * al consumidor de RabbitMQ o al scheduler del heartbeat. Con la cola llena la
+ * tarea se rechaza: los eventos quedan en el buffer de la conexión y se envían
+ * en el siguiente intento.</p>
+ */
+@Configuration
+public class ReportStreamExecutorConfig {
+
+    @Bean(name = "reportStreamDispatcher", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor reportStreamDispatcher(
+            @Value("${app.sse.dispatcher-threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("report-sse-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,14 +1,44 @@
 package com.microservice.report.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * RestTemplate para llamadas entre microservicios.
+ *
+ * Los timeouts evitan que un microservicio lento retenga hilos indefinidamente.
+ * El dashboard usa su propio RestTemplate con timeouts no mayores que
+ * {@code app.dashboard.timeout-ms}: la sección que expira se abandona, pero la
+ * llamada seguiría ocupando su hilo del executor del dashboard hasta el read timeout
+ * general.
+ */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @Primary
+    public RestTemplate restTemplate(
+            @Value("${app.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${app.http.read-timeout-ms:5000}") int readTimeoutMs) {
+        return build(connectTimeoutMs, readTimeoutMs);
+    }
+
+    @Bean
+    public RestTemplate dashboardRestTemplate(
+            @Value("${app.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${app.http.read-timeout-ms:5000}") int readTimeoutMs,
+            @Value("${app.dashboard.timeout-ms:800}") int dashboardTimeoutMs) {
+        return build(Math.min(connectTimeoutMs, dashboardTimeoutMs), Math.min(readTimeoutMs, dashboardTimeoutMs));
+    }
+
+    private static RestTemplate build(int connectTimeoutMs, int readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        return new RestTemplate(requestFactory);
     }
 }
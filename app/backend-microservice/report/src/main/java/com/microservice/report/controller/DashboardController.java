@@ -0,0 +1,50 @@
+package com.microservice.report.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.microservice.report.dto.DashboardResponse;
+import com.microservice.report.service.DashboardService;
+import com.microservice.report.validation.ValidPeriod;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoint agregado del dashboard: reporte del mes, resumen del rango y
+ * transacciones recientes en una sola respuesta.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/reports")
+@Validated
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * @param principal     Usuario autenticado
+     * @param authorization Token del usuario, reenviado al microservicio de transacciones
+     * @param period        Período del reporte principal (yyyy-MM); por defecto el mes actual
+     * @param months        Meses del resumen (1-24), terminando en {@code period}
+     * @return Dashboard con las secciones disponibles
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardResponse> getDashboard(
+            Principal principal,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestParam(required = false) @ValidPeriod String period,
+            @RequestParam(defaultValue = "6") @Min(1) @Max(24) int months) {
+        return ResponseEntity.ok(
+                dashboardService.getDashboard(principal.getName(), authorization, period, months));
+    }
+}
@@ -0,0 +1,62 @@
+package com.microservice.report.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.microservice.report.dto.RebuildJobResponse;
+import com.microservice.report.service.ReportRebuildService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controlador REST de operaciones administrativas sobre reportes.
+ *
+ * Requiere el rol ADMIN (ver {@code app.security.admin-user-ids}).
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin/reports")
+public class ReportAdminController {
+
+    private final ReportRebuildService reportRebuildService;
+
+    /**
+     * Inicia la reconstrucción de reportes en segundo plano.
+     *
+     * @param userId usuario a reconstruir; si se omite, se reconstruyen todos
+     * @return estado inicial del job (202 Accepted)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<RebuildJobResponse> startRebuild(
+            @RequestParam(required = false) String userId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportRebuildService.startRebuild(userId));
+    }
+
+    /**
+     * Consulta el progreso y el throughput de un job de reconstrucción.
+     *
+     * @param jobId identificador del job
+     * @return estado actual del job
+     */
+    @GetMapping("/rebuild/{jobId}")
+    public ResponseEntity<RebuildJobResponse> getRebuildJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(reportRebuildService.getJob(jobId));
+    }
+
+    /**
+     * Reanuda un job fallido desde su último checkpoint.
+     *
+     * @param jobId identificador del job
+     * @return estado del job reanudado (202 Accepted)
+     */
+    @PostMapping("/rebuild/{jobId}/resume")
+    public ResponseEntity<RebuildJobResponse> resumeRebuildJob(@PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportRebuildService.resumeRebuild(jobId));
+    }
+}
@@ -0,0 +1,39 @@
+package com.microservice.report.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.microservice.report.service.ReportStreamService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stream SSE de reportes actualizados del usuario autenticado.
+ *
+ * Eventos: {@code report} (ReportResponse en JSON, id = período) y
+ * {@code resync} (el cliente debe volver a consultar sus reportes).
+ * Como requiere el header Authorization, el cliente debe usar fetch con
+ * lectura en streaming en lugar de {@code EventSource}.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/reports")
+public class ReportStreamController {
+
+    private final ReportStreamService reportStreamService;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(Principal principal) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no")
+                .body(reportStreamService.subscribe(principal.getName()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.microservice.report.dto;
+
+import java.util.List;
+
+import com.microservice.report.infrastructure.dto.RecentTransaction;
+
+/**
+ * Payload del dashboard. Las secciones que no respondieron a tiempo quedan en
+ * {@code null} y se listan en {@code unavailableSections}.
+ */
+public record DashboardResponse(
+        String period,
+        ReportResponse currentReport,
+        ReportSummary summary,
+        List<RecentTransaction> recentTransactions,
+        List<String> unavailableSections) {
+}
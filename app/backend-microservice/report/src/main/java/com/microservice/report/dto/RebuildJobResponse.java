@@ -0,0 +1,18 @@
+package com.microservice.report.dto;
+
+import java.time.OffsetDateTime;
+
+public record RebuildJobResponse(
+        String jobId,
+        String scopeUserId,
+        String status,
+        String checkpointUserId,
+        long processedUsers,
+        long processedPeriods,
+        long failedUsers,
+        double periodsPerSecond,
+        String lastError,
+        OffsetDateTime startedAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime finishedAt) {
+}
@@ -0,0 +1,20 @@
+package com.microservice.report.dto;
+
+/**
+ * Resultado de sincronizar los reportes de un usuario con sus transacciones.
+ *
+ * @param checkedPeriods períodos comparados (con transacciones o con reporte)
+ * @param missing        períodos con transacciones pero sin reporte
+ * @param mismatched     reportes cuyos totales no coincidían con las transacciones
+ * @param orphaned       reportes con totales distintos de cero sin transacciones
+ */
+public record ReportSyncResult(
+        int checkedPeriods,
+        int missing,
+        int mismatched,
+        int orphaned) {
+
+    public int repaired() {
+        return missing + mismatched + orphaned;
+    }
+}
@@ -0,0 +1,10 @@
+package com.microservice.report.event;
+
+import com.microservice.report.model.Report;
+
+/**
+ * Evento de dominio publicado por Spring Data cada vez que un {@link Report}
+ * se guarda vía {@code ReportRepository.save()}.
+ */
+public record ReportChangedEvent(Report report) {
+}
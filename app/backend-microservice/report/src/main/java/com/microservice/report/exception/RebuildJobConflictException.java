@@ -0,0 +1,7 @@
+package com.microservice.report.exception;
+
+public class RebuildJobConflictException extends RuntimeException {
+    public RebuildJobConflictException(String message) {
+        super(message);
+    }
+}
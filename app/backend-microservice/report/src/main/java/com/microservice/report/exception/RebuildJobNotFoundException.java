@@ -0,0 +1,7 @@
+package com.microservice.report.exception;
+
+public class RebuildJobNotFoundException extends RuntimeException {
+    public RebuildJobNotFoundException(String jobId) {
+        super(String.format("Rebuild job not found: '%s'", jobId));
+    }
+}
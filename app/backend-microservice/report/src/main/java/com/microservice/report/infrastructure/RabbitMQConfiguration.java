@@ -20,6 +20,8 @@ public class RabbitMQConfiguration {
     private String transactionCreatedQueue;
     @Value("${rabbitmq.queues.transaction-updated}")
     private String transactionUpdatedQueue;
+    @Value("${rabbitmq.queues.report-delta}")
+    private String reportDeltaQueue;
 
     @Bean
     public TopicExchange transactionExchange() {
@@ -36,6 +38,11 @@ public class RabbitMQConfiguration {
         return new Queue(transactionUpdatedQueue, true);
     }
 
+    @Bean
+    public Queue reportDeltaQueue() {
+        return new Queue(reportDeltaQueue, true);
+    }
+
     @Bean
     public Binding bindingCreated(Queue createdQueue, TopicExchange transactionExchange) {
         return BindingBuilder.bind(createdQueue)
@@ -51,14 +58,25 @@ public class RabbitMQConfiguration {
     }
 
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new JacksonJsonMessageConverter();
+    public Binding bindingReportDelta(Queue reportDeltaQueue, TopicExchange transactionExchange) {
+        return BindingBuilder.bind(reportDeltaQueue)
+                .to(transactionExchange)
+                .with("transaction.report-delta");
+    }
+
+    /**
+     * Acepta {@code TransactionMessage} en binario compacto o en JSON según el
+     * content-type; el resto de mensajes, en JSON.
+     */
+    @Bean
+    public MessageConverter messageConverter() {
+        return new TransactionMessageConverter(new JacksonJsonMessageConverter());
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter());
         return rabbitTemplate;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.microservice.report.infrastructure;
 
+import com.microservice.report.infrastructure.dto.ReportDeltaMessage;
 import com.microservice.report.infrastructure.dto.TransactionMessage;
 import com.microservice.report.infrastructure.mapper.TransactionUpdateMapper;
 import com.microservice.report.service.ReportService;
@@ -34,6 +35,8 @@ import org.springframework.transaction.annotation.Transactional;
  * <ul>
  *   <li>{@code transaction-created} — Routing key: {@code "transaction.created"}</li>
  *   <li>{@code transaction-updated} — Routing key: {@code "transaction.updated"}</li>
+ *   <li>{@code report-delta} — Routing key: {@code "transaction.report-delta"}: un delta
+ *       agregado por período de las operaciones masivas.</li>
  * </ul>
  * <p>Ambas colas están vinculadas al {@code TopicExchange} llamado
  * {@code "transaction-exchange"}. Los nombres de las colas se inyectan desde
@@ -117,6 +120,19 @@ public class ReportConsumer {
         log.info("Successfully updated transaction ID: {}", transactionMessage.transactionId());
     }
 
+    /**
+     * Consume los deltas agregados de las operaciones masivas: una escritura por
+     * período en lugar de una por transacción.
+     *
+     * @param deltaMessage variación de los totales de un usuario en un período
+     */
+    @RabbitListener(queues = "${rabbitmq.queues.report-delta}")
+    public void consumeReportDelta(ReportDeltaMessage deltaMessage) {
+        log.info("Processing report delta for user {} and period {}", deltaMessage.userId(), deltaMessage.period());
+        reportService.applyDelta(deltaMessage.userId(), deltaMessage.period(), deltaMessage.incomeDelta(),
+                deltaMessage.expenseDelta());
+    }
+
     private void handleWithRetry(TransactionMessage transactionMessage) {
         int attempts = 0;
         while (attempts < MAX_RETRIES) {
@@ -0,0 +1,107 @@
+package com.microservice.report.infrastructure;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.microservice.report.infrastructure.dto.TransactionMessage;
+import com.microservice.report.infrastructure.dto.TransactionType;
+
+/**
+ * {@link MessageConverter} que lee el formato binario compacto de
+ * {@link TransactionMessage} y delega en JSON todo lo demás.
+ *
+ * <p>El servicio {@code transaction} elige el formato al publicar y lo indica con el
+ * content-type {@value #CONTENT_TYPE}; los mensajes JSON (productores antiguos o
+ * {@code format: json}) se siguen leyendo igual. Lo que este servicio envía sale
+ * siempre en JSON.</p>
+ *
+ * <p>El formato v1 está documentado en el {@code TransactionMessageConverter} de
+ * {@code transaction}; ambos deben cambiar a la vez y subir la versión si el cambio
+ * no es compatible. Los campos opcionales {@code createdAt} y {@code categoryId} se
+ * descartan aquí: los informes muestran el nombre de la categoría.</p>
+ */
+public class TransactionMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-transaction-message";
+
+    static final byte VERSION = 1;
+    static final int HAS_DESCRIPTION = 1;
+    static final int HAS_PREVIOUS_AMOUNT = 2;
+    static final int HAS_PREVIOUS_DATE = 4;
+    static final int HAS_CREATED_AT = 8;
+    static final int HAS_CATEGORY_ID = 16;
+    static final int HAS_PREVIOUS_TYPE = 32;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final MessageConverter jsonConverter;
+
+    public TransactionMessageConverter(MessageConverter jsonConverter) {
+        this.jsonConverter = jsonConverter;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        return jsonConverter.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        if (CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            return decode(message.getBody());
+        }
+        return jsonConverter.fromMessage(message);
+    }
+
+    static TransactionMessage decode(byte[] body) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new MessageConversionException("Unsupported transaction message version " + version);
+            }
+            long transactionId = in.readLong();
+            String userId = in.readUTF();
+            TransactionType type = type(in.readUnsignedByte());
+            BigDecimal amount = readDecimal(in);
+            LocalDate date = LocalDate.ofEpochDay(in.readInt());
+            String category = in.readUTF();
+
+            int flags = in.readUnsignedByte();
+            String description = (flags & HAS_DESCRIPTION) != 0 ? in.readUTF() : null;
+            BigDecimal previousAmount = (flags & HAS_PREVIOUS_AMOUNT) != 0 ? readDecimal(in) : null;
+            LocalDate previousDate = (flags & HAS_PREVIOUS_DATE) != 0 ? LocalDate.ofEpochDay(in.readInt()) : null;
+            if ((flags & HAS_CREATED_AT) != 0) {
+                in.readLong();
+                in.readInt();
+            }
+            if ((flags & HAS_CATEGORY_ID) != 0) {
+                in.readInt();
+            }
+            TransactionType previousType = (flags & HAS_PREVIOUS_TYPE) != 0 ? type(in.readUnsignedByte()) : null;
+            return new TransactionMessage(transactionId, userId, type, amount, date, category, description,
+                    previousAmount, previousDate, previousType);
+        } catch (IOException e) {
+            throw new MessageConversionException("Malformed transaction message", e);
+        }
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readByte();
+        return BigDecimal.valueOf(in.readLong(), scale);
+    }
+
+    private static TransactionType type(int ordinal) {
+        if (ordinal >= TYPES.length) {
+            throw new MessageConversionException("Unknown transaction type " + ordinal);
+        }
+        return TYPES[ordinal];
+    }
+}
@@ -0,0 +1,118 @@
+package com.microservice.report.infrastructure.client;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.microservice.report.infrastructure.dto.PeriodTotals;
+import com.microservice.report.infrastructure.dto.RecentTransaction;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+import com.microservice.security.ServiceTokenProvider;
+
+/**
+ * Cliente HTTP de los endpoints internos del microservicio de transacciones
+ * ({@code /api/v1/internal/transactions/**}).
+ *
+ * <p>Los endpoints internos se consumen con un token de servicio
+ * ({@link ServiceTokenProvider}), por lo que pueden usarse desde hilos sin contexto
+ * de petición (jobs en segundo plano). Los endpoints públicos reciben el token del
+ * usuario de forma explícita.</p>
+ *
+ * <p>{@link #getRecentTransactions} alimenta una sección del dashboard y usa el
+ * {@code dashboardRestTemplate}, con timeouts acotados por los de la sección.</p>
+ */
+@Component
+public class TransactionServiceClient {
+
+    private static final String INTERNAL_PATH = "/api/v1/internal/transactions";
+
+    private final RestTemplate restTemplate;
+    private final RestTemplate dashboardRestTemplate;
+    private final ServiceTokenProvider serviceTokenProvider;
+
+    @Value("${app.services.transaction.base-url}")
+    private String baseUrl;
+
+    public TransactionServiceClient(
+            RestTemplate restTemplate,
+            @Qualifier("dashboardRestTemplate") RestTemplate dashboardRestTemplate,
+            ServiceTokenProvider serviceTokenProvider) {
+        this.restTemplate = restTemplate;
+        this.dashboardRestTemplate = dashboardRestTemplate;
+        this.serviceTokenProvider = serviceTokenProvider;
+    }
+
+    /**
+     * Lista los userIds con transacciones posteriores al cursor, en orden ascendente.
+     *
+     * @param after último userId de la página anterior, o {@code null} para empezar
+     * @param limit tamaño máximo de la página
+     * @return página de userIds con el cursor siguiente
+     */
+    public UserIdPage listUserIds(String after, int limit) {
+        String url = UriComponentsBuilder.fromUriString(baseUrl + INTERNAL_PATH + "/users")
+                .queryParamIfPresent("after", Optional.ofNullable(after))
+                .queryParam("limit", limit)
+                .toUriString();
+        UserIdPage page = restTemplate.exchange(url, HttpMethod.GET, serviceEntity(),
+                UserIdPage.class).getBody();
+        return page != null ? page : new UserIdPage(List.of(), null);
+    }
+
+    /**
+     * Obtiene los totales por período de un usuario, calculados con una única
+     * consulta agregada en el microservicio de transacciones.
+     *
+     * @param userId      identificador del usuario
+     * @param startPeriod período inicial ({@code yyyy-MM}), o {@code null} sin límite
+     * @param endPeriod   período final ({@code yyyy-MM}), o {@code null} sin límite
+     * @return totales por período en orden ascendente; solo períodos con transacciones
+     */
+    public List<PeriodTotals> getPeriodTotals(String userId, String startPeriod, String endPeriod) {
+        String url = UriComponentsBuilder.fromUriString(baseUrl + INTERNAL_PATH + "/users/{userId}/period-totals")
+                .queryParamIfPresent("startPeriod", Optional.ofNullable(startPeriod))
+                .queryParamIfPresent("endPeriod", Optional.ofNullable(endPeriod))
+                .buildAndExpand(userId)
+                .toUriString();
+        List<PeriodTotals> totals = restTemplate.exchange(url, HttpMethod.GET, serviceEntity(),
+                new ParameterizedTypeReference<List<PeriodTotals>>() {}).getBody();
+        return totals != null ? totals : List.of();
+    }
+
+    /**
+     * Obtiene las transacciones más recientes del usuario dueño del token.
+     *
+     * @param authorization header {@code Authorization} de la petición del usuario
+     * @param size          número de transacciones
+     * @return transacciones ordenadas por fecha descendente
+     */
+    public List<RecentTransaction> getRecentTransactions(String authorization, int size) {
+        String url = UriComponentsBuilder.fromUriString(baseUrl + "/api/v1/transactions")
+                .queryParam("size", size)
+                .queryParam("sort", "date,desc")
+                .toUriString();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        TransactionPage page = dashboardRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers),
+                TransactionPage.class).getBody();
+        return page != null && page.content() != null ? page.content() : List.of();
+    }
+
+    private HttpEntity<Void> serviceEntity() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(serviceTokenProvider.getToken());
+        return new HttpEntity<>(headers);
+    }
+
+    private record TransactionPage(List<RecentTransaction> content) {
+    }
+}
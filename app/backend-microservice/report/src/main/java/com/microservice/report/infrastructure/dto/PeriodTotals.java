@@ -0,0 +1,13 @@
+package com.microservice.report.infrastructure.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Totales de ingresos y gastos de un usuario en un período ({@code yyyy-MM}),
+ * calculados por el microservicio de transacciones.
+ */
+public record PeriodTotals(
+        String period,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense) {
+}
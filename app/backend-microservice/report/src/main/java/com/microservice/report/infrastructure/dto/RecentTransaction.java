@@ -0,0 +1,16 @@
+package com.microservice.report.infrastructure.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Vista reducida de una transacción tal como la devuelve el microservicio de transacciones.
+ */
+public record RecentTransaction(
+        Long transactionId,
+        TransactionType type,
+        BigDecimal amount,
+        String category,
+        LocalDate date,
+        String description) {
+}
@@ -0,0 +1,18 @@
+package com.microservice.report.infrastructure.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Variación agregada de los totales de un usuario en un período, publicada por las
+ * operaciones masivas del microservicio de transacciones.
+ *
+ * @param period       período en formato {@code yyyy-MM}
+ * @param incomeDelta  cantidad a sumar a {@code totalIncome} (negativa al borrar)
+ * @param expenseDelta cantidad a sumar a {@code totalExpense} (negativa al borrar)
+ */
+public record ReportDeltaMessage(
+        String userId,
+        String period,
+        BigDecimal incomeDelta,
+        BigDecimal expenseDelta) {
+}
@@ -16,5 +16,6 @@ public record TransactionMessage(
         @NotBlank(message = "Category cannot be null or empty") String category,
         String description,
         BigDecimal previousAmount,
-        LocalDate previousDate) {
+        LocalDate previousDate,
+        TransactionType previousType) {
 }
\ No newline at end of file
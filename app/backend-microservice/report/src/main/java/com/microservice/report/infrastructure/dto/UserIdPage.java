@@ -0,0 +1,12 @@
+package com.microservice.report.infrastructure.dto;
+
+import java.util.List;
+
+/**
+ * Página de userIds con transacciones, paginada por cursor (keyset).
+ * {@code nextCursor} es {@code null} cuando no hay más páginas.
+ */
+public record UserIdPage(
+        List<String> userIds,
+        String nextCursor) {
+}
@@ -5,6 +5,11 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+/**
+ * Descompone una actualización en la reversión de los valores anteriores y la
+ * aplicación de los nuevos. La reversión usa el tipo anterior; los productores que no
+ * lo envían solo publican actualizaciones sin cambio de tipo, así que se toma el actual.
+ */
 @Component
 public class TransactionUpdateMapper {
 
@@ -16,12 +21,13 @@ public class TransactionUpdateMapper {
         TransactionMessage reversal = new TransactionMessage(
                 message.transactionId(),
                 message.userId(),
-                message.type(),
+                message.previousType() != null ? message.previousType() : message.type(),
                 message.previousAmount().negate(),
                 message.previousDate(),
                 message.category(),
                 message.description(),
                 null,
+                null,
                 null
         );
 
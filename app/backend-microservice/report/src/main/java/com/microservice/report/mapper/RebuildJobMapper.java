@@ -0,0 +1,38 @@
+package com.microservice.report.mapper;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import com.microservice.report.dto.RebuildJobResponse;
+import com.microservice.report.model.ReportRebuildJob;
+
+public class RebuildJobMapper {
+
+    public static RebuildJobResponse toResponse(ReportRebuildJob job) {
+        if (job == null) {
+            return null;
+        }
+        return new RebuildJobResponse(
+                job.getJobId(),
+                job.getScopeUserId(),
+                job.getStatus().name(),
+                job.getCheckpointUserId(),
+                job.getProcessedUsers(),
+                job.getProcessedPeriods(),
+                job.getFailedUsers(),
+                periodsPerSecond(job),
+                job.getLastError(),
+                job.getStartedAt(),
+                job.getUpdatedAt(),
+                job.getFinishedAt());
+    }
+
+    private static double periodsPerSecond(ReportRebuildJob job) {
+        if (job.getStartedAt() == null) {
+            return 0.0;
+        }
+        OffsetDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : OffsetDateTime.now();
+        long elapsedMs = Duration.between(job.getStartedAt(), end).toMillis();
+        return elapsedMs <= 0 ? 0.0 : job.getProcessedPeriods() * 1000.0 / elapsedMs;
+    }
+}
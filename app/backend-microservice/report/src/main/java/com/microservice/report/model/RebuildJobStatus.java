@@ -0,0 +1,7 @@
+package com.microservice.report.model;
+
+public enum RebuildJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,50 @@
+package com.microservice.report.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Posición persistida de la conciliación incremental.
+ *
+ * <p>{@code lastUserId} es el último usuario conciliado en la pasada actual;
+ * {@code null} indica que la siguiente ejecución empieza una pasada nueva.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "reconciliation_cursors")
+public class ReconciliationCursor {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "name", length = 64)
+    private String name;
+    @Column(name = "last_user_id")
+    private String lastUserId;
+    @Column(name = "completed_passes", nullable = false)
+    private long completedPasses;
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.updatedAt = OffsetDateTime.now();
+    }
+}
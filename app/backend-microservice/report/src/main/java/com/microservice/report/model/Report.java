@@ -2,12 +2,18 @@ package com.microservice.report.model;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.DomainEvents;
+
+import com.microservice.report.event.ReportChangedEvent;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -26,7 +32,7 @@ import lombok.Setter;
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "reports")
+@Table(name = "reports", indexes = @Index(name = "idx_reports_user_period", columnList = "user_id, period"))
 public class Report {
     @Id
     @EqualsAndHashCode.Include
@@ -63,4 +69,12 @@ public class Report {
     public void preUpdate() {
         this.updatedAt = OffsetDateTime.now();
     }
+
+    /**
+     * Cada guardado notifica el cambio (p. ej. al stream SSE de reportes).
+     */
+    @DomainEvents
+    List<ReportChangedEvent> domainEvents() {
+        return List.of(new ReportChangedEvent(this));
+    }
 }
@@ -0,0 +1,75 @@
+package com.microservice.report.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Estado persistido de un job de reconstrucción de reportes.
+ *
+ * <p>{@code checkpointUserId} guarda el último userId cuya página fue procesada
+ * por completo; al reanudar, el job continúa desde el siguiente userId.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "report_rebuild_jobs")
+public class ReportRebuildJob {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+    @Column(name = "scope_user_id")
+    private String scopeUserId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private RebuildJobStatus status;
+    @Column(name = "checkpoint_user_id")
+    private String checkpointUserId;
+    @Column(name = "processed_users", nullable = false)
+    private long processedUsers;
+    @Column(name = "processed_periods", nullable = false)
+    private long processedPeriods;
+    @Column(name = "failed_users", nullable = false)
+    private long failedUsers;
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    @Column(name = "started_at", nullable = false)
+    private OffsetDateTime startedAt;
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+    @Column(name = "finished_at")
+    private OffsetDateTime finishedAt;
+
+    @PrePersist
+    public void prePersist() {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (this.startedAt == null) {
+            this.startedAt = now;
+        }
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = OffsetDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.microservice.report.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.microservice.report.model.ReportRebuildJob;
+
+@Repository
+public interface ReportRebuildJobRepository extends JpaRepository<ReportRebuildJob, String> {
+}
@@ -1,6 +1,8 @@
 package com.microservice.report.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.microservice.report.model.Report;
 
@@ -20,4 +22,14 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
             String userId,
             String startPeriod,
             String endPeriod);
+
+    List<Report> findByUserIdOrderByPeriodAsc(String userId);
+
+    /**
+     * Página de userIds con reportes, ordenada ascendentemente, posteriores a
+     * {@code after} (paginación por cursor). Incluye usuarios que ya no tienen
+     * transacciones y cuyos reportes deben quedar en cero.
+     */
+    @Query("SELECT DISTINCT r.userId FROM Report r WHERE r.userId > :after ORDER BY r.userId")
+    List<String> findDistinctUserIdsAfter(@Param("after") String after, Pageable pageable);
 }
@@ -0,0 +1,7 @@
+package com.microservice.report.service;
+
+import com.microservice.report.dto.DashboardResponse;
+
+public interface DashboardService {
+    DashboardResponse getDashboard(String userId, String authorization, String period, int months);
+}
@@ -0,0 +1,11 @@
+package com.microservice.report.service;
+
+import com.microservice.report.dto.RebuildJobResponse;
+
+public interface ReportRebuildService {
+    RebuildJobResponse startRebuild(String userId);
+
+    RebuildJobResponse resumeRebuild(String jobId);
+
+    RebuildJobResponse getJob(String jobId);
+}
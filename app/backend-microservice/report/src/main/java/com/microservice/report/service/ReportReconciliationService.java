@@ -0,0 +1,7 @@
+package com.microservice.report.service;
+
+import com.microservice.report.dto.ReportSyncResult;
+
+public interface ReportReconciliationService {
+    ReportSyncResult reconcileNextChunk();
+}
@@ -4,6 +4,7 @@ import com.microservice.report.dto.ReportResponse;
 import com.microservice.report.dto.ReportSummary;
 import com.microservice.report.infrastructure.dto.TransactionMessage;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import com.microservice.report.dto.PaginatedResponse;
@@ -23,4 +24,8 @@ public interface ReportService {
     void deleteReportById(String userId, Long reportId);
 
     ReportResponse recalculateReport(String userId, String period);
+
+    void applyDelta(String userId, String period, BigDecimal incomeDelta, BigDecimal expenseDelta);
+
+    ReportResponse upsertTotals(String userId, String period, BigDecimal totalIncome, BigDecimal totalExpense);
 }
@@ -0,0 +1,11 @@
+package com.microservice.report.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.microservice.report.dto.ReportResponse;
+
+public interface ReportStreamService {
+    SseEmitter subscribe(String userId);
+
+    void publish(ReportResponse report);
+}
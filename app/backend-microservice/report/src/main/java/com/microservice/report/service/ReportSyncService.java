@@ -0,0 +1,10 @@
+package com.microservice.report.service;
+
+import com.microservice.report.dto.ReportSyncResult;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+
+public interface ReportSyncService {
+    UserIdPage listUserIds(String after, int limit);
+
+    ReportSyncResult syncUser(String userId);
+}
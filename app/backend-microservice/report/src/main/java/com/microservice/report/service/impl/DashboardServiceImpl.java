@@ -0,0 +1,131 @@
+package com.microservice.report.service.impl;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.microservice.report.dto.DashboardResponse;
+import com.microservice.report.dto.ReportResponse;
+import com.microservice.report.dto.ReportSummary;
+import com.microservice.report.exception.ReportNotFoundException;
+import com.microservice.report.infrastructure.client.TransactionServiceClient;
+import com.microservice.report.infrastructure.dto.RecentTransaction;
+import com.microservice.report.service.DashboardService;
+import com.microservice.report.service.ReportService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compone el dashboard en una sola llamada.
+ *
+ * <p>Las tres secciones (reporte del mes, resumen de los últimos meses y
+ * transacciones recientes) se consultan en paralelo en un executor acotado. Cada
+ * una tiene {@code app.dashboard.timeout-ms} para responder; si expira, falla o el
+ * executor está saturado, la sección se devuelve vacía y se informa en
+ * {@code unavailableSections} en lugar de fallar la respuesta completa. La
+ * latencia total queda acotada por la sección más lenta o por el timeout.</p>
+ */
+@Slf4j
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    static final String CURRENT_REPORT = "currentReport";
+    static final String SUMMARY = "summary";
+    static final String RECENT_TRANSACTIONS = "recentTransactions";
+
+    private final ReportService reportService;
+    private final TransactionServiceClient transactionServiceClient;
+    private final Executor executor;
+    private final long timeoutMs;
+    private final int recentTransactionsSize;
+
+    public DashboardServiceImpl(
+            ReportService reportService,
+            TransactionServiceClient transactionServiceClient,
+            @Qualifier("dashboardExecutor") Executor executor,
+            @Value("${app.dashboard.timeout-ms:800}") long timeoutMs,
+            @Value("${app.dashboard.recent-transactions:5}") int recentTransactionsSize) {
+        this.reportService = reportService;
+        this.transactionServiceClient = transactionServiceClient;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.recentTransactionsSize = recentTransactionsSize;
+    }
+
+    /**
+     * @param userId        usuario autenticado
+     * @param authorization header {@code Authorization} de la petición, reenviado
+     *                      al microservicio de transacciones
+     * @param period        período del reporte principal ({@code yyyy-MM}); el actual si es {@code null}
+     * @param months        meses incluidos en el resumen, terminando en {@code period}
+     */
+    @Override
+    public DashboardResponse getDashboard(String userId, String authorization, String period, int months) {
+        YearMonth end = period == null ? YearMonth.now() : YearMonth.parse(period);
+        String endPeriod = end.toString();
+        String startPeriod = end.minusMonths(Math.max(months, 1) - 1L).toString();
+
+        CompletableFuture<Section<ReportResponse>> currentReport = section(CURRENT_REPORT, () -> {
+            try {
+                return reportService.getReport(userId, endPeriod);
+            } catch (ReportNotFoundException e) {
+                return null;
+            }
+        });
+        CompletableFuture<Section<ReportSummary>> summary = section(SUMMARY,
+                () -> reportService.getReportsByPeriodRange(userId, startPeriod, endPeriod));
+        CompletableFuture<Section<List<RecentTransaction>>> recentTransactions = section(RECENT_TRANSACTIONS,
+                () -> transactionServiceClient.getRecentTransactions(authorization, recentTransactionsSize));
+
+        CompletableFuture.allOf(currentReport, summary, recentTransactions).join();
+
+        List<String> unavailable = new ArrayList<>();
+        return new DashboardResponse(
+                endPeriod,
+                currentReport.join().valueOr(unavailable),
+                summary.join().valueOr(unavailable),
+                recentTransactions.join().valueOr(unavailable),
+                unavailable);
+    }
+
+    private <T> CompletableFuture<Section<T>> section(String name, Supplier<T> supplier) {
+        CompletableFuture<Section<T>> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> Section.of(name, supplier.get()), executor);
+        } catch (RuntimeException e) {
+            log.warn(">>> [REPORT] Dashboard section {} rejected: {}", name, e.getMessage());
+            return CompletableFuture.completedFuture(Section.unavailable(name));
+        }
+        return future
+                .completeOnTimeout(Section.unavailable(name), timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn(">>> [REPORT] Dashboard section {} failed: {}", name, ex.getMessage());
+                    return Section.unavailable(name);
+                });
+    }
+
+    private record Section<T>(String name, T value, boolean available) {
+        static <T> Section<T> of(String name, T value) {
+            return new Section<>(name, value, true);
+        }
+
+        static <T> Section<T> unavailable(String name) {
+            return new Section<>(name, null, false);
+        }
+
+        T valueOr(List<String> unavailable) {
+            if (!available) {
+                unavailable.add(name);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.microservice.report.service.impl;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.microservice.report.dto.RebuildJobResponse;
+import com.microservice.report.exception.RebuildJobConflictException;
+import com.microservice.report.exception.RebuildJobNotFoundException;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+import com.microservice.report.mapper.RebuildJobMapper;
+import com.microservice.report.model.RebuildJobStatus;
+import com.microservice.report.model.ReportRebuildJob;
+import com.microservice.report.repository.ReportRebuildJobRepository;
+import com.microservice.report.service.ReportRebuildService;
+import com.microservice.report.service.ReportSyncService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconstrucción completa de reportes a partir del microservicio de transacciones.
+ *
+ * <h3>Flujo</h3>
+ * <ol>
+ *   <li>El coordinador (un hilo) recorre por páginas de {@code app.rebuild.page-size}
+ *       los userIds con transacciones o con reportes
+ *       ({@link ReportSyncService#listUserIds}), usando paginación por cursor.</li>
+ *   <li>Cada usuario de la página se reconstruye en el pool de workers
+ *       ({@code app.rebuild.parallelism}) vía {@link ReportSyncService#syncUser}:
+ *       una consulta agregada devuelve sus totales por período y se reescriben los
+ *       períodos que difieren.</li>
+ *   <li>Al terminar la página se persiste el checkpoint (último userId) y los
+ *       contadores; un job fallido o interrumpido se reanuda desde ahí.</li>
+ * </ol>
+ *
+ * <p>Los reportes de períodos sin transacciones (p. ej. todas eliminadas) se
+ * ponen en cero, también los de usuarios que ya no tienen ninguna. La escritura es
+ * idempotente, por lo que reprocesar la última página tras una caída no altera los
+ * totales.</p>
+ *
+ * <p>Solo se admite un job a la vez por instancia del servicio. La exclusión vive en
+ * memoria: no impide que dos réplicas reconstruyan a la vez. Es inofensivo para los
+ * totales, porque la escritura es idempotente, pero duplica la carga sobre
+ * {@code transaction}, así que los jobs deben lanzarse contra una sola réplica.</p>
+ */
+@Slf4j
+@Service
+public class ReportRebuildServiceImpl implements ReportRebuildService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ReportRebuildJobRepository jobRepository;
+    private final ReportSyncService reportSyncService;
+    private final ThreadPoolTaskExecutor coordinator;
+    private final ThreadPoolTaskExecutor workers;
+    private final int pageSize;
+    private final AtomicReference<String> activeJobId = new AtomicReference<>();
+
+    public ReportRebuildServiceImpl(
+            ReportRebuildJobRepository jobRepository,
+            ReportSyncService reportSyncService,
+            @Qualifier("reportRebuildCoordinator") ThreadPoolTaskExecutor coordinator,
+            @Qualifier("reportRebuildWorkers") ThreadPoolTaskExecutor workers,
+            @Value("${app.rebuild.page-size:100}") int pageSize) {
+        this.jobRepository = jobRepository;
+        this.reportSyncService = reportSyncService;
+        this.coordinator = coordinator;
+        this.workers = workers;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Inicia un job de reconstrucción en segundo plano.
+     *
+     * @param userId usuario a reconstruir, o {@code null} para todos los usuarios
+     * @return estado inicial del job
+     * @throws RebuildJobConflictException si ya hay un job en ejecución
+     */
+    @Override
+    public RebuildJobResponse startRebuild(String userId) {
+        ReportRebuildJob job = ReportRebuildJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .scopeUserId(userId == null || userId.isBlank() ? null : userId)
+                .status(RebuildJobStatus.RUNNING)
+                .build();
+        return launch(job);
+    }
+
+    /**
+     * Reanuda un job fallido o interrumpido desde su último checkpoint.
+     *
+     * @param jobId identificador del job
+     * @return estado del job reanudado
+     * @throws RebuildJobNotFoundException si el job no existe
+     * @throws RebuildJobConflictException si el job ya terminó o hay otro en ejecución
+     */
+    @Override
+    public RebuildJobResponse resumeRebuild(String jobId) {
+        ReportRebuildJob job = findJobOrThrow(jobId);
+        if (job.getStatus() == RebuildJobStatus.COMPLETED) {
+            throw new RebuildJobConflictException("Rebuild job already completed: " + jobId);
+        }
+        job.setStatus(RebuildJobStatus.RUNNING);
+        job.setFinishedAt(null);
+        job.setLastError(null);
+        return launch(job);
+    }
+
+    @Override
+    public RebuildJobResponse getJob(String jobId) {
+        return RebuildJobMapper.toResponse(findJobOrThrow(jobId));
+    }
+
+    private RebuildJobResponse launch(ReportRebuildJob job) {
+        if (!activeJobId.compareAndSet(null, job.getJobId())) {
+            throw new RebuildJobConflictException("Another rebuild job is running: " + activeJobId.get());
+        }
+        boolean started = false;
+        try {
+            jobRepository.save(job);
+            coordinator.execute(() -> run(job));
+            started = true;
+        } catch (TaskRejectedException e) {
+            markFailed(job, "Rebuild coordinator is busy");
+            throw new RebuildJobConflictException("Rebuild coordinator is busy");
+        } finally {
+            // run() libera la exclusión al terminar; si no llegó a lanzarse, se libera aquí.
+            if (!started) {
+                activeJobId.compareAndSet(job.getJobId(), null);
+            }
+        }
+        log.info(">>> [REPORT] Rebuild job {} started (scope: {}, checkpoint: {})",
+                job.getJobId(), job.getScopeUserId() != null ? job.getScopeUserId() : "all users",
+                job.getCheckpointUserId());
+        return RebuildJobMapper.toResponse(job);
+    }
+
+    private void run(ReportRebuildJob job) {
+        try {
+            if (job.getScopeUserId() != null) {
+                processPage(job, List.of(job.getScopeUserId()));
+            } else {
+                String cursor = job.getCheckpointUserId();
+                do {
+                    UserIdPage page = reportSyncService.listUserIds(cursor, pageSize);
+                    if (page.userIds().isEmpty()) {
+                        break;
+                    }
+                    processPage(job, page.userIds());
+                    cursor = page.nextCursor();
+                } while (cursor != null);
+            }
+            job.setStatus(RebuildJobStatus.COMPLETED);
+            job.setFinishedAt(OffsetDateTime.now());
+            jobRepository.save(job);
+            log.info(">>> [REPORT] Rebuild job {} completed: {} users, {} periods, {} failed",
+                    job.getJobId(), job.getProcessedUsers(), job.getProcessedPeriods(), job.getFailedUsers());
+        } catch (RuntimeException e) {
+            log.error(">>> [REPORT] Rebuild job {} failed at checkpoint {}: {}",
+                    job.getJobId(), job.getCheckpointUserId(), e.getMessage(), e);
+            markFailed(job, e.getMessage());
+        } finally {
+            activeJobId.set(null);
+        }
+    }
+
+    /**
+     * Reconstruye en paralelo los usuarios de una página y persiste el checkpoint.
+     * Un usuario fallido se cuenta y registra, pero no detiene el job.
+     */
+    private void processPage(ReportRebuildJob job, List<String> userIds) {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            futures.add(CompletableFuture.supplyAsync(
+                            () -> reportSyncService.syncUser(userId).checkedPeriods(), workers)
+                    .exceptionally(ex -> {
+                        log.warn(">>> [REPORT] Rebuild of user {} failed: {}", userId, ex.getMessage());
+                        return -1;
+                    }));
+        }
+
+        long periods = 0;
+        long failed = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            int written = future.join();
+            if (written < 0) {
+                failed++;
+            } else {
+                periods += written;
+            }
+        }
+
+        job.setProcessedUsers(job.getProcessedUsers() + userIds.size() - failed);
+        job.setProcessedPeriods(job.getProcessedPeriods() + periods);
+        job.setFailedUsers(job.getFailedUsers() + failed);
+        job.setCheckpointUserId(userIds.get(userIds.size() - 1));
+        jobRepository.save(job);
+    }
+
+    private void markFailed(ReportRebuildJob job, String error) {
+        job.setStatus(RebuildJobStatus.FAILED);
+        job.setFinishedAt(OffsetDateTime.now());
+        job.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        jobRepository.save(job);
+    }
+
+    private ReportRebuildJob findJobOrThrow(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new RebuildJobNotFoundException(jobId));
+    }
+}
@@ -0,0 +1,160 @@
+package com.microservice.report.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.microservice.report.dto.ReportSyncResult;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+import com.microservice.report.model.ReconciliationCursor;
+import com.microservice.report.repository.ReconciliationCursorRepository;
+import com.microservice.report.service.ReportReconciliationService;
+import com.microservice.report.service.ReportSyncService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Conciliación periódica e incremental entre transacciones y reportes.
+ *
+ * <p>Los eventos de transacción pueden perderse (publicación asíncrona
+ * fire-and-forget) o aplicarse dos veces, y los totales de los reportes se
+ * desvían sin que nadie lo note. Cada ejecución concilia un bloque de
+ * {@code app.reconciliation.chunk-size} usuarios a partir del cursor persistido
+ * y avanza el cursor; al llegar al final empieza una nueva pasada. Así nunca se
+ * recorre la tabla completa en una sola transacción, y un reinicio continúa
+ * donde se quedó.</p>
+ *
+ * <p>Los bloques se forman con los usuarios que tienen transacciones o reportes
+ * ({@link ReportSyncService#listUserIds}): un usuario que eliminó todas sus
+ * transacciones también se visita y sus reportes se ponen en cero.</p>
+ *
+ * <p>Una corrección puede cruzarse con un evento que llega mientras se concilia
+ * el mismo usuario; la escritura es absoluta, así que la siguiente pasada deja
+ * el reporte consistente.</p>
+ *
+ * <h3>Métricas</h3>
+ * <ul>
+ *   <li>{@code report.reconciliation.drift{kind=missing|mismatched|orphaned}}:
+ *       períodos corregidos por tipo de desviación.</li>
+ *   <li>{@code report.reconciliation.periods.checked} y
+ *       {@code report.reconciliation.users.failed}.</li>
+ *   <li>{@code report.reconciliation.chunk}: duración de cada bloque.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ReportReconciliationServiceImpl implements ReportReconciliationService {
+
+    static final String CURSOR_NAME = "report-reconciliation";
+
+    private final ReconciliationCursorRepository cursorRepository;
+    private final ReportSyncService reportSyncService;
+    private final int chunkSize;
+    private final boolean enabled;
+
+    private final Counter missingCounter;
+    private final Counter mismatchedCounter;
+    private final Counter orphanedCounter;
+    private final Counter checkedCounter;
+    private final Counter failedUsersCounter;
+    private final Timer chunkTimer;
+
+    public ReportReconciliationServiceImpl(
+            ReconciliationCursorRepository cursorRepository,
+            ReportSyncService reportSyncService,
+            MeterRegistry meterRegistry,
+            @Value("${app.reconciliation.chunk-size:50}") int chunkSize,
+            @Value("${app.reconciliation.enabled:true}") boolean enabled) {
+        this.cursorRepository = cursorRepository;
+        this.reportSyncService = reportSyncService;
+        this.chunkSize = chunkSize;
+        this.enabled = enabled;
+        this.missingCounter = driftCounter(meterRegistry, "missing");
+        this.mismatchedCounter = driftCounter(meterRegistry, "mismatched");
+        this.orphanedCounter = driftCounter(meterRegistry, "orphaned");
+        this.checkedCounter = Counter.builder("report.reconciliation.periods.checked")
+                .description("Report periods compared against transaction totals")
+                .register(meterRegistry);
+        this.failedUsersCounter = Counter.builder("report.reconciliation.users.failed")
+                .description("Users whose reconciliation failed")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("report.reconciliation.chunk")
+                .description("Duration of one reconciliation chunk")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.reconciliation.initial-delay-ms:60000}",
+            fixedDelayString = "${app.reconciliation.interval-ms:60000}")
+    public void scheduledReconciliation() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcileNextChunk();
+        } catch (RuntimeException e) {
+            log.warn(">>> [REPORT] Reconciliation chunk failed, will retry on next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Concilia el siguiente bloque de usuarios y avanza el cursor.
+     *
+     * @return totales del bloque (períodos revisados y corregidos)
+     */
+    @Override
+    public ReportSyncResult reconcileNextChunk() {
+        return chunkTimer.record(this::doReconcileNextChunk);
+    }
+
+    private ReportSyncResult doReconcileNextChunk() {
+        ReconciliationCursor cursor = cursorRepository.findById(CURSOR_NAME)
+                .orElseGet(() -> ReconciliationCursor.builder().name(CURSOR_NAME).build());
+
+        UserIdPage page = reportSyncService.listUserIds(cursor.getLastUserId(), chunkSize);
+
+        int checked = 0;
+        int missing = 0;
+        int mismatched = 0;
+        int orphaned = 0;
+        for (String userId : page.userIds()) {
+            try {
+                ReportSyncResult result = reportSyncService.syncUser(userId);
+                checked += result.checkedPeriods();
+                missing += result.missing();
+                mismatched += result.mismatched();
+                orphaned += result.orphaned();
+            } catch (RuntimeException e) {
+                failedUsersCounter.increment();
+                log.warn(">>> [REPORT] Reconciliation of user {} failed: {}", userId, e.getMessage());
+            }
+        }
+
+        checkedCounter.increment(checked);
+        missingCounter.increment(missing);
+        mismatchedCounter.increment(mismatched);
+        orphanedCounter.increment(orphaned);
+
+        if (page.nextCursor() == null) {
+            cursor.setLastUserId(null);
+            cursor.setCompletedPasses(cursor.getCompletedPasses() + 1);
+        } else {
+            cursor.setLastUserId(page.nextCursor());
+        }
+        cursorRepository.save(cursor);
+
+        ReportSyncResult total = new ReportSyncResult(checked, missing, mismatched, orphaned);
+        log.debug(">>> [REPORT] Reconciled {} users: {}", page.userIds().size(), total);
+        return total;
+    }
+
+    private static Counter driftCounter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("report.reconciliation.drift")
+                .description("Report periods repaired by reconciliation")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+}
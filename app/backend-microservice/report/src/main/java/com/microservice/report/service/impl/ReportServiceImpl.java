@@ -179,6 +179,30 @@ public class ReportServiceImpl implements ReportService {
         reportRepository.save(report);
     }
 
+    /**
+     * Suma un delta agregado a los totales de un período, creando el reporte si no existe.
+     *
+     * <p>Lo usan las operaciones masivas del microservicio de transacciones: un borrado
+     * de cientos de transacciones llega como un único delta por período.</p>
+     *
+     * @param userId       identificador del usuario
+     * @param period       período mensual en formato {@code "yyyy-MM"}
+     * @param incomeDelta  cantidad a sumar a {@code totalIncome}
+     * @param expenseDelta cantidad a sumar a {@code totalExpense}
+     */
+    @Transactional
+    @Override
+    public void applyDelta(String userId, String period, BigDecimal incomeDelta, BigDecimal expenseDelta) {
+        validateUserId(userId);
+        validatePeriod(period);
+        Report report = reportRepository.findByUserIdAndPeriod(userId, period)
+                .orElseGet(() -> createNewReport(userId, period));
+        report.setTotalIncome(report.getTotalIncome().add(incomeDelta));
+        report.setTotalExpense(report.getTotalExpense().add(expenseDelta));
+        recalculateBalance(report);
+        reportRepository.save(report);
+    }
+
     /**
      * Acumula el monto de una transacción en el total correspondiente.
      *
@@ -425,6 +449,32 @@ public class ReportServiceImpl implements ReportService {
         }
     }
 
+    /**
+     * Reemplaza los totales de un reporte con valores absolutos, creándolo si no existe.
+     *
+     * <p>A diferencia de {@link #updateReport}, que acumula deltas, este método es
+     * idempotente: es la ruta de escritura de los procesos de reconstrucción, que
+     * calculan los totales directamente en el microservicio de transacciones.</p>
+     *
+     * @param userId       identificador del usuario
+     * @param period       período mensual en formato {@code "yyyy-MM"}
+     * @param totalIncome  total de ingresos del período
+     * @param totalExpense total de gastos del período
+     * @return reporte actualizado
+     */
+    @Transactional
+    @Override
+    public ReportResponse upsertTotals(String userId, String period, BigDecimal totalIncome, BigDecimal totalExpense) {
+        validateUserId(userId);
+        validatePeriod(period);
+        Report report = reportRepository.findByUserIdAndPeriod(userId, period)
+                .orElseGet(() -> Report.builder().userId(userId).period(period).build());
+        report.setTotalIncome(totalIncome);
+        report.setTotalExpense(totalExpense);
+        report.setBalance(calculateBalance(totalIncome, totalExpense));
+        return ReportMapper.toResponse(reportRepository.save(report));
+    }
+
     private String getJwtFromContext() {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes != null) {
@@ -0,0 +1,269 @@
+package com.microservice.report.service.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.microservice.report.dto.ReportResponse;
+import com.microservice.report.event.ReportChangedEvent;
+import com.microservice.report.mapper.ReportMapper;
+import com.microservice.report.service.ReportStreamService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Difunde por Server-Sent Events los reportes actualizados de cada usuario.
+ *
+ * <h3>Flujo</h3>
+ * <p>Cada {@code save()} de un reporte publica un {@link ReportChangedEvent};
+ * tras el commit se encola el {@link ReportResponse} en las conexiones del
+ * usuario y un hilo del dispatcher lo envía como evento {@code report}.</p>
+ *
+ * <h3>Buffer por conexión</h3>
+ * <ul>
+ *   <li>Está acotado por {@code app.sse.buffer-size} y se coalesce por período:
+ *       si el cliente aún no recibió el valor anterior de un período, solo se
+ *       envía el más reciente.</li>
+ *   <li>Si se desborda, se descarta el contenido y se envía un evento
+ *       {@code resync}: el cliente debe volver a consultar {@code /api/v1/reports}.</li>
+ * </ul>
+ *
+ * <h3>Límites</h3>
+ * <p>Cada usuario mantiene como máximo {@code app.sse.max-connections-per-user}
+ * conexiones; al superar el límite se cierra la más antigua. Un heartbeat
+ * (comentario SSE) cada {@code app.sse.heartbeat-ms} mantiene viva la conexión a
+ * través de proxies y detecta clientes desconectados.</p>
+ */
+@Slf4j
+@Service
+public class ReportStreamServiceImpl implements ReportStreamService {
+
+    private final Map<String, Deque<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final TaskExecutor dispatcher;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final Counter resyncCounter;
+
+    public ReportStreamServiceImpl(
+            @Qualifier("reportStreamDispatcher") TaskExecutor dispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${app.sse.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.sse.buffer-size:16}") int bufferSize,
+            @Value("${app.sse.max-connections-per-user:3}") int maxConnectionsPerUser) {
+        this.dispatcher = dispatcher;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.resyncCounter = Counter.builder("report.stream.resyncs")
+                .description("SSE buffers that overflowed and asked the client to resync")
+                .register(meterRegistry);
+        Gauge.builder("report.stream.connections", subscriptions,
+                        subs -> subs.values().stream().mapToInt(Deque::size).sum())
+                .description("Open report SSE connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre una conexión SSE para el usuario.
+     *
+     * @param userId usuario autenticado
+     * @return emitter que el controlador devuelve como respuesta
+     */
+    @Override
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = new Subscription(userId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> {
+            remove(subscription);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(subscription));
+
+        Deque<Subscription> userSubscriptions = subscriptions.compute(userId, (key, current) -> {
+            Deque<Subscription> deque = current != null ? current : new ConcurrentLinkedDeque<>();
+            deque.addLast(subscription);
+            return deque;
+        });
+        while (userSubscriptions.size() > maxConnectionsPerUser) {
+            Subscription oldest = userSubscriptions.pollFirst();
+            if (oldest != null) {
+                oldest.emitter.complete();
+            }
+        }
+        log.debug(">>> [REPORT] SSE subscription opened for user {}", userId);
+        return emitter;
+    }
+
+    /**
+     * Encola un reporte en todas las conexiones de su usuario.
+     */
+    @Override
+    public void publish(ReportResponse report) {
+        Deque<Subscription> userSubscriptions = subscriptions.get(report.userId());
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            if (subscription.offer(report)) {
+                resyncCounter.increment();
+            }
+            schedule(subscription);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportChanged(ReportChangedEvent event) {
+        if (subscriptions.containsKey(event.report().getUserId())) {
+            publish(ReportMapper.toResponse(event.report()));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        for (Deque<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.requestHeartbeat();
+                schedule(subscription);
+            }
+        }
+    }
+
+    private void schedule(Subscription subscription) {
+        if (!subscription.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(subscription));
+        } catch (TaskRejectedException e) {
+            subscription.scheduled.set(false);
+            log.warn(">>> [REPORT] SSE dispatcher saturated; events for user {} stay buffered",
+                    subscription.userId);
+        }
+    }
+
+    /**
+     * Envía todo lo pendiente de una conexión. Como máximo un drain por conexión
+     * se ejecuta a la vez, lo que preserva el orden de los eventos.
+     */
+    private void drain(Subscription subscription) {
+        try {
+            while (true) {
+                Pending pending = subscription.takePending();
+                if (pending.isEmpty()) {
+                    subscription.scheduled.set(false);
+                    if (!subscription.hasPending() || !subscription.scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                send(subscription.emitter, pending);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug(">>> [REPORT] SSE client of user {} disconnected: {}", subscription.userId, e.getMessage());
+            remove(subscription);
+            subscription.scheduled.set(false);
+        }
+    }
+
+    private void send(SseEmitter emitter, Pending pending) throws IOException {
+        if (pending.resync()) {
+            emitter.send(SseEmitter.event().name("resync").data(""));
+        }
+        for (ReportResponse report : pending.reports()) {
+            emitter.send(SseEmitter.event()
+                    .name("report")
+                    .id(report.period())
+                    .data(report, MediaType.APPLICATION_JSON));
+        }
+        if (pending.heartbeat()) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.userId, (key, deque) -> {
+            deque.remove(subscription);
+            return deque.isEmpty() ? null : deque;
+        });
+    }
+
+    private record Pending(List<ReportResponse> reports, boolean resync, boolean heartbeat) {
+        boolean isEmpty() {
+            return reports.isEmpty() && !resync && !heartbeat;
+        }
+    }
+
+    /**
+     * Conexión SSE con su buffer coalescido por período.
+     */
+    private static final class Subscription {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final LinkedHashMap<String, ReportResponse> buffer = new LinkedHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private boolean resync;
+        private boolean heartbeat;
+
+        private Subscription(String userId, SseEmitter emitter, int capacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return {@code true} si el buffer se desbordó y se pidió un resync
+         */
+        synchronized boolean offer(ReportResponse report) {
+            if (resync) {
+                return false;
+            }
+            if (!buffer.containsKey(report.period()) && buffer.size() >= capacity) {
+                buffer.clear();
+                resync = true;
+                return true;
+            }
+            buffer.remove(report.period());
+            buffer.put(report.period(), report);
+            return false;
+        }
+
+        synchronized void requestHeartbeat() {
+            heartbeat = true;
+        }
+
+        synchronized boolean hasPending() {
+            return !buffer.isEmpty() || resync || heartbeat;
+        }
+
+        synchronized Pending takePending() {
+            Pending pending = new Pending(new ArrayList<>(buffer.values()), resync, heartbeat);
+            buffer.clear();
+            resync = false;
+            heartbeat = false;
+            return pending;
+        }
+    }
+}
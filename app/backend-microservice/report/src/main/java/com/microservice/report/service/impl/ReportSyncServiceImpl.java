@@ -0,0 +1,123 @@
+package com.microservice.report.service.impl;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.microservice.report.dto.ReportSyncResult;
+import com.microservice.report.infrastructure.client.TransactionServiceClient;
+import com.microservice.report.infrastructure.dto.PeriodTotals;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+import com.microservice.report.model.Report;
+import com.microservice.report.repository.ReportRepository;
+import com.microservice.report.service.ReportService;
+import com.microservice.report.service.ReportSyncService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compara los reportes de un usuario con los totales calculados por el
+ * microservicio de transacciones y corrige las diferencias.
+ *
+ * <p>Es la unidad de trabajo común a la reconstrucción completa
+ * ({@code ReportRebuildServiceImpl}) y a la conciliación periódica
+ * ({@code ReportReconciliationServiceImpl}). Solo se escriben los períodos
+ * que difieren, siempre vía {@link ReportService#upsertTotals}, y cada escritura
+ * usa su propia transacción corta.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportSyncServiceImpl implements ReportSyncService {
+
+    private final ReportRepository reportRepository;
+    private final ReportService reportService;
+    private final TransactionServiceClient transactionServiceClient;
+
+    /**
+     * Página de usuarios a sincronizar: la unión de los que tienen transacciones y
+     * los que tienen reportes. Sin estos últimos, un usuario que eliminó todas sus
+     * transacciones nunca se visitaría y sus reportes conservarían los totales
+     * anteriores.
+     *
+     * <p>Se piden {@code limit} userIds a cada fuente, se unen y se recortan a
+     * {@code limit}: el último userId devuelto no supera al último de ninguna de las
+     * dos páginas, así que usarlo como cursor no salta usuarios.</p>
+     *
+     * @param after cursor exclusivo, o {@code null} para empezar desde el principio
+     * @param limit tamaño máximo de la página
+     * @return userIds ordenados y el cursor siguiente ({@code null} al terminar)
+     */
+    @Override
+    public UserIdPage listUserIds(String after, int limit) {
+        UserIdPage withTransactions = transactionServiceClient.listUserIds(after, limit);
+        List<String> withReports = reportRepository.findDistinctUserIdsAfter(
+                after == null ? "" : after, PageRequest.of(0, limit));
+
+        TreeSet<String> merged = new TreeSet<>(withTransactions.userIds());
+        merged.addAll(withReports);
+        List<String> userIds = merged.stream().limit(limit).toList();
+
+        boolean more = withTransactions.nextCursor() != null || withReports.size() >= limit
+                || merged.size() > limit;
+        return new UserIdPage(userIds, more && !userIds.isEmpty() ? userIds.get(userIds.size() - 1) : null);
+    }
+
+    /**
+     * Sincroniza todos los períodos de un usuario.
+     *
+     * @param userId identificador del usuario
+     * @return conteo de períodos revisados y de diferencias corregidas por tipo
+     */
+    @Override
+    public ReportSyncResult syncUser(String userId) {
+        List<PeriodTotals> expected = transactionServiceClient.getPeriodTotals(userId, null, null);
+        Map<String, Report> reportsByPeriod = new HashMap<>();
+        for (Report report : reportRepository.findByUserIdOrderByPeriodAsc(userId)) {
+            reportsByPeriod.put(report.getPeriod(), report);
+        }
+
+        int checked = 0;
+        int missing = 0;
+        int mismatched = 0;
+        for (PeriodTotals totals : expected) {
+            checked++;
+            Report report = reportsByPeriod.remove(totals.period());
+            if (report == null) {
+                missing++;
+            } else if (sameTotals(report, totals.totalIncome(), totals.totalExpense())) {
+                continue;
+            } else {
+                mismatched++;
+            }
+            reportService.upsertTotals(userId, totals.period(), totals.totalIncome(), totals.totalExpense());
+        }
+
+        int orphaned = 0;
+        for (Report report : reportsByPeriod.values()) {
+            checked++;
+            if (!sameTotals(report, BigDecimal.ZERO, BigDecimal.ZERO)) {
+                orphaned++;
+                reportService.upsertTotals(userId, report.getPeriod(), BigDecimal.ZERO, BigDecimal.ZERO);
+            }
+        }
+
+        ReportSyncResult result = new ReportSyncResult(checked, missing, mismatched, orphaned);
+        if (result.repaired() > 0) {
+            log.info(">>> [REPORT] Repaired reports for user {}: {}", userId, result);
+        }
+        return result;
+    }
+
+    private boolean sameTotals(Report report, BigDecimal totalIncome, BigDecimal totalExpense) {
+        return report.getTotalIncome() != null && report.getTotalExpense() != null
+                && report.getTotalIncome().compareTo(totalIncome) == 0
+                && report.getTotalExpense().compareTo(totalExpense) == 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.microservice.report.infrastructure;
 
+import com.microservice.report.infrastructure.dto.ReportDeltaMessage;
 import com.microservice.report.infrastructure.dto.TransactionMessage;
 import com.microservice.report.infrastructure.dto.TransactionType;
 import com.microservice.report.infrastructure.mapper.TransactionUpdateMapper;
@@ -35,6 +36,19 @@ class ReportConsumerTest {
     @Mock
     private ReportService reportService;
 
+    @Test
+    @DisplayName("should apply an aggregated bulk delta with a single report write")
+    void shouldApplyReportDelta() {
+        ReportConsumer consumer = new ReportConsumer(reportService, new TransactionUpdateMapper());
+
+        consumer.consumeReportDelta(new ReportDeltaMessage("user-123", "2025-03",
+                new BigDecimal("-300.00"), new BigDecimal("-1250.50")));
+
+        verify(reportService, times(1)).applyDelta("user-123", "2025-03",
+                new BigDecimal("-300.00"), new BigDecimal("-1250.50"));
+        verify(reportService, times(0)).updateReport(any());
+    }
+
     @Test
     @DisplayName("should recalculate totals when transaction amount is updated")
     void shouldRecalculateTotals_whenTransactionUpdated() {
@@ -49,7 +63,8 @@ class ReportConsumerTest {
                 "Food",
                 "Updated amount",
                 new BigDecimal("100.00"),
-                LocalDate.of(2025, 3, 9)
+                LocalDate.of(2025, 3, 9),
+                TransactionType.EXPENSE
         );
 
         consumer.consumeUpdated(updatedMessage);
@@ -87,7 +102,8 @@ class ReportConsumerTest {
                 "Rent",
                 "Moved to new period",
                 new BigDecimal("100.00"),
-                LocalDate.of(2025, 3, 10)
+                LocalDate.of(2025, 3, 10),
+                TransactionType.EXPENSE
         );
 
         consumer.consumeUpdated(updatedMessage);
@@ -111,6 +127,45 @@ class ReportConsumerTest {
         verifyNoInteractions(reportRepository);
     }
 
+    @Test
+    @DisplayName("should reverse with the previous type when the update changes the type")
+    void shouldReverseWithPreviousType_whenTypeChanges() {
+        ReportConsumer consumer = new ReportConsumer(reportService, new TransactionUpdateMapper());
+
+        TransactionMessage updatedMessage = new TransactionMessage(
+                30L,
+                "user-789",
+                TransactionType.EXPENSE,
+                new BigDecimal("80.00"),
+                LocalDate.of(2025, 3, 10),
+                "Refund",
+                "Recorded as income by mistake",
+                new BigDecimal("80.00"),
+                LocalDate.of(2025, 3, 10),
+                TransactionType.INCOME
+        );
+
+        consumer.consumeUpdated(updatedMessage);
+
+        ArgumentCaptor<TransactionMessage> messageCaptor = ArgumentCaptor.forClass(TransactionMessage.class);
+        InOrder inOrder = inOrder(reportService);
+        inOrder.verify(reportService, times(2)).updateReport(messageCaptor.capture());
+
+        TransactionMessage reversal = messageCaptor.getAllValues().get(0);
+        TransactionMessage applied = messageCaptor.getAllValues().get(1);
+
+        assertEquals(TransactionType.INCOME, reversal.type(),
+                "Reversal should use the previous type");
+        assertEquals(new BigDecimal("-80.00"), reversal.amount(),
+                "Reversal should negate the previous amount");
+        assertEquals(TransactionType.EXPENSE, applied.type(),
+                "Applied message should use the updated type");
+        assertEquals(new BigDecimal("80.00"), applied.amount(),
+                "Applied message should use the updated amount");
+
+        verifyNoInteractions(reportRepository);
+    }
+
     @Test
     @DisplayName("should send to DLQ after retries when event is invalid")
     void shouldSendToDLQ_whenEventIsInvalid() {
@@ -124,6 +179,7 @@ class ReportConsumerTest {
                 "Invalid",
                 "Invalid payload",
                 null,
+                null,
                 null
         );
 
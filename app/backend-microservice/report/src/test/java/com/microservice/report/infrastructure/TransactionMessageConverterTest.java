@@ -0,0 +1,72 @@
+package com.microservice.report.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.microservice.report.infrastructure.dto.TransactionMessage;
+import com.microservice.report.infrastructure.dto.TransactionType;
+
+class TransactionMessageConverterTest {
+
+    /** Mismos bytes que produce el {@code TransactionMessageConverterTest} de transaction. */
+    private static final String SAMPLE_V1 = "01000000000000002a002435353065383430302d653239622d343164342d613731362d"
+            + "3434363635353434303030300102000000000001e2400000502f0004466f6f640100054c756e6368";
+
+    private static final TransactionMessage SAMPLE = new TransactionMessage(42L,
+            "550e8400-e29b-41d4-a716-446655440000", TransactionType.EXPENSE, new BigDecimal("1234.56"),
+            LocalDate.of(2026, 3, 15), "Food", "Lunch", null, null, null);
+
+    private final TransactionMessageConverter converter =
+            new TransactionMessageConverter(new JacksonJsonMessageConverter());
+
+    private static Message binary(String hex) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(TransactionMessageConverter.CONTENT_TYPE);
+        return new Message(HexFormat.of().parseHex(hex), properties);
+    }
+
+    @Test
+    @DisplayName("should decode the v1 binary layout published by the transaction service")
+    void shouldDecodeBinary() {
+        assertThat(converter.fromMessage(binary(SAMPLE_V1))).isEqualTo(SAMPLE);
+    }
+
+    @Test
+    @DisplayName("should decode the previous type of an update")
+    void shouldDecodePreviousType() {
+        String withPreviousType = SAMPLE_V1.replace("0100054c756e6368", "2100054c756e636800");
+
+        TransactionMessage decoded = (TransactionMessage) converter.fromMessage(binary(withPreviousType));
+
+        assertThat(decoded.previousType()).isEqualTo(TransactionType.INCOME);
+        assertThat(decoded.description()).isEqualTo("Lunch");
+    }
+
+    @Test
+    @DisplayName("should keep reading JSON messages")
+    void shouldFallBackToJson() {
+        Message json = new JacksonJsonMessageConverter().toMessage(SAMPLE, new MessageProperties());
+        json.getMessageProperties().setInferredArgumentType(TransactionMessage.class);
+
+        assertThat(converter.fromMessage(json)).isEqualTo(SAMPLE);
+    }
+
+    @Test
+    @DisplayName("should reject unknown format versions")
+    void shouldRejectUnknownVersion() {
+        assertThatThrownBy(() -> converter.fromMessage(binary("02" + SAMPLE_V1.substring(2))))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("version 2");
+    }
+}
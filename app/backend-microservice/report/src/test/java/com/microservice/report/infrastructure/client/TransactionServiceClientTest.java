@@ -0,0 +1,67 @@
+package com.microservice.report.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.microservice.report.config.RestTemplateConfig;
+import com.microservice.security.ServiceTokenProvider;
+import com.sun.net.httpserver.HttpServer;
+
+@DisplayName("TransactionServiceClient")
+class TransactionServiceClientTest {
+
+    private static final int DASHBOARD_TIMEOUT_MS = 200;
+
+    private final CountDownLatch releaseResponse = new CountDownLatch(1);
+    private HttpServer server;
+    private TransactionServiceClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/transactions", exchange -> {
+            try {
+                releaseResponse.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        RestTemplateConfig config = new RestTemplateConfig();
+        client = new TransactionServiceClient(config.restTemplate(2000, 5000),
+                config.dashboardRestTemplate(2000, 5000, DASHBOARD_TIMEOUT_MS), mock(ServiceTokenProvider.class));
+        ReflectionTestUtils.setField(client, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseResponse.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("recent transactions give up at the dashboard timeout, not the general read timeout")
+    void getRecentTransactions_slowService_freesThreadNearSectionTimeout() {
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> client.getRecentTransactions("Bearer token", 5));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < 1_000,
+                "the call should return near the " + DASHBOARD_TIMEOUT_MS + " ms section timeout, took " + elapsedMs);
+    }
+}
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestTemplate;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -77,4 +78,20 @@ class ReportServiceImplTest {
         // Validar que NO se intentó eliminar nada
         verify(reportRepository, never()).delete(any(Report.class));
     }
+
+    @Test
+    @DisplayName("applyDelta: suma el delta agregado a los totales y recalcula el balance")
+    void applyDelta_WhenReportExists_ShouldAddDeltaAndRecalculateBalance() {
+        mockReport.setTotalIncome(new BigDecimal("1000.00"));
+        mockReport.setTotalExpense(new BigDecimal("400.00"));
+        mockReport.setBalance(new BigDecimal("600.00"));
+        when(reportRepository.findByUserIdAndPeriod(userId, period)).thenReturn(Optional.of(mockReport));
+
+        reportService.applyDelta(userId, period, new BigDecimal("-200.00"), new BigDecimal("-150.00"));
+
+        assertEquals(new BigDecimal("800.00"), mockReport.getTotalIncome());
+        assertEquals(new BigDecimal("250.00"), mockReport.getTotalExpense());
+        assertEquals(new BigDecimal("550.00"), mockReport.getBalance());
+        verify(reportRepository, times(1)).save(mockReport);
+    }
 }
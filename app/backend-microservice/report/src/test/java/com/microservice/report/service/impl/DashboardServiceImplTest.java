@@ -0,0 +1,96 @@
+package com.microservice.report.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.microservice.report.dto.DashboardResponse;
+import com.microservice.report.dto.ReportResponse;
+import com.microservice.report.dto.ReportSummary;
+import com.microservice.report.exception.ReportNotFoundException;
+import com.microservice.report.infrastructure.client.TransactionServiceClient;
+import com.microservice.report.service.ReportService;
+
+@DisplayName("DashboardService - getDashboard()")
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceImplTest {
+
+    private static final String AUTH = "Bearer user-token";
+
+    @Mock
+    private ReportService reportService;
+
+    @Mock
+    private TransactionServiceClient transactionServiceClient;
+
+    private final CountDownLatch releaseSlowCall = new CountDownLatch(1);
+    private ExecutorService executor;
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        dashboardService = new DashboardServiceImpl(reportService, transactionServiceClient, executor, 200, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowCall.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("returns partial results when the transaction service is slow")
+    void getDashboard_slowTransactionService_returnsPartialResult() {
+        ReportResponse report = new ReportResponse(1L, "user-1", "2026-03", BigDecimal.TEN, BigDecimal.ONE,
+                new BigDecimal("9"), null, null);
+        ReportSummary summary = new ReportSummary("user-1", "2026-01", "2026-03", List.of(report),
+                BigDecimal.TEN, BigDecimal.ONE, new BigDecimal("9"));
+        when(reportService.getReport("user-1", "2026-03")).thenReturn(report);
+        when(reportService.getReportsByPeriodRange("user-1", "2026-01", "2026-03")).thenReturn(summary);
+        when(transactionServiceClient.getRecentTransactions(AUTH, 5)).thenAnswer(invocation -> {
+            releaseSlowCall.await();
+            return List.of();
+        });
+
+        long start = System.nanoTime();
+        DashboardResponse response = dashboardService.getDashboard("user-1", AUTH, "2026-03", 3);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(report, response.currentReport());
+        assertEquals(summary, response.summary());
+        assertNull(response.recentTransactions());
+        assertEquals(List.of(DashboardServiceImpl.RECENT_TRANSACTIONS), response.unavailableSections());
+        assertTrue(elapsedMs < 1_500, "the slow section must not delay the response beyond the timeout");
+    }
+
+    @Test
+    @DisplayName("a missing report for the period is not an unavailable section")
+    void getDashboard_noReportForPeriod_isAvailableButEmpty() {
+        when(reportService.getReport("user-1", "2026-03")).thenThrow(new ReportNotFoundException("user-1", "2026-03"));
+        when(reportService.getReportsByPeriodRange("user-1", "2026-03", "2026-03")).thenThrow(
+                new IllegalStateException("db down"));
+        when(transactionServiceClient.getRecentTransactions(AUTH, 5)).thenReturn(List.of());
+
+        DashboardResponse response = dashboardService.getDashboard("user-1", AUTH, "2026-03", 1);
+
+        assertNull(response.currentReport());
+        assertEquals(List.of(), response.recentTransactions());
+        assertEquals(List.of(DashboardServiceImpl.SUMMARY), response.unavailableSections());
+    }
+}
@@ -0,0 +1,137 @@
+package com.microservice.report.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.microservice.report.config.ReportJobExecutorConfig;
+import com.microservice.report.dto.ReportSyncResult;
+import com.microservice.report.exception.RebuildJobConflictException;
+import com.microservice.report.exception.RebuildJobNotFoundException;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+import com.microservice.report.model.RebuildJobStatus;
+import com.microservice.report.model.ReportRebuildJob;
+import com.microservice.report.repository.ReportRebuildJobRepository;
+import com.microservice.report.service.ReportSyncService;
+
+@DisplayName("ReportRebuildService")
+@ExtendWith(MockitoExtension.class)
+class ReportRebuildServiceImplTest {
+
+    @Mock
+    private ReportRebuildJobRepository jobRepository;
+
+    @Mock
+    private ReportSyncService reportSyncService;
+
+    private ThreadPoolTaskExecutor coordinator;
+    private ThreadPoolTaskExecutor workers;
+    private ReportRebuildServiceImpl rebuildService;
+
+    @BeforeEach
+    void setUp() {
+        ReportJobExecutorConfig config = new ReportJobExecutorConfig();
+        coordinator = config.reportRebuildCoordinator();
+        workers = config.reportRebuildWorkers(2);
+        rebuildService = new ReportRebuildServiceImpl(jobRepository, reportSyncService,
+                coordinator, workers, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinator.shutdown();
+        workers.shutdown();
+    }
+
+    @Test
+    @DisplayName("resumeRebuild rejects completed jobs")
+    void resumeRebuild_completedJob_throwsConflict() {
+        ReportRebuildJob job = ReportRebuildJob.builder()
+                .jobId("job-1")
+                .status(RebuildJobStatus.COMPLETED)
+                .build();
+        when(jobRepository.findById("job-1")).thenReturn(Optional.of(job));
+
+        assertThrows(RebuildJobConflictException.class, () -> rebuildService.resumeRebuild("job-1"));
+        verify(reportSyncService, never()).listUserIds(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("getJob throws when the job does not exist")
+    void getJob_unknownJob_throwsNotFound() {
+        when(jobRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(RebuildJobNotFoundException.class, () -> rebuildService.getJob("missing"));
+        verify(jobRepository, never()).save(any());
+        verify(reportSyncService, never()).syncUser(any());
+    }
+
+    @Test
+    @DisplayName("resumeRebuild continues after the checkpoint and keeps the earlier counters")
+    void resumeRebuild_failedJob_continuesFromCheckpoint() throws InterruptedException {
+        ReportRebuildJob job = ReportRebuildJob.builder()
+                .jobId("job-2")
+                .status(RebuildJobStatus.FAILED)
+                .checkpointUserId("user-2")
+                .processedUsers(2)
+                .processedPeriods(5)
+                .lastError("transaction service unavailable")
+                .build();
+        when(jobRepository.findById("job-2")).thenReturn(Optional.of(job));
+        when(reportSyncService.listUserIds("user-2", 100))
+                .thenReturn(new UserIdPage(List.of("user-3", "user-4"), "user-4"));
+        when(reportSyncService.listUserIds("user-4", 100)).thenReturn(new UserIdPage(List.of(), null));
+        when(reportSyncService.syncUser("user-3")).thenReturn(new ReportSyncResult(3, 0, 1, 0));
+        when(reportSyncService.syncUser("user-4")).thenReturn(new ReportSyncResult(1, 1, 0, 0));
+        CountDownLatch completed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (invocation.<ReportRebuildJob>getArgument(0).getStatus() == RebuildJobStatus.COMPLETED) {
+                completed.countDown();
+            }
+            return invocation.getArgument(0);
+        }).when(jobRepository).save(any());
+
+        rebuildService.resumeRebuild("job-2");
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS), "The resumed job should complete");
+        assertEquals(4, job.getProcessedUsers());
+        assertEquals(9, job.getProcessedPeriods());
+        assertEquals("user-4", job.getCheckpointUserId());
+        assertNull(job.getLastError());
+        verify(reportSyncService, never()).listUserIds(isNull(), anyInt());
+        verify(reportSyncService, never()).syncUser("user-1");
+    }
+
+    @Test
+    @DisplayName("a job that fails to persist does not block later rebuilds")
+    void startRebuild_saveFails_releasesGuard() {
+        when(jobRepository.save(any())).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> rebuildService.startRebuild(null));
+        assertThrows(DataAccessResourceFailureException.class, () -> rebuildService.startRebuild(null));
+        verify(reportSyncService, never()).listUserIds(any(), anyInt());
+    }
+}
@@ -0,0 +1,122 @@
+package com.microservice.report.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.microservice.report.dto.ReportSyncResult;
+import com.microservice.report.infrastructure.client.TransactionServiceClient;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+import com.microservice.report.model.ReconciliationCursor;
+import com.microservice.report.model.Report;
+import com.microservice.report.repository.ReconciliationCursorRepository;
+import com.microservice.report.repository.ReportRepository;
+import com.microservice.report.service.ReportService;
+import com.microservice.report.service.ReportSyncService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ReportReconciliationService - reconcileNextChunk()")
+@ExtendWith(MockitoExtension.class)
+class ReportReconciliationServiceImplTest {
+
+    @Mock
+    private ReconciliationCursorRepository cursorRepository;
+
+    @Mock
+    private ReportSyncService reportSyncService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReportReconciliationServiceImpl reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciliationService = new ReportReconciliationServiceImpl(cursorRepository, reportSyncService,
+                meterRegistry, 2, true);
+    }
+
+    @Test
+    @DisplayName("continues from the persisted cursor and records drift metrics by kind")
+    void reconcileNextChunk_advancesCursorAndRecordsDrift() {
+        ReconciliationCursor cursor = ReconciliationCursor.builder()
+                .name(ReportReconciliationServiceImpl.CURSOR_NAME)
+                .lastUserId("user-2")
+                .build();
+        when(cursorRepository.findById(ReportReconciliationServiceImpl.CURSOR_NAME)).thenReturn(Optional.of(cursor));
+        when(reportSyncService.listUserIds("user-2", 2))
+                .thenReturn(new UserIdPage(List.of("user-3", "user-4"), "user-4"));
+        when(reportSyncService.syncUser("user-3")).thenReturn(new ReportSyncResult(3, 1, 0, 0));
+        when(reportSyncService.syncUser("user-4")).thenReturn(new ReportSyncResult(2, 0, 2, 1));
+
+        ReportSyncResult result = reconciliationService.reconcileNextChunk();
+
+        assertEquals(new ReportSyncResult(5, 1, 2, 1), result);
+        assertEquals("user-4", cursor.getLastUserId());
+        assertEquals(1.0, meterRegistry.get("report.reconciliation.drift").tag("kind", "missing").counter().count());
+        assertEquals(2.0, meterRegistry.get("report.reconciliation.drift").tag("kind", "mismatched").counter().count());
+        assertEquals(1.0, meterRegistry.get("report.reconciliation.drift").tag("kind", "orphaned").counter().count());
+        assertEquals(5.0, meterRegistry.get("report.reconciliation.periods.checked").counter().count());
+    }
+
+    @Test
+    @DisplayName("starts a new pass when the last page is reached and skips failed users")
+    void reconcileNextChunk_lastPage_resetsCursor() {
+        when(cursorRepository.findById(ReportReconciliationServiceImpl.CURSOR_NAME)).thenReturn(Optional.empty());
+        when(reportSyncService.listUserIds(null, 2))
+                .thenReturn(new UserIdPage(List.of("user-1"), null));
+        when(reportSyncService.syncUser("user-1")).thenThrow(new IllegalStateException("transaction service down"));
+
+        reconciliationService.reconcileNextChunk();
+
+        ArgumentCaptor<ReconciliationCursor> saved = ArgumentCaptor.forClass(ReconciliationCursor.class);
+        verify(cursorRepository).save(saved.capture());
+        assertNull(saved.getValue().getLastUserId());
+        assertEquals(1, saved.getValue().getCompletedPasses());
+        assertEquals(1.0, meterRegistry.get("report.reconciliation.users.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("zeroes the reports of a user whose transactions were all deleted")
+    void reconcileNextChunk_userWithoutTransactions_zeroesReports() {
+        ReportRepository reportRepository = mock(ReportRepository.class);
+        ReportService reportService = mock(ReportService.class);
+        TransactionServiceClient transactionServiceClient = mock(TransactionServiceClient.class);
+        reconciliationService = new ReportReconciliationServiceImpl(cursorRepository,
+                new ReportSyncServiceImpl(reportRepository, reportService, transactionServiceClient),
+                meterRegistry, 2, true);
+
+        when(cursorRepository.findById(ReportReconciliationServiceImpl.CURSOR_NAME)).thenReturn(Optional.empty());
+        when(transactionServiceClient.listUserIds(null, 2)).thenReturn(new UserIdPage(List.of(), null));
+        when(reportRepository.findDistinctUserIdsAfter(eq(""), any())).thenReturn(List.of("user-gone"));
+        when(transactionServiceClient.getPeriodTotals("user-gone", null, null)).thenReturn(List.of());
+        when(reportRepository.findByUserIdOrderByPeriodAsc("user-gone")).thenReturn(List.of(Report.builder()
+                .userId("user-gone")
+                .period("2026-01")
+                .totalIncome(new BigDecimal("250.00"))
+                .totalExpense(new BigDecimal("80.00"))
+                .build()));
+
+        ReportSyncResult result = reconciliationService.reconcileNextChunk();
+
+        assertEquals(new ReportSyncResult(1, 0, 0, 1), result);
+        verify(reportService).upsertTotals("user-gone", "2026-01", BigDecimal.ZERO, BigDecimal.ZERO);
+        assertEquals(1.0, meterRegistry.get("report.reconciliation.drift").tag("kind", "orphaned").counter().count());
+    }
+}
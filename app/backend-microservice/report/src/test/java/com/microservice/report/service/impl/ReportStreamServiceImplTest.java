@@ -0,0 +1,80 @@
+package com.microservice.report.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.microservice.report.dto.ReportResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ReportStreamService")
+class ReportStreamServiceImplTest {
+
+    private final List<Runnable> dispatched = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private ReportStreamServiceImpl streamService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // El dispatcher no ejecuta las tareas: simula un cliente que no consume.
+        streamService = new ReportStreamServiceImpl(dispatched::add, meterRegistry, 60_000, 2, 2);
+    }
+
+    @Test
+    @DisplayName("closes the oldest connection when a user exceeds the connection limit")
+    void subscribe_overLimit_evictsOldest() {
+        SseEmitter first = streamService.subscribe("user-1");
+        SseEmitter second = streamService.subscribe("user-1");
+        SseEmitter third = streamService.subscribe("user-1");
+        streamService.subscribe("user-2");
+
+        assertNotSame(first, third);
+        assertNotSame(second, third);
+        assertThrows(IllegalStateException.class, () -> first.send("late"), "the evicted emitter is completed");
+        assertDoesNotThrow(() -> second.send("still open"));
+        assertEquals(3.0, meterRegistry.get("report.stream.connections").gauge().value());
+
+        streamService.publish(report("2026-01", "10"));
+        assertEquals(2, dispatched.size(), "only the two remaining connections of user-1 are notified");
+    }
+
+    @Test
+    @DisplayName("coalesces updates of the same period and asks for a resync when the buffer overflows")
+    void publish_slowClient_coalescesThenRequestsResync() {
+        streamService.subscribe("user-1");
+
+        streamService.publish(report("2026-01", "10"));
+        streamService.publish(report("2026-01", "20"));
+        streamService.publish(report("2026-02", "5"));
+        assertEquals(0.0, meterRegistry.get("report.stream.resyncs").counter().count());
+
+        streamService.publish(report("2026-03", "1"));
+        assertEquals(1.0, meterRegistry.get("report.stream.resyncs").counter().count());
+        assertEquals(1, dispatched.size(), "only one drain is scheduled per connection");
+    }
+
+    @Test
+    @DisplayName("ignores reports of users without open connections")
+    void publish_withoutSubscribers_doesNothing() {
+        streamService.publish(report("2026-01", "10"));
+
+        assertEquals(0, dispatched.size());
+    }
+
+    private ReportResponse report(String period, String income) {
+        return new ReportResponse(1L, "user-1", period, new BigDecimal(income), BigDecimal.ZERO,
+                new BigDecimal(income), null, null);
+    }
+}
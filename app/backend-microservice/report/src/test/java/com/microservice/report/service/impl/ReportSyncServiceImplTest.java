@@ -0,0 +1,102 @@
+package com.microservice.report.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.microservice.report.dto.ReportSyncResult;
+import com.microservice.report.infrastructure.client.TransactionServiceClient;
+import com.microservice.report.infrastructure.dto.PeriodTotals;
+import com.microservice.report.infrastructure.dto.UserIdPage;
+import com.microservice.report.model.Report;
+import com.microservice.report.repository.ReportRepository;
+import com.microservice.report.service.ReportService;
+
+@DisplayName("ReportSyncService")
+@ExtendWith(MockitoExtension.class)
+class ReportSyncServiceImplTest {
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private ReportService reportService;
+
+    @Mock
+    private TransactionServiceClient transactionServiceClient;
+
+    @InjectMocks
+    private ReportSyncServiceImpl reportSyncService;
+
+    @Test
+    @DisplayName("repairs missing, mismatched and orphaned periods and leaves matching ones untouched")
+    void syncUser_repairsOnlyDriftedPeriods() {
+        when(transactionServiceClient.getPeriodTotals("user-1", null, null)).thenReturn(List.of(
+                new PeriodTotals("2026-01", new BigDecimal("100.00"), new BigDecimal("40.00")),
+                new PeriodTotals("2026-02", BigDecimal.ZERO, new BigDecimal("15.50")),
+                new PeriodTotals("2026-03", new BigDecimal("10"), BigDecimal.ZERO)));
+        when(reportRepository.findByUserIdOrderByPeriodAsc("user-1")).thenReturn(List.of(
+                report("2025-11", "0.00", "0.00"),
+                report("2025-12", "5.00", "0.00"),
+                report("2026-01", "100", "40"),
+                report("2026-02", "0.00", "30.00")));
+
+        ReportSyncResult result = reportSyncService.syncUser("user-1");
+
+        assertEquals(new ReportSyncResult(5, 1, 1, 1), result);
+        verify(reportService).upsertTotals("user-1", "2026-02", BigDecimal.ZERO, new BigDecimal("15.50"));
+        verify(reportService).upsertTotals("user-1", "2026-03", new BigDecimal("10"), BigDecimal.ZERO);
+        verify(reportService).upsertTotals("user-1", "2025-12", BigDecimal.ZERO, BigDecimal.ZERO);
+        verify(reportService, never()).upsertTotals(eq("user-1"), eq("2026-01"), any(), any());
+        verify(reportService, never()).upsertTotals(eq("user-1"), eq("2025-11"), any(), any());
+    }
+
+    @Test
+    @DisplayName("listUserIds includes users that only have reports left")
+    void listUserIds_mergesUsersWithoutTransactions() {
+        when(transactionServiceClient.listUserIds("user-1", 3))
+                .thenReturn(new UserIdPage(List.of("user-3", "user-5", "user-6"), "user-6"));
+        when(reportRepository.findDistinctUserIdsAfter(eq("user-1"), any()))
+                .thenReturn(List.of("user-2", "user-3"));
+
+        UserIdPage page = reportSyncService.listUserIds("user-1", 3);
+
+        assertEquals(List.of("user-2", "user-3", "user-5"), page.userIds());
+        assertEquals("user-5", page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("listUserIds ends when both sources are exhausted")
+    void listUserIds_lastPage_hasNoCursor() {
+        when(transactionServiceClient.listUserIds(null, 3)).thenReturn(new UserIdPage(List.of(), null));
+        when(reportRepository.findDistinctUserIdsAfter(eq(""), any())).thenReturn(List.of("user-9"));
+
+        UserIdPage page = reportSyncService.listUserIds(null, 3);
+
+        assertEquals(List.of("user-9"), page.userIds());
+        assertNull(page.nextCursor());
+    }
+
+    private Report report(String period, String income, String expense) {
+        return Report.builder()
+                .userId("user-1")
+                .period(period)
+                .totalIncome(new BigDecimal(income))
+                .totalExpense(new BigDecimal(expense))
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.microservice.security;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Cliente HTTP de los endpoints internos del microservicio de autenticación
+ * ({@code /api/v1/internal/**}), autenticado con un token de servicio.
+ *
+ * <p>No es un {@code @Component}: cada servicio lo declara como bean con su
+ * {@code RestTemplate} y la URL base {@code app.services.auth.base-url}.</p>
+ */
+public class AuthServiceClient {
+
+    private static final String REVOCATIONS_PATH = "/api/v1/internal/revocations";
+
+    private final RestTemplate restTemplate;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final String baseUrl;
+
+    public AuthServiceClient(RestTemplate restTemplate, ServiceTokenProvider serviceTokenProvider, String baseUrl) {
+        this.restTemplate = restTemplate;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Descarga la lista de tokens revocados si cambió respecto a la versión local.
+     *
+     * @param currentVersion versión que ya se tiene, o {@code null} en la primera carga
+     * @return la lista nueva, o vacío si el servicio respondió 304 (sin cambios)
+     */
+    public Optional<RevocationList> fetchRevocations(String currentVersion) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(serviceTokenProvider.getToken());
+        if (currentVersion != null) {
+            headers.setIfNoneMatch("\"" + currentVersion + "\"");
+        }
+        ResponseEntity<RevocationList> response = restTemplate.exchange(baseUrl + REVOCATIONS_PATH,
+                HttpMethod.GET, new HttpEntity<>(headers), RevocationList.class);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(response.getBody());
+    }
+}
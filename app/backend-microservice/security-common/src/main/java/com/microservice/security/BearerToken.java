@@ -0,0 +1,37 @@
+package com.microservice.security;
+
+import java.nio.CharBuffer;
+
+/**
+ * Lectura del header {@code Authorization: Bearer <token>} (RFC 6750).
+ */
+public final class BearerToken {
+
+    private static final String SCHEME = "Bearer ";
+
+    private BearerToken() {
+    }
+
+    /**
+     * Devuelve el token como una vista sobre el propio header, sin copiar sus
+     * caracteres. El esquema se compara sin distinguir mayúsculas.
+     *
+     * @param header valor del header {@code Authorization}; puede ser {@code null}
+     * @return el token, o {@code null} si el header no trae un bearer token
+     */
+    public static CharSequence extract(String header) {
+        if (header == null || header.length() <= SCHEME.length()
+                || !header.regionMatches(true, 0, SCHEME, 0, SCHEME.length())) {
+            return null;
+        }
+        int start = SCHEME.length();
+        int end = header.length();
+        while (start < end && header.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && header.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return start == end ? null : CharBuffer.wrap(header, start, end);
+    }
+}
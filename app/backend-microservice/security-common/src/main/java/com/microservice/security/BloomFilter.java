@@ -0,0 +1,81 @@
+package com.microservice.security;
+
+import java.util.Collection;
+
+/**
+ * Filtro de Bloom inmutable de cadenas.
+ *
+ * <p>{@link #mightContain} nunca da falsos negativos y da falsos positivos con una
+ * probabilidad cercana a la indicada al construirlo. Al ser inmutable se puede
+ * consultar desde cualquier hilo sin sincronización una vez publicado.</p>
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final int numBits;
+    private final int numHashes;
+
+    private BloomFilter(int numBits, int numHashes) {
+        this.bits = new long[(numBits + 63) >>> 6];
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Construye un filtro dimensionado para {@code items} con la tasa de falsos
+     * positivos {@code falsePositiveRate}.
+     */
+    public static BloomFilter of(Collection<String> items, double falsePositiveRate) {
+        int expected = Math.max(1, items.size());
+        double bitsNeeded = -expected * Math.log(falsePositiveRate) / (LN2 * LN2);
+        int numBits = (int) Math.max(64, Math.min(bitsNeeded, Integer.MAX_VALUE - 64));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / expected * LN2));
+        BloomFilter filter = new BloomFilter(numBits, numHashes);
+        for (String item : items) {
+            filter.put(item);
+        }
+        return filter;
+    }
+
+    public boolean mightContain(String item) {
+        long hash = hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int combined = h1 + i * h2;
+            int index = (combined & Integer.MAX_VALUE) % numBits;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(String item) {
+        long hash = hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int combined = h1 + i * h2;
+            int index = (combined & Integer.MAX_VALUE) % numBits;
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    /** FNV-1a de 64 bits con el mezclado final de MurmurHash3 para repartir bien ambas mitades. */
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,136 @@
+package com.microservice.security;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Filtro JWT común a los microservicios.
+ *
+ * <p>Por petición: lee el bearer token como vista sobre el header, lo verifica una sola
+ * vez con {@link JwtVerifier}, consulta la lista de revocados en memoria e instala un
+ * {@link JwtPrincipal} inmutable en el {@code SecurityContext}. Los tokens inválidos no
+ * cortan la cadena: la petición sigue sin autenticar y la rechaza la configuración de
+ * autorización de cada servicio.</p>
+ *
+ * <p>Roles: {@code ROLE_SERVICE} para tokens con {@code scope=service} y
+ * {@code ROLE_ADMIN} para los userIds de {@code adminUserIds}.</p>
+ *
+ * <p>Nada se registra en el camino feliz. Los rechazos se registran en DEBUG y
+ * muestreados (uno de cada {@value #LOG_SAMPLE_RATE}), para que un cliente con un token
+ * caducado en bucle no inunde el log.</p>
+ *
+ * <p>No es un {@code @Component}: cada servicio lo declara como bean en su
+ * {@code SecurityConfig} con su propia consulta de revocados.</p>
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    static final int LOG_SAMPLE_RATE = 256;
+
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of();
+    private static final List<GrantedAuthority> SERVICE_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_SERVICE"));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private final JwtVerifier jwtVerifier;
+    private final TokenRevocationCheck revocationCheck;
+    private final Set<String> adminUserIds;
+    private final AtomicLong rejections = new AtomicLong();
+
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier, TokenRevocationCheck revocationCheck) {
+        this(jwtVerifier, revocationCheck, Set.of());
+    }
+
+    public JwtAuthenticationFilter(
+            JwtVerifier jwtVerifier,
+            TokenRevocationCheck revocationCheck,
+            Set<String> adminUserIds) {
+        this.jwtVerifier = jwtVerifier;
+        this.revocationCheck = revocationCheck;
+        this.adminUserIds = Set.copyOf(adminUserIds);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        CharSequence token = BearerToken.extract(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token != null) {
+            JwtPrincipal principal = authenticate(token, request);
+            if (principal != null) {
+                SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                        principal, null, authoritiesFor(principal)));
+                securityContextHolderStrategy.setContext(context);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private JwtPrincipal authenticate(CharSequence token, HttpServletRequest request) {
+        JwtPrincipal principal;
+        try {
+            principal = jwtVerifier.verify(token);
+        } catch (ExpiredJwtException e) {
+            logRejection("expired", request);
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            logRejection(e.getClass().getSimpleName(), request);
+            return null;
+        }
+        if (revocationCheck.isRevoked(principal.tokenId())) {
+            logRejection("revoked", request);
+            return null;
+        }
+        return principal;
+    }
+
+    private Collection<GrantedAuthority> authoritiesFor(JwtPrincipal principal) {
+        if (principal.service()) {
+            return SERVICE_AUTHORITIES;
+        }
+        return adminUserIds.contains(principal.userId()) ? ADMIN_AUTHORITIES : USER_AUTHORITIES;
+    }
+
+    private void logRejection(String reason, HttpServletRequest request) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        long count = rejections.getAndIncrement();
+        if (count % LOG_SAMPLE_RATE == 0) {
+            log.debug("JWT rejected ({}) on {} {}; {} rejections so far, logging 1 in {}",
+                    reason, request.getMethod(), request.getRequestURI(), count + 1, LOG_SAMPLE_RATE);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.microservice.security;
+
+/**
+ * Nombres de los claims que emite el servicio de autenticación y que leen el resto de
+ * microservicios.
+ */
+public final class JwtClaims {
+
+    public static final String EMAIL = "email";
+
+    /**
+     * Claim que identifica los tokens emitidos para comunicación entre servicios.
+     */
+    public static final String SCOPE = "scope";
+    public static final String SERVICE_SCOPE = "service";
+
+    /**
+     * Claim con la sesión (familia de refresh tokens) que emitió el access token.
+     */
+    public static final String SESSION = "sid";
+
+    private JwtClaims() {
+    }
+}
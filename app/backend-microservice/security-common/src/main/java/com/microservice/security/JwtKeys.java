@@ -0,0 +1,25 @@
+package com.microservice.security;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Deriva la clave HMAC del secreto compartido {@code app.jwt.secret}. Quien firma y
+ * quien verifica deben usar esta misma derivación.
+ */
+public final class JwtKeys {
+
+    private JwtKeys() {
+    }
+
+    /**
+     * @param secret secreto compartido; al menos 32 bytes para HS256
+     * @return clave HMAC con los bytes UTF-8 del secreto
+     */
+    public static SecretKey hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package com.microservice.security;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Identidad extraída de un JWT verificado. Es inmutable y se instala como principal
+ * de la autenticación, así que los controladores siguen obteniendo el userId con
+ * {@code Principal#getName()}.
+ *
+ * @param userId    subject del token
+ * @param email     claim {@code email}; {@code null} en tokens de servicio
+ * @param tokenId   claim {@code jti}; {@code null} en tokens emitidos sin él
+ * @param sessionId claim {@code sid}; {@code null} fuera de una sesión con refresh token
+ * @param service   si el token lleva {@code scope=service}
+ * @param expiresAt expiración del token
+ */
+public record JwtPrincipal(
+        String userId,
+        String email,
+        String tokenId,
+        String sessionId,
+        boolean service,
+        Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+}
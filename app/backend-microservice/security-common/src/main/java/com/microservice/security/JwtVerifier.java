@@ -0,0 +1,46 @@
+package com.microservice.security;
+
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Verifica tokens firmados con el secreto compartido.
+ *
+ * <p>El {@link JwtParser} se construye una sola vez y es seguro entre hilos. Cada
+ * token se verifica una única vez y todos los claims que usan los servicios se leen
+ * de ese mismo resultado, en lugar de repetir la verificación HMAC por cada claim.</p>
+ */
+public class JwtVerifier {
+
+    private final JwtParser parser;
+
+    public JwtVerifier(String secret) {
+        this.parser = Jwts.parser()
+                .verifyWith(JwtKeys.hmacKey(secret))
+                .build();
+    }
+
+    /**
+     * Verifica firma y expiración y devuelve la identidad del token.
+     *
+     * @param token JWT compacto; puede ser una vista sobre el header sin copiar
+     * @return principal inmutable con los claims del token
+     * @throws JwtException si la firma no coincide, el token expiró o está mal formado
+     * @throws IllegalArgumentException si el token es nulo o vacío
+     */
+    public JwtPrincipal verify(CharSequence token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                claims.getSubject(),
+                claims.get(JwtClaims.EMAIL, String.class),
+                claims.getId(),
+                claims.get(JwtClaims.SESSION, String.class),
+                JwtClaims.SERVICE_SCOPE.equals(claims.get(JwtClaims.SCOPE, String.class)),
+                expiration != null ? expiration.toInstant() : null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.microservice.security;
+
+import java.util.List;
+
+/**
+ * Lista de tokens revocados publicada por el microservicio de autenticación.
+ *
+ * @param version  identificador del contenido (ETag)
+ * @param tokenIds valores {@code jti} revocados que aún no han expirado
+ */
+public record RevocationList(
+        String version,
+        List<String> tokenIds) {
+}
@@ -0,0 +1,46 @@
+package com.microservice.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Copia inmutable de la lista de tokens revocados (valores del claim {@code jti}).
+ *
+ * <p>La consulta pasa primero por un {@link BloomFilter}: en el caso habitual (token no
+ * revocado) responde con unos pocos accesos a memoria. Solo los positivos del filtro se
+ * confirman contra el conjunto exacto, de modo que un falso positivo nunca rechaza un
+ * token válido. Las instancias se reemplazan enteras en una referencia volátil, así que
+ * la lectura no necesita locks.</p>
+ *
+ * @param version identificador estable del contenido, usado como ETag entre servicios
+ */
+public record RevocationSnapshot(String version, Set<String> tokenIds, BloomFilter filter) {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    public static final RevocationSnapshot EMPTY = of(List.of());
+
+    public static RevocationSnapshot of(Collection<String> tokenIds) {
+        List<String> sorted = new ArrayList<>(tokenIds);
+        Collections.sort(sorted);
+        String version = sorted.size() + "-" + Integer.toHexString(sorted.hashCode());
+        return new RevocationSnapshot(version, Set.copyOf(sorted), BloomFilter.of(sorted, FALSE_POSITIVE_RATE));
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId) && tokenIds.contains(tokenId);
+    }
+
+    /** Nueva copia con {@code tokenId} añadido; la actual no se modifica. */
+    public RevocationSnapshot with(String tokenId) {
+        if (tokenIds.contains(tokenId)) {
+            return this;
+        }
+        List<String> ids = new ArrayList<>(tokenIds);
+        ids.add(tokenId);
+        return of(ids);
+    }
+}
@@ -0,0 +1,71 @@
+package com.microservice.security;
+
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Emite tokens JWT de servicio para las llamadas entre microservicios.
+ *
+ * <p>Los procesos en segundo plano (refresco de la lista de tokens revocados,
+ * reconstrucción de reportes, conciliación) no tienen un JWT de usuario; en su lugar
+ * se identifican con un token firmado con el mismo secreto compartido, el claim
+ * {@code scope=service} y un {@code subject} propio de cada servicio
+ * ({@code app.service-token.subject}). El token se cachea y se renueva poco antes de
+ * expirar para no firmar uno nuevo en cada llamada.</p>
+ *
+ * <p>No es un {@code @Component}: cada servicio lo declara como bean.</p>
+ */
+public class ServiceTokenProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceTokenProvider.class);
+
+    private static final long TOKEN_TTL_MS = 5 * 60 * 1000L;
+    private static final long RENEW_BEFORE_MS = 60 * 1000L;
+
+    private final SecretKey secretKey;
+    private final String subject;
+    private volatile CachedToken cached;
+
+    public ServiceTokenProvider(String secret, String subject) {
+        this.secretKey = JwtKeys.hmacKey(secret);
+        this.subject = subject;
+    }
+
+    /**
+     * Retorna un token de servicio vigente, emitiendo uno nuevo si el actual
+     * está por expirar.
+     *
+     * @return token JWT con {@code scope=service}
+     */
+    public String getToken() {
+        CachedToken current = cached;
+        long now = System.currentTimeMillis();
+        if (current == null || current.expiresAtMs() - RENEW_BEFORE_MS <= now) {
+            current = issue(now);
+            cached = current;
+        }
+        return current.token();
+    }
+
+    private CachedToken issue(long now) {
+        long expiresAt = now + TOKEN_TTL_MS;
+        String token = Jwts.builder()
+                .subject(subject)
+                .claim(JwtClaims.SCOPE, JwtClaims.SERVICE_SCOPE)
+                .issuedAt(new Date(now))
+                .expiration(new Date(expiresAt))
+                .signWith(secretKey)
+                .compact();
+        log.debug("Issued service token for {} valid until {}", subject, new Date(expiresAt));
+        return new CachedToken(token, expiresAt);
+    }
+
+    private record CachedToken(String token, long expiresAtMs) {
+    }
+}
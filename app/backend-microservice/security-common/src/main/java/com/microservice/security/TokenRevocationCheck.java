@@ -0,0 +1,18 @@
+package com.microservice.security;
+
+/**
+ * Consulta de tokens revocados que usa {@link JwtAuthenticationFilter}. Se invoca en
+ * cada petición autenticada, así que las implementaciones deben responder desde
+ * memoria (ver {@link RevocationSnapshot}).
+ */
+@FunctionalInterface
+public interface TokenRevocationCheck {
+
+    TokenRevocationCheck NONE = tokenId -> false;
+
+    /**
+     * @param tokenId claim {@code jti}; puede ser {@code null}
+     * @return true si el token fue revocado
+     */
+    boolean isRevoked(String tokenId);
+}
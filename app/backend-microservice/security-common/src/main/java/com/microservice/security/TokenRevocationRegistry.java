@@ -0,0 +1,55 @@
+package com.microservice.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Copia local de la lista de tokens revocados del microservicio de autenticación.
+ *
+ * <p>{@link JwtAuthenticationFilter} consulta {@link #isRevoked} en cada petición: es
+ * una lectura de un {@link RevocationSnapshot} inmutable en una referencia volátil, sin
+ * locks, base de datos ni red. La copia se refresca en segundo plano cada
+ * {@code app.revocation.refresh-ms}; con ETag, un refresco sin cambios es un 304 sin
+ * cuerpo. Un token revocado deja de aceptarse aquí como mucho un intervalo después.</p>
+ *
+ * <p>Si el microservicio de autenticación no responde se conserva la última copia:
+ * las revocaciones nuevas se retrasan, pero no se rechazan peticiones válidas.</p>
+ *
+ * <p>No es un {@code @Component}: cada servicio lo declara como bean y habilita
+ * {@code @EnableScheduling} para que se ejecute {@link #refresh}.</p>
+ */
+public class TokenRevocationRegistry implements TokenRevocationCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    private final AuthServiceClient authServiceClient;
+
+    private volatile RevocationSnapshot snapshot = RevocationSnapshot.EMPTY;
+    private volatile boolean loaded;
+
+    public TokenRevocationRegistry(AuthServiceClient authServiceClient) {
+        this.authServiceClient = authServiceClient;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return snapshot.isRevoked(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.revocation.refresh-ms:15000}")
+    public void refresh() {
+        try {
+            authServiceClient.fetchRevocations(loaded ? snapshot.version() : null)
+                    .ifPresent(list -> {
+                        snapshot = RevocationSnapshot.of(list.tokenIds());
+                        loaded = true;
+                        log.debug("Revocation list refreshed: {} tokens", list.tokenIds().size());
+                    });
+        } catch (RestClientException e) {
+            log.warn("Could not refresh the revocation list, keeping {} tokens: {}",
+                    snapshot.tokenIds().size(), e.getMessage());
+        }
+    }
+}
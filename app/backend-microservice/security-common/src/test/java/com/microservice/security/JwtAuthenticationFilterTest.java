@@ -0,0 +1,146 @@
+package com.microservice.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.jsonwebtoken.Jwts;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "testSecretKeyForTestingOnlyMustBeAtLeast256BitsLongEnoughForHS256!!";
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String ADMIN_ID = "QHlms0DALUgLnnXMffUBMP14v5m1";
+
+    private final JwtVerifier verifier = new JwtVerifier(SECRET);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static String token(String subject, String jti, boolean service, long ttlMs) {
+        return token(SECRET, subject, jti, service, ttlMs);
+    }
+
+    private static String token(String secret, String subject, String jti, boolean service, long ttlMs) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .id(jti)
+                .subject(subject)
+                .claim(JwtClaims.EMAIL, service ? null : "test@example.com")
+                .claim(JwtClaims.SCOPE, service ? JwtClaims.SERVICE_SCOPE : null)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttlMs))
+                .signWith(JwtKeys.hmacKey(secret))
+                .compact();
+    }
+
+    private Authentication filter(JwtAuthenticationFilter filter, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/transactions");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).as("the chain always continues").isNotNull();
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Nested
+    @DisplayName("authentication")
+    class AuthenticationTests {
+
+        @Test
+        @DisplayName("should install an immutable principal whose name is the userId")
+        void shouldInstallPrincipal() throws Exception {
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifier, TokenRevocationCheck.NONE);
+
+            Authentication authentication = filter(filter, "Bearer " + token(USER_ID, "jti-1", false, 60_000));
+
+            assertThat(authentication.getName()).isEqualTo(USER_ID);
+            assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(JwtPrincipal.class, principal -> {
+                assertThat(principal.email()).isEqualTo("test@example.com");
+                assertThat(principal.tokenId()).isEqualTo("jti-1");
+                assertThat(principal.service()).isFalse();
+            });
+            assertThat(authentication.getAuthorities()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should accept the scheme in any case and surrounding spaces")
+        void shouldAcceptCaseInsensitiveScheme() throws Exception {
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifier, TokenRevocationCheck.NONE);
+
+            Authentication authentication = filter(filter, "bearer  " + token(USER_ID, "jti-1", false, 60_000) + " ");
+
+            assertThat(authentication).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should grant ROLE_SERVICE to service tokens and ROLE_ADMIN to configured admins")
+        void shouldGrantRoles() throws Exception {
+            JwtAuthenticationFilter filter =
+                    new JwtAuthenticationFilter(verifier, TokenRevocationCheck.NONE, Set.of(ADMIN_ID));
+
+            Authentication service = filter(filter, "Bearer " + token("service:report", null, true, 60_000));
+            SecurityContextHolder.clearContext();
+            Authentication admin = filter(filter, "Bearer " + token(ADMIN_ID, "jti-2", false, 60_000));
+
+            assertThat(service.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_SERVICE");
+            assertThat(admin.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_ADMIN");
+        }
+    }
+
+    @Nested
+    @DisplayName("rejection")
+    class Rejection {
+
+        @Test
+        @DisplayName("should leave the request unauthenticated for a revoked token")
+        void shouldRejectRevokedToken() throws Exception {
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifier, "jti-1"::equals);
+
+            assertThat(filter(filter, "Bearer " + token(USER_ID, "jti-1", false, 60_000))).isNull();
+        }
+
+        @Test
+        @DisplayName("should leave the request unauthenticated for expired, tampered or foreign tokens")
+        void shouldRejectInvalidTokens() throws Exception {
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifier, TokenRevocationCheck.NONE);
+            String valid = token(USER_ID, "jti-1", false, 60_000);
+            String foreign = token("anotherSecretKeyThatIsAlsoLongEnoughForHS256Signing!!",
+                    USER_ID, "jti-1", false, 60_000);
+
+            assertThat(filter(filter, "Bearer " + token(USER_ID, "jti-1", false, -1_000))).isNull();
+            assertThat(filter(filter, "Bearer " + valid.substring(0, valid.length() - 2) + "xx")).isNull();
+            assertThat(filter(filter, "Bearer " + foreign)).isNull();
+            assertThat(filter(filter, "Bearer not-a-jwt")).isNull();
+        }
+
+        @Test
+        @DisplayName("should ignore missing headers and other schemes")
+        void shouldIgnoreNonBearerHeaders() throws Exception {
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifier, TokenRevocationCheck.NONE);
+
+            assertThat(filter(filter, null)).isNull();
+            assertThat(filter(filter, "Basic dXNlcjpwYXNz")).isNull();
+            assertThat(filter(filter, "Bearer ")).isNull();
+            assertThat(filter(filter, "Bearer    ")).isNull();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.microservice.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+    @Mock
+    private AuthServiceClient authServiceClient;
+
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry(authServiceClient);
+    }
+
+    @Test
+    @DisplayName("Rechaza solo los jti presentes en la lista descargada")
+    void refreshLoadsRevokedTokens() {
+        when(authServiceClient.fetchRevocations(null))
+                .thenReturn(Optional.of(new RevocationList("2-abc", List.of("jti-1", "jti-2"))));
+
+        registry.refresh();
+
+        assertTrue(registry.isRevoked("jti-1"));
+        assertTrue(registry.isRevoked("jti-2"));
+        assertFalse(registry.isRevoked("jti-3"));
+        assertFalse(registry.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("Envía la versión local y conserva la copia cuando el servicio responde 304")
+    void refreshKeepsSnapshotWhenNotModified() {
+        RevocationSnapshot expected = RevocationSnapshot.of(List.of("jti-1"));
+        when(authServiceClient.fetchRevocations(null))
+                .thenReturn(Optional.of(new RevocationList(expected.version(), List.of("jti-1"))));
+        registry.refresh();
+        when(authServiceClient.fetchRevocations(expected.version())).thenReturn(Optional.empty());
+
+        registry.refresh();
+
+        verify(authServiceClient).fetchRevocations(expected.version());
+        assertTrue(registry.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("Conserva la última copia si el servicio de autenticación no responde")
+    void refreshKeepsSnapshotOnFailure() {
+        when(authServiceClient.fetchRevocations(any()))
+                .thenReturn(Optional.of(new RevocationList("1-x", List.of("jti-1"))))
+                .thenThrow(new ResourceAccessException("connection refused"));
+        registry.refresh();
+
+        assertDoesNotThrow(() -> registry.refresh());
+
+        assertTrue(registry.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("El filtro de Bloom nunca da falsos negativos y el conjunto exacto descarta sus falsos positivos")
+    void snapshotHasNoFalseNegativesOrPositives() {
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            revoked.add(UUID.randomUUID().toString());
+        }
+        RevocationSnapshot snapshot = RevocationSnapshot.of(revoked);
+
+        revoked.forEach(id -> assertTrue(snapshot.isRevoked(id)));
+        int bloomPositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String other = UUID.randomUUID().toString();
+            assertFalse(snapshot.isRevoked(other));
+            if (snapshot.filter().mightContain(other)) {
+                bloomPositives++;
+            }
+        }
+        assertTrue(bloomPositives < 300, "false positive rate too high: " + bloomPositives);
+    }
+}
@@ -0,0 +1,74 @@
+package com.microservice.transaction.config;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.repository.TransactionRepository;
+import com.microservice.transaction.service.CategoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asigna {@code category_id} a las transacciones creadas antes del diccionario de
+ * categorías.
+ *
+ * <p>Recorre los pares {@code (userId, categoría)} sin id en lotes, crea cada
+ * categoría en el diccionario y actualiza sus filas. Es idempotente: en los
+ * arranques siguientes no encuentra filas pendientes y termina con una consulta. Si
+ * falla, se registra y el servicio arranca igualmente; las filas pendientes no
+ * aparecen en los filtros por categoría hasta el siguiente arranque.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryService categoryService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int updated = backfill();
+            if (updated > 0) {
+                log.info("Assigned category ids to {} transactions", updated);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Category backfill failed, will retry on next start: {}", e.getMessage());
+        }
+    }
+
+    int backfill() {
+        int total = 0;
+        while (true) {
+            List<Object[]> pairs = transactionRepository.findUncategorizedPairs(PageRequest.of(0, BATCH_SIZE));
+            if (pairs.isEmpty()) {
+                return total;
+            }
+            int batch = 0;
+            for (Object[] pair : pairs) {
+                String userId = (String) pair[0];
+                String category = (String) pair[1];
+                Integer categoryId = categoryService.intern(userId, category);
+                batch += transactionTemplate.execute(
+                        status -> transactionRepository.assignCategoryId(userId, category, categoryId));
+            }
+            if (batch == 0) {
+                // Sin progreso: no volver a pedir los mismos pares indefinidamente.
+                log.warn("Category backfill made no progress on {} pairs, stopping", pairs.size());
+                return total;
+            }
+            total += batch;
+        }
+    }
+}
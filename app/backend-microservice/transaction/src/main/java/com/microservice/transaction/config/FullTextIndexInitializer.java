@@ -0,0 +1,58 @@
+package com.microservice.transaction.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Crea el índice FULLTEXT de {@code transactions(description, category)} si no existe.
+ *
+ * <p>JPA no puede declarar índices FULLTEXT y {@code ddl-auto: update} solo crea los
+ * de {@code @Index}, así que se crea aquí al arrancar. Solo se ejecuta sobre MySQL; con
+ * otra base de datos (H2 en los tests) la búsqueda por texto no está disponible.</p>
+ *
+ * <p>Crear el índice sobre una tabla grande lleva tiempo y solo ocurre una vez: en los
+ * arranques siguientes la comprobación en {@code information_schema} lo encuentra.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements ApplicationRunner {
+
+    static final String INDEX_NAME = "ft_transactions_description_category";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (!isMySql()) {
+            log.info("Skipping full-text index {}: database is not MySQL", INDEX_NAME);
+            return;
+        }
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'transactions' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        log.info("Creating full-text index {} on transactions(description, category)", INDEX_NAME);
+        jdbcTemplate.execute("ALTER TABLE transactions ADD FULLTEXT INDEX " + INDEX_NAME + " (description, category)");
+    }
+
+    private boolean isMySql() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.microservice.transaction.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * RestTemplate para llamadas entre microservicios.
+ *
+ * Hoy solo lo usa el refresco periódico de la lista de revocación contra
+ * {@code auth}. Con timeouts, un {@code auth} caído o lento hace fallar el refresco
+ * en segundos y el siguiente lo reintenta con la última lista conocida; sin ellos,
+ * la llamada bloquearía el hilo del planificador indefinidamente.
+ */
+@Configuration
+public class RestTemplateConfig {
+
+    @Bean
+    public RestTemplate restTemplate(
+            @Value("${app.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${app.http.read-timeout-ms:5000}") int readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        return new RestTemplate(requestFactory);
+    }
+}
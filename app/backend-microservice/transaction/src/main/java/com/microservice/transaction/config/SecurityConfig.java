@@ -7,18 +7,23 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import com.microservice.transaction.security.JwtAuthenticationFilter;
-
-import lombok.RequiredArgsConstructor;
+import com.microservice.security.AuthServiceClient;
+import com.microservice.security.JwtAuthenticationFilter;
+import com.microservice.security.JwtVerifier;
+import com.microservice.security.ServiceTokenProvider;
+import com.microservice.security.TokenRevocationRegistry;
 
 /**
  * Configuración de Spring Security para el microservicio de transacciones.
@@ -29,39 +34,80 @@ import lombok.RequiredArgsConstructor;
  * - El JwtAuthenticationFilter se agrega antes del UsernamePasswordAuthenticationFilter
  * - CORS se configura dentro de la cadena de seguridad para garantizar
  *   que el header Authorization sea permitido y expuesto
+ * - Los endpoints /api/v1/internal/** solo aceptan tokens de servicio (rol SERVICE)
  * - Todos los endpoints requieren autenticación (excepto OPTIONS preflight)
+ * - Una petición sin token válido recibe 401; 403 indica falta de permisos
  */
 @Configuration
 @EnableWebSecurity
-@RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
-
     @Value("${app.cors.allowed-origins}")
     private List<String> allowedOrigins;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 401 sin token válido (el frontend renueva la sesión); 403 queda para falta de permisos.
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/api/v1/internal/**").hasRole("SERVICE")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Filtro JWT compartido ({@code security-common}); los revocados se consultan en la
+     * copia local de {@link TokenRevocationRegistry}.
+     */
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter(
+            @Value("${app.jwt.secret}") String secret,
+            TokenRevocationRegistry tokenRevocationRegistry) {
+        return new JwtAuthenticationFilter(new JwtVerifier(secret), tokenRevocationRegistry);
+    }
+
+    /**
+     * Token de servicio para las llamadas internas; el subject identifica a este
+     * servicio ({@code app.service-token.subject}).
+     */
+    @Bean
+    public ServiceTokenProvider serviceTokenProvider(
+            @Value("${app.jwt.secret}") String secret,
+            @Value("${app.service-token.subject}") String subject) {
+        return new ServiceTokenProvider(secret, subject);
+    }
+
+    @Bean
+    public AuthServiceClient authServiceClient(
+            RestTemplate restTemplate,
+            ServiceTokenProvider serviceTokenProvider,
+            @Value("${app.services.auth.base-url}") String baseUrl) {
+        return new AuthServiceClient(restTemplate, serviceTokenProvider, baseUrl);
+    }
+
+    /** Copia local de los revocados, refrescada cada {@code app.revocation.refresh-ms}. */
+    @Bean
+    public TokenRevocationRegistry tokenRevocationRegistry(AuthServiceClient authServiceClient) {
+        return new TokenRevocationRegistry(authServiceClient);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(allowedOrigins);
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "Accept", "Origin"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "Accept", "Origin", "Idempotency-Key", "If-Match"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
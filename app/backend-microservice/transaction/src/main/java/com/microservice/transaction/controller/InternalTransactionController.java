@@ -0,0 +1,44 @@
+package com.microservice.transaction.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.microservice.transaction.dto.PeriodTotalsResponse;
+import com.microservice.transaction.dto.UserIdPageResponse;
+import com.microservice.transaction.service.TransactionTotalsService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoints internos para la comunicación entre microservicios.
+ *
+ * <p>Solo accesibles con un token de servicio (rol {@code SERVICE}); ver
+ * {@code SecurityConfig}. No forman parte de la API pública consumida por el SPA.</p>
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/internal/transactions")
+public class InternalTransactionController {
+    private final TransactionTotalsService transactionTotalsService;
+
+    @GetMapping("/users")
+    public ResponseEntity<UserIdPageResponse> listUserIds(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(transactionTotalsService.listUserIds(after, limit));
+    }
+
+    @GetMapping("/users/{userId}/period-totals")
+    public ResponseEntity<List<PeriodTotalsResponse>> getPeriodTotals(
+            @PathVariable String userId,
+            @RequestParam(required = false) String startPeriod,
+            @RequestParam(required = false) String endPeriod) {
+        return ResponseEntity.ok(transactionTotalsService.getPeriodTotals(userId, startPeriod, endPeriod));
+    }
+}
@@ -0,0 +1,53 @@
+package com.microservice.transaction.controller;
+
+import com.microservice.transaction.dto.PaginatedResponse;
+import com.microservice.transaction.dto.RecurringTransactionRequest;
+import com.microservice.transaction.dto.RecurringTransactionResponse;
+import com.microservice.transaction.service.RecurringTransactionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+/**
+ * Definiciones de transacciones recurrentes del usuario autenticado. Las ocurrencias
+ * las genera el planificador y aparecen como transacciones normales.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/recurring-transactions")
+public class RecurringTransactionController {
+    private final RecurringTransactionService recurringTransactionService;
+
+    @PostMapping
+    public ResponseEntity<RecurringTransactionResponse> create(
+            @Valid @RequestBody RecurringTransactionRequest dto,
+            Principal principal) {
+        String userId = principal.getName();
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(recurringTransactionService.create(userId, dto));
+    }
+
+    @GetMapping
+    public ResponseEntity<PaginatedResponse<RecurringTransactionResponse>> getAll(
+            Principal principal,
+            @PageableDefault(size = 10, page = 0) Pageable pageable) {
+        String userId = principal.getName();
+        return ResponseEntity.ok(recurringTransactionService.getAll(userId, pageable));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            Principal principal) {
+        String userId = principal.getName();
+        recurringTransactionService.delete(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+}
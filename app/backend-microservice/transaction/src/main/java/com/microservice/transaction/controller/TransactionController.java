@@ -1,8 +1,14 @@
 package com.microservice.transaction.controller;
 
+import com.microservice.transaction.dto.BulkDeleteRequest;
+import com.microservice.transaction.dto.BulkOperationResponse;
+import com.microservice.transaction.dto.BulkRecategorizeRequest;
 import com.microservice.transaction.dto.PaginatedResponse;
+import com.microservice.transaction.dto.TransactionChangesResponse;
 import com.microservice.transaction.dto.TransactionRequest;
 import com.microservice.transaction.dto.TransactionResponse;
+import com.microservice.transaction.dto.TransactionSearchCriteria;
+import com.microservice.transaction.exception.ValidationException;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +17,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 
+import com.microservice.transaction.service.BulkTransactionService;
+import com.microservice.transaction.service.IdempotencyService;
+import com.microservice.transaction.service.TransactionChangeService;
 import com.microservice.transaction.service.TransactionService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,31 +32,86 @@ import java.security.Principal;
  * Todos los endpoints requieren autenticación JWT.
  * El userId se extrae automáticamente del usuario autenticado,
  * garantizando que cada usuario solo puede ver/modificar sus propias transacciones.
+ *
+ * GET y PUT devuelven la versión de la transacción en {@code ETag}. PUT y DELETE
+ * aceptan esa versión en {@code If-Match}: si la transacción cambió desde entonces
+ * responden 409 en lugar de pisar el cambio de otro cliente.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("api/v1/transactions")
 public class TransactionController {
     private final TransactionService transactionService;
+    private final TransactionChangeService transactionChangeService;
+    private final IdempotencyService idempotencyService;
+    private final BulkTransactionService bulkTransactionService;
 
+    /**
+     * Crea una transacción. Con la cabecera {@code Idempotency-Key}, los reintentos
+     * con la misma clave devuelven la transacción ya creada en lugar de duplicarla;
+     * una clave reutilizada con otro cuerpo responde 422.
+     */
     @PostMapping
     public ResponseEntity<TransactionResponse> create(
             @Valid @RequestBody TransactionRequest dto,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             Principal principal) {
         String userId = principal.getName();
-        TransactionResponse created = transactionService.create(userId, dto);
+        TransactionResponse created = idempotencyKey == null
+                ? transactionService.create(userId, dto)
+                : idempotencyService.create(userId, idempotencyKey, dto);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(created);
     }
 
+    /**
+     * Change feed incremental: inserciones, actualizaciones y tombstones de
+     * eliminación posteriores a {@code since}. Sin {@code since} devuelve solo
+     * el cursor actual. Responde 410 si el cursor ya fue purgado.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TransactionChangesResponse> getChanges(
+            Principal principal,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit) {
+        String userId = principal.getName();
+        return ResponseEntity.ok(transactionChangeService.getChanges(userId, since, limit));
+    }
+
+    /**
+     * Búsqueda con filtros combinados: {@code type}, {@code category} (repetible),
+     * {@code minAmount}/{@code maxAmount}, {@code from}/{@code to} (yyyy-MM-dd) y
+     * {@code text} (descripción). Se filtra en la base de datos, no en el cliente.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PaginatedResponse<TransactionResponse>> search(
+            Principal principal,
+            TransactionSearchCriteria criteria,
+            @PageableDefault(size = 10, page = 0, sort = "date", direction = Sort.Direction.DESC) Pageable pageable) {
+        String userId = principal.getName();
+        return ResponseEntity.ok(transactionService.search(userId, criteria, pageable));
+    }
+
+    /**
+     * Búsqueda por texto en descripción y categoría ({@code q}), ordenada por relevancia.
+     */
+    @GetMapping("/search/text")
+    public ResponseEntity<PaginatedResponse<TransactionResponse>> searchText(
+            Principal principal,
+            @RequestParam String q,
+            @PageableDefault(size = 10, page = 0) Pageable pageable) {
+        String userId = principal.getName();
+        return ResponseEntity.ok(transactionService.searchText(userId, q, pageable));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getById(
             @PathVariable Long id,
             Principal principal) {
         String userId = principal.getName();
         TransactionResponse found = transactionService.getById(userId, id);
-        return ResponseEntity.ok(found);
+        return ResponseEntity.ok().eTag(String.valueOf(found.version())).body(found);
     }
 
     @GetMapping
@@ -66,18 +130,66 @@ public class TransactionController {
     public ResponseEntity<TransactionResponse> update(
             @PathVariable Long id,
             @Valid @RequestBody TransactionRequest dto,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch,
             Principal principal) {
         String userId = principal.getName();
-        TransactionResponse updated = transactionService.updateTransaction(userId, id, dto);
-        return ResponseEntity.ok(updated);
+        TransactionResponse updated = transactionService.updateTransaction(userId, id, dto, parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(updated.version())).body(updated);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
             @PathVariable Long id,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch,
             Principal principal) {
         String userId = principal.getName();
-        transactionService.delete(userId, id);
+        transactionService.delete(userId, id, parseVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Cambia a {@code category} todas las transacciones que cumplen {@code filter}
+     * (mismos filtros que {@code /search}).
+     */
+    @PostMapping("/bulk/recategorize")
+    public ResponseEntity<BulkOperationResponse> bulkRecategorize(
+            @Valid @RequestBody BulkRecategorizeRequest request,
+            Principal principal) {
+        String userId = principal.getName();
+        return ResponseEntity.ok(bulkTransactionService.recategorize(userId, request));
+    }
+
+    /**
+     * Elimina por lista de ids ({@code transactionIds}) o un período completo
+     * ({@code period}, yyyy-MM).
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkOperationResponse> bulkDelete(
+            @Valid @RequestBody BulkDeleteRequest request,
+            Principal principal) {
+        String userId = principal.getName();
+        return ResponseEntity.ok(bulkTransactionService.delete(userId, request));
+    }
+
+    /**
+     * Versión de un {@code If-Match} ({@code "3"}, {@code W/"3"} o {@code 3});
+     * {@code null} si no viene o es {@code *}.
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid If-Match header: " + ifMatch);
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.microservice.transaction.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Borrado masivo por lista de ids o por período ({@code yyyy-MM}); se debe indicar
+ * exactamente uno de los dos. Los ids que no existen o son de otro usuario se ignoran.
+ */
+public record BulkDeleteRequest(
+        @Size(max = 1000, message = "At most 1000 transaction ids per request") List<Long> transactionIds,
+        @Pattern(regexp = "\\d{4}-(0[1-9]|1[0-2])", message = "Period must be in yyyy-MM format") String period) {
+}
@@ -0,0 +1,9 @@
+package com.microservice.transaction.dto;
+
+/**
+ * Resultado de una operación masiva.
+ *
+ * @param affected transacciones modificadas o eliminadas
+ */
+public record BulkOperationResponse(int affected) {
+}
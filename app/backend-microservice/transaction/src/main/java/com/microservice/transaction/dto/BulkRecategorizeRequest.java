@@ -0,0 +1,17 @@
+package com.microservice.transaction.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Cambio de categoría masivo: todas las transacciones del usuario que cumplen
+ * {@code filter} pasan a {@code category}.
+ *
+ * @param filter mismos filtros que la búsqueda; {@code filter.category} selecciona las
+ *               categorías de origen
+ */
+public record BulkRecategorizeRequest(
+        @NotNull(message = "Filter is required") TransactionSearchCriteria filter,
+        @NotBlank(message = "Category is required") @Size(max = 100, message = "Category must be less than 100 characters") String category) {
+}
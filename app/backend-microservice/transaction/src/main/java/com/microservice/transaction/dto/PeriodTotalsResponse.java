@@ -0,0 +1,12 @@
+package com.microservice.transaction.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Totales de ingresos y gastos de un usuario para un período mensual (yyyy-MM).
+ */
+public record PeriodTotalsResponse(
+        String period,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense) {
+}
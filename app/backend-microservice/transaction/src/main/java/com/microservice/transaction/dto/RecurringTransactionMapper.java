@@ -0,0 +1,52 @@
+package com.microservice.transaction.dto;
+
+import com.microservice.transaction.model.RecurringTransaction;
+import com.microservice.transaction.model.Transaction;
+
+import java.time.LocalDate;
+
+/**
+ * Mapper entre DTOs, definiciones recurrentes y las transacciones que generan.
+ */
+public class RecurringTransactionMapper {
+    public static RecurringTransaction toEntity(String userId, RecurringTransactionRequest dto) {
+        return RecurringTransaction.builder()
+                .userId(userId)
+                .type(dto.type())
+                .amount(dto.amount())
+                .category(dto.category())
+                .description(dto.description())
+                .schedule(dto.schedule().trim())
+                .endDate(dto.endDate())
+                .build();
+    }
+
+    public static RecurringTransactionResponse toResponse(RecurringTransaction entity) {
+        return new RecurringTransactionResponse(
+                entity.getRecurringId(),
+                entity.getType(),
+                entity.getAmount(),
+                entity.getCategory(),
+                entity.getDescription(),
+                entity.getSchedule(),
+                entity.getNextOccurrence(),
+                entity.getEndDate(),
+                entity.getCreatedAt()
+        );
+    }
+
+    /**
+     * Ocurrencia de {@code definition} en {@code date}.
+     */
+    public static Transaction toOccurrence(RecurringTransaction definition, LocalDate date) {
+        return Transaction.builder()
+                .userId(definition.getUserId())
+                .type(definition.getType())
+                .amount(definition.getAmount())
+                .category(definition.getCategory())
+                .categoryId(definition.getCategoryId())
+                .date(date)
+                .description(definition.getDescription())
+                .build();
+    }
+}
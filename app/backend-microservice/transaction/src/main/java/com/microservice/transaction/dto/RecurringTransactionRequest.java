@@ -0,0 +1,29 @@
+package com.microservice.transaction.dto;
+
+import com.microservice.transaction.model.TransactionType;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Alta de una transacción recurrente.
+ *
+ * @param schedule  cron de Spring de seis campos, por ejemplo {@code "0 0 0 1 * *"} (día 1
+ *                  de cada mes) o {@code "0 0 0 * * MON"} (cada lunes); la hora se ignora
+ * @param startDate primera fecha en la que puede generarse una ocurrencia
+ * @param endDate   última fecha en la que puede generarse una ocurrencia; opcional
+ */
+public record RecurringTransactionRequest(
+        @NotNull TransactionType type,
+        @NotNull @Digits(integer = 19, fraction = 2) @Positive(message = "Amount must be positive") BigDecimal amount,
+        @NotBlank(message = "Category is required") @Size(max = 100, message = "Category must be less than 100 characters") String category,
+        @Size(max = 500) String description,
+        @NotBlank(message = "Schedule is required") @Size(max = 100) String schedule,
+        @NotNull LocalDate startDate,
+        LocalDate endDate) {
+}
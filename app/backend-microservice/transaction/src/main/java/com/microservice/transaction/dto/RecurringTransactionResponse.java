@@ -0,0 +1,22 @@
+package com.microservice.transaction.dto;
+
+import com.microservice.transaction.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * @param nextOccurrence próxima fecha a generar; {@code null} si la definición terminó
+ */
+public record RecurringTransactionResponse(
+        Long recurringId,
+        TransactionType type,
+        BigDecimal amount,
+        String category,
+        String description,
+        String schedule,
+        LocalDate nextOccurrence,
+        LocalDate endDate,
+        OffsetDateTime createdAt) {
+}
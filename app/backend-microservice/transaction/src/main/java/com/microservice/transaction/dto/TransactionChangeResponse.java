@@ -0,0 +1,13 @@
+package com.microservice.transaction.dto;
+
+import com.microservice.transaction.model.ChangeOperation;
+
+/**
+ * Cambio del feed. En {@code DELETE} (tombstone) {@code transaction} es {@code null}.
+ */
+public record TransactionChangeResponse(
+        Long seq,
+        Long transactionId,
+        ChangeOperation operation,
+        TransactionResponse transaction) {
+}
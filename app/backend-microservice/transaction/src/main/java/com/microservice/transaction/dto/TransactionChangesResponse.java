@@ -0,0 +1,9 @@
+package com.microservice.transaction.dto;
+
+import java.util.List;
+
+public record TransactionChangesResponse(
+        List<TransactionChangeResponse> changes,
+        String nextCursor,
+        boolean hasMore) {
+}
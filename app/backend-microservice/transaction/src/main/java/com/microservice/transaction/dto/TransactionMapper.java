@@ -32,7 +32,8 @@ public class TransactionMapper {
                 entity.getCategory(),
                 entity.getDate(),
                 entity.getDescription(),
-                entity.getCreatedAt()
+                entity.getCreatedAt(),
+                entity.getVersion()
         );
     }
 
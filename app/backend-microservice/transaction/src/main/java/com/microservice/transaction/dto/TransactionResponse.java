@@ -14,5 +14,6 @@ public record TransactionResponse(
         String category,
         LocalDate date,
         String description,
-        OffsetDateTime createdAt) {
+        OffsetDateTime createdAt,
+        Long version) {
 }
@@ -0,0 +1,25 @@
+package com.microservice.transaction.dto;
+
+import com.microservice.transaction.model.TransactionType;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filtros de búsqueda de transacciones. Todos son opcionales y se combinan con AND;
+ * {@code category} admite varios valores (OR entre ellos).
+ *
+ * @param text texto contenido en la descripción (sin distinguir mayúsculas)
+ */
+public record TransactionSearchCriteria(
+        TransactionType type,
+        List<String> category,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        String text) {
+}
@@ -0,0 +1,14 @@
+package com.microservice.transaction.dto;
+
+import java.util.List;
+
+/**
+ * Página de userIds con transacciones, paginada por cursor (keyset).
+ *
+ * @param userIds    userIds ordenados ascendentemente
+ * @param nextCursor último userId de la página, o {@code null} si no hay más páginas
+ */
+public record UserIdPageResponse(
+        List<String> userIds,
+        String nextCursor) {
+}
@@ -0,0 +1,28 @@
+package com.microservice.transaction.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Variación agregada de los totales de un usuario en un período, producida por una
+ * operación masiva en lugar de un evento por transacción.
+ */
+@Getter
+public class ReportDeltaEvent extends ApplicationEvent {
+    private final String userId;
+    private final YearMonth period;
+    private final BigDecimal incomeDelta;
+    private final BigDecimal expenseDelta;
+
+    public ReportDeltaEvent(Object source, String userId, YearMonth period, BigDecimal incomeDelta,
+            BigDecimal expenseDelta) {
+        super(source);
+        this.userId = userId;
+        this.period = period;
+        this.incomeDelta = incomeDelta;
+        this.expenseDelta = expenseDelta;
+    }
+}
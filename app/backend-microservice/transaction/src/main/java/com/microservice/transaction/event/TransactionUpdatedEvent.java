@@ -1,15 +1,30 @@
 package com.microservice.transaction.event;
 
 import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Transacción modificada, con el tipo, el importe y la fecha que tenía antes del cambio para que
+ * {@code report} pueda revertir la acumulación anterior.
+ */
 @Getter
 public class TransactionUpdatedEvent extends ApplicationEvent {
     private final Transaction transaction;
+    private final TransactionType previousType;
+    private final BigDecimal previousAmount;
+    private final LocalDate previousDate;
 
-    public TransactionUpdatedEvent(Object source, Transaction transaction) {
+    public TransactionUpdatedEvent(Object source, Transaction transaction, TransactionType previousType,
+            BigDecimal previousAmount, LocalDate previousDate) {
         super(source);
         this.transaction = transaction;
+        this.previousType = previousType;
+        this.previousAmount = previousAmount;
+        this.previousDate = previousDate;
     }
 }
@@ -39,6 +39,21 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex, request);
     }
 
+    @ExceptionHandler(ChangeCursorExpiredException.class)
+    public ResponseEntity<CustomErrorResponse> handleCursorExpired(ChangeCursorExpiredException ex, HttpServletRequest request) {
+        return buildErrorResponse(HttpStatus.GONE, ex, request);
+    }
+
+    @ExceptionHandler(TransactionConflictException.class)
+    public ResponseEntity<CustomErrorResponse> handleConflict(TransactionConflictException ex, HttpServletRequest request) {
+        return buildErrorResponse(HttpStatus.CONFLICT, ex, request);
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<CustomErrorResponse> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException ex, HttpServletRequest request) {
+        return buildErrorResponse(HttpStatus.UNPROCESSABLE_CONTENT, ex, request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<CustomErrorResponse> handleGeneric(Exception ex, HttpServletRequest request) {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex, request);
@@ -0,0 +1,7 @@
+package com.microservice.transaction.exception;
+
+public class TransactionConflictException extends RuntimeException {
+    public TransactionConflictException(String message) {
+        super(message);
+    }
+}
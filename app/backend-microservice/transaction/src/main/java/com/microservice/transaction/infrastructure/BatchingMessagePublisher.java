@@ -0,0 +1,321 @@
+package com.microservice.transaction.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publica mensajes en RabbitMQ por lotes y con publisher confirms correlados.
+ *
+ * <p>{@link #publish} serializa el mensaje en el hilo que llama y lo deja en un buffer
+ * acotado. Un único hilo espera hasta {@code lingerMs} a que se junten mensajes (o a
+ * llenar {@code maxBatchSize}), los envía todos por el mismo canal y después espera la
+ * confirmación del broker de cada uno. Así un lote cuesta un viaje de red en lugar de
+ * uno por mensaje y se sabe qué aceptó el broker.</p>
+ *
+ * <ul>
+ *   <li><b>broker no disponible</b> al enviar: el lote se reintenta cada
+ *       {@value #SEND_RETRY_BACKOFF_MS} ms sin consumir intentos; mientras tanto el
+ *       buffer se llena y frena a los productores.</li>
+ *   <li><b>nack o sin confirmación</b> en {@code confirmTimeoutMs}: el mensaje vuelve
+ *       al buffer hasta {@code maxAttempts} intentos; después se registra como
+ *       perdido en el log y en métricas.</li>
+ *   <li><b>devuelto</b> (sin cola enlazada): se registra, no se reintenta.</li>
+ *   <li><b>buffer lleno</b>: {@link #publish} bloquea al llamador (los listeners
+ *       {@code @Async}), que es la contrapresión deseada.</li>
+ *   <li><b>sin hilo de envío</b> (antes de {@link #start} o tras {@link #stop}): el
+ *       mensaje se envía en el hilo que llama con un único intento.</li>
+ * </ul>
+ *
+ * <p>Un reintento puede adelantar a mensajes posteriores, así que el orden entre
+ * eventos de una misma transacción no está garantizado; cada mensaje lleva un
+ * {@code messageId} único.</p>
+ *
+ * <h3>Métricas</h3>
+ * <ul>
+ *   <li>{@code transaction.messaging.buffered}: mensajes esperando lote.</li>
+ *   <li>{@code transaction.messaging.in-flight}: enviados pendientes de confirmación.</li>
+ *   <li>{@code transaction.messaging.published{result=confirmed|retried|returned|failed}}.</li>
+ *   <li>{@code transaction.messaging.batch.size}: mensajes por lote.</li>
+ * </ul>
+ */
+@Slf4j
+public class BatchingMessagePublisher implements SmartLifecycle {
+
+    static final long SEND_RETRY_BACKOFF_MS = 1000;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageConverter messageConverter;
+    private final String exchange;
+    private final long lingerMs;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long confirmTimeoutMs;
+    private final BlockingQueue<PendingMessage> buffer;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter confirmedCounter;
+    private final Counter retriedCounter;
+    private final Counter returnedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSize;
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public BatchingMessagePublisher(RabbitTemplate rabbitTemplate, MessageConverter messageConverter,
+            String exchange, long lingerMs, int maxBatchSize, int bufferCapacity, int maxAttempts,
+            long confirmTimeoutMs, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.messageConverter = messageConverter;
+        this.exchange = exchange;
+        this.lingerMs = lingerMs;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.buffer = new LinkedBlockingQueue<>(bufferCapacity);
+
+        this.confirmedCounter = publishedCounter("confirmed", meterRegistry);
+        this.retriedCounter = publishedCounter("retried", meterRegistry);
+        this.returnedCounter = publishedCounter("returned", meterRegistry);
+        this.failedCounter = publishedCounter("failed", meterRegistry);
+        this.batchSize = DistributionSummary.builder("transaction.messaging.batch.size")
+                .description("Messages published per batch")
+                .register(meterRegistry);
+        Gauge.builder("transaction.messaging.buffered", buffer, BlockingQueue::size)
+                .description("Messages waiting to be batched")
+                .register(meterRegistry);
+        Gauge.builder("transaction.messaging.in-flight", inFlight, AtomicInteger::get)
+                .description("Messages sent and waiting for a broker confirm")
+                .register(meterRegistry);
+    }
+
+    private static Counter publishedCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("transaction.messaging.published")
+                .description("Published messages by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Encola un mensaje para el siguiente lote.
+     *
+     * @param routingKey routing key en el exchange configurado
+     * @param payload    objeto a serializar con el {@link MessageConverter} de RabbitMQ
+     */
+    public void publish(String routingKey, Object payload) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(UUID.randomUUID().toString());
+        Message message = messageConverter.toMessage(payload, properties);
+        PendingMessage pending = new PendingMessage(routingKey, message, 1);
+
+        if (running) {
+            try {
+                buffer.put(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmqpException("Interrupted while buffering message " + properties.getMessageId(), e);
+            }
+            // stop() pudo cruzarse con el put: si el hilo de envío ya vació el buffer y
+            // terminó, el mensaje quedaría ahí. Si sigue en el buffer, se envía aquí.
+            if (running || !buffer.remove(pending)) {
+                return;
+            }
+        }
+        // Antes de arrancar o durante el apagado no hay hilo de envío.
+        List<PendingMessage> single = List.of(pending);
+        if (!publishBatch(single)) {
+            fail(single, "broker unavailable");
+        }
+    }
+
+    /** Mensajes esperando lote. */
+    public int bufferedCount() {
+        return buffer.size();
+    }
+
+    /** Mensajes enviados pendientes de confirmación. */
+    public int inFlightCount() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "rabbit-batch-publisher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Deja de aceptar mensajes en el buffer y espera a que el hilo de envío publique
+     * lo pendiente, para no perderlo al apagar.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+        try {
+            flusher.join(confirmTimeoutMs * maxAttempts + lingerMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            log.error("Shutting down with {} unpublished messages", buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingMessage first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingMessage next = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                while (!publishBatch(batch)) {
+                    if (!running) {
+                        fail(batch, "broker unavailable during shutdown");
+                        break;
+                    }
+                    Thread.sleep(SEND_RETRY_BACKOFF_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error publishing a batch of {} messages", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Envía el lote por un único canal y espera sus confirmaciones.
+     *
+     * @return {@code false} si no se pudo enviar (el lote no llegó al broker)
+     */
+    boolean publishBatch(List<PendingMessage> batch) {
+        inFlight.addAndGet(batch.size());
+        List<CorrelationData> correlations;
+        try {
+            correlations = rabbitTemplate.invoke(operations -> {
+                List<CorrelationData> sent = new ArrayList<>(batch.size());
+                for (PendingMessage pending : batch) {
+                    CorrelationData correlation = new CorrelationData(
+                            pending.message().getMessageProperties().getMessageId());
+                    operations.send(exchange, pending.routingKey(), pending.message(), correlation);
+                    sent.add(correlation);
+                }
+                return sent;
+            });
+        } catch (AmqpException e) {
+            log.warn("Could not send a batch of {} messages: {}", batch.size(), e.getMessage());
+            inFlight.addAndGet(-batch.size());
+            return false;
+        }
+        batchSize.record(batch.size());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i);
+            CorrelationData correlation = correlations.get(i);
+            try {
+                CorrelationData.Confirm confirm = correlation.getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!confirm.ack()) {
+                    retry(pending, "nack: " + confirm.reason());
+                } else if (correlation.getReturned() != null) {
+                    returnedCounter.increment();
+                    log.warn("Message {} to '{}' was not routed to any queue: {}", correlation.getId(),
+                            pending.routingKey(), correlation.getReturned().getReplyText());
+                } else {
+                    confirmedCounter.increment();
+                }
+            } catch (TimeoutException e) {
+                retry(pending, "no confirm after " + confirmTimeoutMs + " ms");
+            } catch (ExecutionException e) {
+                retry(pending, String.valueOf(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                retry(pending, "interrupted");
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    private void fail(List<PendingMessage> batch, String reason) {
+        for (PendingMessage pending : batch) {
+            failedCounter.increment();
+            log.error("Dropping message {} to '{}': {}", pending.message().getMessageProperties().getMessageId(),
+                    pending.routingKey(), reason);
+        }
+    }
+
+    private void retry(PendingMessage pending, String reason) {
+        String messageId = pending.message().getMessageProperties().getMessageId();
+        if (pending.attempt() >= maxAttempts) {
+            fail(List.of(pending), "after " + pending.attempt() + " attempts: " + reason);
+            return;
+        }
+        if (Thread.currentThread() != flusher) {
+            // Envío directo sin hilo de envío: nadie recogería el reintento del buffer.
+            fail(List.of(pending), "background sender not running, not retried: " + reason);
+            return;
+        }
+        if (!buffer.offer(pending.nextAttempt())) {
+            fail(List.of(pending), "buffer full, could not requeue attempt " + (pending.attempt() + 1)
+                    + ": " + reason);
+            return;
+        }
+        retriedCounter.increment();
+        log.debug("Retrying message {} to '{}' (attempt {}): {}", messageId, pending.routingKey(),
+                pending.attempt() + 1, reason);
+    }
+
+    record PendingMessage(String routingKey, Message message, int attempt) {
+        PendingMessage nextAttempt() {
+            return new PendingMessage(routingKey, message, attempt + 1);
+        }
+    }
+}
@@ -4,12 +4,15 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class RabbitMQConfiguration {
     @Value("${rabbitmq.queues.transaction-exchange}")
@@ -34,8 +37,45 @@ public class RabbitMQConfiguration {
                 .with("transaction.created");
     }
 
+    /**
+     * Binario compacto para {@code TransactionMessage} ({@code format: binary}) y JSON
+     * para el resto. Al leer se aceptan ambos según el content-type.
+     */
+    @Bean
+    public MessageConverter messageConverter(@Value("${app.messaging.publisher.format:binary}") String format) {
+        boolean binary = switch (format.toLowerCase()) {
+            case "binary" -> true;
+            case "json" -> false;
+            default -> throw new IllegalArgumentException(
+                    "app.messaging.publisher.format must be 'binary' or 'json', got '" + format + "'");
+        };
+        return new TransactionMessageConverter(new JacksonJsonMessageConverter(), binary);
+    }
+
+    /**
+     * Publicador por lotes con confirms. Requiere
+     * {@code spring.rabbitmq.publisher-confirm-type: correlated}.
+     */
+    @Bean
+    public BatchingMessagePublisher batchingMessagePublisher(
+            RabbitTemplate rabbitTemplate,
+            MessageConverter messageConverter,
+            @Value("${app.messaging.publisher.linger-ms:5}") long lingerMs,
+            @Value("${app.messaging.publisher.max-batch-size:100}") int maxBatchSize,
+            @Value("${app.messaging.publisher.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${app.messaging.publisher.max-attempts:3}") int maxAttempts,
+            @Value("${app.messaging.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+            MeterRegistry meterRegistry) {
+        return new BatchingMessagePublisher(rabbitTemplate, messageConverter, transactionExchange,
+                lingerMs, maxBatchSize, bufferCapacity, maxAttempts, confirmTimeoutMs, meterRegistry);
+    }
+
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new JacksonJsonMessageConverter();
+    public UpdateCoalescer updateCoalescer(
+            BatchingMessagePublisher batchingMessagePublisher,
+            @Value("${app.messaging.coalesce.window-ms:2000}") long windowMs,
+            @Value("${app.messaging.coalesce.max-wait-ms:10000}") long maxWaitMs,
+            MeterRegistry meterRegistry) {
+        return new UpdateCoalescer(batchingMessagePublisher, windowMs, maxWaitMs, meterRegistry);
     }
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.microservice.transaction.infrastructure;
 
+import com.microservice.transaction.event.ReportDeltaEvent;
 import com.microservice.transaction.event.TransactionCreatedEvent;
 import com.microservice.transaction.event.TransactionDeletedEvent;
 import com.microservice.transaction.event.TransactionUpdatedEvent;
 import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
 import com.microservice.transaction.service.port.TransactionEventPublisherPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
 @RequiredArgsConstructor
 @Component
 public class SpringTransactionEventPublisher implements TransactionEventPublisherPort {
@@ -20,12 +26,19 @@ public class SpringTransactionEventPublisher implements TransactionEventPublishe
     }
 
     @Override
-    public void publishUpdated(Transaction transaction) {
-        eventPublisher.publishEvent(new TransactionUpdatedEvent(this, transaction));
+    public void publishUpdated(Transaction transaction, TransactionType previousType, BigDecimal previousAmount,
+                               LocalDate previousDate) {
+        eventPublisher.publishEvent(
+                new TransactionUpdatedEvent(this, transaction, previousType, previousAmount, previousDate));
     }
 
     @Override
     public void publishDeleted(Transaction transaction) {
         eventPublisher.publishEvent(new TransactionDeletedEvent(this, transaction));
     }
+
+    @Override
+    public void publishReportDelta(String userId, YearMonth period, BigDecimal incomeDelta, BigDecimal expenseDelta) {
+        eventPublisher.publishEvent(new ReportDeltaEvent(this, userId, period, incomeDelta, expenseDelta));
+    }
 }
@@ -0,0 +1,220 @@
+package com.microservice.transaction.infrastructure;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.microservice.transaction.infrastructure.dto.TransactionMessage;
+import com.microservice.transaction.model.TransactionType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link MessageConverter} con un formato binario compacto para {@link TransactionMessage}
+ * y JSON para todo lo demás.
+ *
+ * <p>El formato se identifica por el content-type {@value #CONTENT_TYPE}; cualquier otro
+ * mensaje se delega en el conversor JSON, así que ambos formatos conviven en las colas
+ * durante un despliegue. El consumidor ({@code report}) tiene su propia copia de este
+ * formato y debe desplegarse antes de activar {@code binary} aquí.</p>
+ *
+ * <h3>Formato v1</h3>
+ * <pre>
+ * byte     versión (1)
+ * long     transactionId
+ * utf      userId
+ * byte     type (ordinal: 0 INCOME, 1 EXPENSE)
+ * decimal  amount
+ * int      date (días desde 1970-01-01)
+ * utf      category
+ * byte     flags de campos opcionales: 1 description, 2 previousAmount,
+ *          4 previousDate, 8 createdAt, 16 categoryId, 32 previousType
+ * [utf     description]
+ * [decimal previousAmount]
+ * [int     previousDate]
+ * [long    createdAt (epoch ms) + int offset (s)]
+ * [int     categoryId]
+ * [byte    previousType (ordinal)]
+ *
+ * decimal = byte scale + long valor sin escala
+ * utf     = {@link DataOutputStream#writeUTF}
+ * </pre>
+ *
+ * <p>Se envían en JSON los mensajes que el formato no puede representar: un importe
+ * cuyo valor sin escala no cabe en un {@code long}, o un campo obligatorio nulo (p. ej.
+ * la categoría de filas antiguas).</p>
+ */
+@Slf4j
+public class TransactionMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-transaction-message";
+
+    static final byte VERSION = 1;
+    static final int HAS_DESCRIPTION = 1;
+    static final int HAS_PREVIOUS_AMOUNT = 2;
+    static final int HAS_PREVIOUS_DATE = 4;
+    static final int HAS_CREATED_AT = 8;
+    static final int HAS_CATEGORY_ID = 16;
+    static final int HAS_PREVIOUS_TYPE = 32;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final MessageConverter jsonConverter;
+    private final boolean binaryOutbound;
+
+    /**
+     * @param jsonConverter  conversor para el resto de mensajes y para leer JSON
+     * @param binaryOutbound si {@code false}, los {@link TransactionMessage} salientes
+     *                       también se envían en JSON (solo se acepta binario al leer)
+     */
+    public TransactionMessageConverter(MessageConverter jsonConverter, boolean binaryOutbound) {
+        this.jsonConverter = jsonConverter;
+        this.binaryOutbound = binaryOutbound;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (binaryOutbound && object instanceof TransactionMessage transactionMessage
+                && hasRequiredFields(transactionMessage)) {
+            try {
+                byte[] body = encode(transactionMessage);
+                messageProperties.setContentType(CONTENT_TYPE);
+                messageProperties.setContentLength(body.length);
+                return new Message(body, messageProperties);
+            } catch (ArithmeticException e) {
+                log.debug("Transaction {} does not fit the binary format, sending JSON: {}",
+                        transactionMessage.getTransactionId(), e.getMessage());
+            }
+        }
+        return jsonConverter.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        if (CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            return decode(message.getBody());
+        }
+        return jsonConverter.fromMessage(message);
+    }
+
+    /** El formato v1 no tiene marca de nulo para los campos fijos. */
+    static boolean hasRequiredFields(TransactionMessage message) {
+        return message.getTransactionId() != null && message.getUserId() != null && message.getType() != null
+                && message.getAmount() != null && message.getDate() != null && message.getCategory() != null;
+    }
+
+    static byte[] encode(TransactionMessage message) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(message.getTransactionId());
+            out.writeUTF(message.getUserId());
+            out.writeByte(message.getType().ordinal());
+            writeDecimal(out, message.getAmount());
+            out.writeInt(Math.toIntExact(message.getDate().toEpochDay()));
+            out.writeUTF(message.getCategory());
+
+            int flags = (message.getDescription() != null ? HAS_DESCRIPTION : 0)
+                    | (message.getPreviousAmount() != null ? HAS_PREVIOUS_AMOUNT : 0)
+                    | (message.getPreviousDate() != null ? HAS_PREVIOUS_DATE : 0)
+                    | (message.getCreatedAt() != null ? HAS_CREATED_AT : 0)
+                    | (message.getCategoryId() != null ? HAS_CATEGORY_ID : 0)
+                    | (message.getPreviousType() != null ? HAS_PREVIOUS_TYPE : 0);
+            out.writeByte(flags);
+            if (message.getDescription() != null) {
+                out.writeUTF(message.getDescription());
+            }
+            if (message.getPreviousAmount() != null) {
+                writeDecimal(out, message.getPreviousAmount());
+            }
+            if (message.getPreviousDate() != null) {
+                out.writeInt(Math.toIntExact(message.getPreviousDate().toEpochDay()));
+            }
+            if (message.getCreatedAt() != null) {
+                out.writeLong(message.getCreatedAt().toInstant().toEpochMilli());
+                out.writeInt(message.getCreatedAt().getOffset().getTotalSeconds());
+            }
+            if (message.getCategoryId() != null) {
+                out.writeInt(message.getCategoryId());
+            }
+            if (message.getPreviousType() != null) {
+                out.writeByte(message.getPreviousType().ordinal());
+            }
+        } catch (IOException e) {
+            throw new MessageConversionException("Could not encode transaction message", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static TransactionMessage decode(byte[] body) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new MessageConversionException("Unsupported transaction message version " + version);
+            }
+            TransactionMessage.TransactionMessageBuilder builder = TransactionMessage.builder()
+                    .transactionId(in.readLong())
+                    .userId(in.readUTF())
+                    .type(type(in.readUnsignedByte()))
+                    .amount(readDecimal(in))
+                    .date(LocalDate.ofEpochDay(in.readInt()))
+                    .category(in.readUTF());
+
+            int flags = in.readUnsignedByte();
+            if ((flags & HAS_DESCRIPTION) != 0) {
+                builder.description(in.readUTF());
+            }
+            if ((flags & HAS_PREVIOUS_AMOUNT) != 0) {
+                builder.previousAmount(readDecimal(in));
+            }
+            if ((flags & HAS_PREVIOUS_DATE) != 0) {
+                builder.previousDate(LocalDate.ofEpochDay(in.readInt()));
+            }
+            if ((flags & HAS_CREATED_AT) != 0) {
+                Instant instant = Instant.ofEpochMilli(in.readLong());
+                builder.createdAt(OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(in.readInt())));
+            }
+            if ((flags & HAS_CATEGORY_ID) != 0) {
+                builder.categoryId(in.readInt());
+            }
+            if ((flags & HAS_PREVIOUS_TYPE) != 0) {
+                builder.previousType(type(in.readUnsignedByte()));
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new MessageConversionException("Malformed transaction message", e);
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value.scale() < Byte.MIN_VALUE || value.scale() > Byte.MAX_VALUE) {
+            throw new ArithmeticException("scale out of range: " + value.scale());
+        }
+        out.writeByte(value.scale());
+        out.writeLong(value.unscaledValue().longValueExact());
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readByte();
+        return BigDecimal.valueOf(in.readLong(), scale);
+    }
+
+    private static TransactionType type(int ordinal) {
+        if (ordinal >= TYPES.length) {
+            throw new MessageConversionException("Unknown transaction type " + ordinal);
+        }
+        return TYPES[ordinal];
+    }
+}
@@ -1,29 +1,54 @@
 package com.microservice.transaction.infrastructure;
 
+import com.microservice.transaction.infrastructure.dto.ReportDeltaMessage;
 import com.microservice.transaction.infrastructure.dto.TransactionMessage;
 import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Traduce las transacciones a {@link TransactionMessage} y las publica en el exchange
+ * de transacciones a través de {@link BatchingMessagePublisher} (lotes + confirms).
+ * Las actualizaciones pasan antes por {@link UpdateCoalescer}. Las operaciones masivas
+ * publican un {@link ReportDeltaMessage} por período en lugar de un mensaje por transacción.
+ */
 @RequiredArgsConstructor
 @Service
 public class TransactionMessageProducer {
-    private final RabbitTemplate rabbitTemplate;
+    private final BatchingMessagePublisher publisher;
+    private final UpdateCoalescer updateCoalescer;
 
     public void sendCreated(Transaction transaction) {
-        TransactionMessage message = toMessage(transaction);
-        rabbitTemplate.convertAndSend("transaction-exchange", "transaction.created", message);
+        updateCoalescer.flush(transaction.getTransactionId());
+        publisher.publish("transaction.created", toMessage(transaction));
     }
 
-    public void sendUpdated(Transaction transaction) {
-        TransactionMessage message = toMessage(transaction);
-        rabbitTemplate.convertAndSend("transaction-exchange", "transaction.updated", message);
+    public void sendUpdated(Transaction transaction, TransactionType previousType, BigDecimal previousAmount,
+                            LocalDate previousDate) {
+        updateCoalescer.submit(toMessage(transaction).toBuilder()
+                .previousType(previousType)
+                .previousAmount(previousAmount)
+                .previousDate(previousDate)
+                .build());
     }
 
     public void sendDeleted(Transaction transaction) {
-        TransactionMessage message = toMessage(transaction);
-        rabbitTemplate.convertAndSend("transaction-exchange", "transaction.deleted", message);
+        updateCoalescer.flush(transaction.getTransactionId());
+        publisher.publish("transaction.deleted", toMessage(transaction));
+    }
+
+    public void sendReportDelta(String userId, YearMonth period, BigDecimal incomeDelta, BigDecimal expenseDelta) {
+        publisher.publish("transaction.report-delta", ReportDeltaMessage.builder()
+                .userId(userId)
+                .period(period.toString())
+                .incomeDelta(incomeDelta)
+                .expenseDelta(expenseDelta)
+                .build());
     }
 
     private TransactionMessage toMessage(Transaction transaction) {
@@ -32,6 +57,7 @@ public class TransactionMessageProducer {
                 .userId(transaction.getUserId())
                 .amount(transaction.getAmount())
                 .category(transaction.getCategory())
+                .categoryId(transaction.getCategoryId())
                 .date(transaction.getDate())
                 .description(transaction.getDescription())
                 .type(transaction.getType())
@@ -0,0 +1,143 @@
+package com.microservice.transaction.infrastructure;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.microservice.transaction.infrastructure.dto.TransactionMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Agrupa las actualizaciones seguidas de una misma transacción en un único mensaje.
+ *
+ * <p>Un usuario que guarda varias veces la misma transacción en pocos segundos genera
+ * una actualización por guardado, y {@code report} revierte y vuelve a aplicar el
+ * importe en cada una. Aquí cada actualización espera {@code windowMs}; si llega otra
+ * de la misma transacción se fusionan en el cambio neto: valores anteriores (tipo,
+ * importe y fecha) de la primera y valores nuevos de la última. Los totales finales de {@code report} son los
+ * mismos que aplicando todas.</p>
+ *
+ * <ul>
+ *   <li>La espera se reinicia con cada actualización, pero nunca pasa de
+ *       {@code maxWaitMs} desde la primera, para que una edición continua no retenga
+ *       el mensaje indefinidamente.</li>
+ *   <li>No se fusionan actualizaciones que cambian el usuario: la reversión se aplicaría
+ *       al informe de otro usuario, así que se publica la pendiente y la nueva empieza
+ *       su propia espera.</li>
+ *   <li>Un alta o un borrado de la transacción publica antes la actualización
+ *       pendiente ({@link #flush(Long)}) para conservar el orden.</li>
+ *   <li>Con {@code windowMs = 0} las actualizaciones se publican sin esperar.</li>
+ * </ul>
+ *
+ * <p>Las pendientes viven en memoria: se publican al apagar el servicio, pero se
+ * pierden si el proceso muere de forma abrupta dentro de la ventana.</p>
+ */
+@Slf4j
+public class UpdateCoalescer implements DisposableBean {
+
+    static final String ROUTING_KEY = "transaction.updated";
+
+    private final BatchingMessagePublisher publisher;
+    private final long windowMs;
+    private final long maxWaitMs;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+
+    public UpdateCoalescer(BatchingMessagePublisher publisher, long windowMs, long maxWaitMs,
+            MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.windowMs = windowMs;
+        this.maxWaitMs = Math.max(windowMs, maxWaitMs);
+        this.coalescedCounter = Counter.builder("transaction.messaging.updates.coalesced")
+                .description("Update messages merged into a later one instead of being published")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retiene una actualización hasta que termine su ventana, fusionándola con la
+     * pendiente de la misma transacción si la hay.
+     */
+    public void submit(TransactionMessage update) {
+        if (windowMs <= 0) {
+            publisher.publish(ROUTING_KEY, update);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Pending[] displaced = new Pending[1];
+        pending.compute(update.getTransactionId(), (id, current) -> {
+            if (current == null) {
+                return new Pending(update, now, now);
+            }
+            if (!mergeable(current.message(), update)) {
+                displaced[0] = current;
+                return new Pending(update, now, now);
+            }
+            coalescedCounter.increment();
+            return new Pending(merge(current.message(), update), current.firstSeenAt(), now);
+        });
+        if (displaced[0] != null) {
+            publisher.publish(ROUTING_KEY, displaced[0].message());
+        }
+    }
+
+    /**
+     * Publica ya la actualización pendiente de una transacción, si la hay.
+     */
+    public void flush(Long transactionId) {
+        Pending current = pending.remove(transactionId);
+        if (current != null) {
+            publisher.publish(ROUTING_KEY, current.message());
+        }
+    }
+
+    /** Publica las actualizaciones cuya ventana ha terminado. */
+    @Scheduled(fixedDelayString = "${app.messaging.coalesce.flush-interval-ms:250}")
+    public void flushExpired() {
+        flushExpired(System.currentTimeMillis());
+    }
+
+    void flushExpired(long now) {
+        pending.forEach((id, current) -> {
+            if (current.dueAt(windowMs, maxWaitMs) <= now && pending.remove(id, current)) {
+                publisher.publish(ROUTING_KEY, current.message());
+            }
+        });
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (!pending.isEmpty()) {
+            log.info("Publishing {} pending coalesced updates before shutdown", pending.size());
+        }
+        pending.keySet().forEach(this::flush);
+    }
+
+    private static boolean mergeable(TransactionMessage current, TransactionMessage update) {
+        return Objects.equals(current.getUserId(), update.getUserId());
+    }
+
+    /** Valores nuevos de {@code later} con los valores anteriores de {@code earlier}. */
+    private static TransactionMessage merge(TransactionMessage earlier, TransactionMessage later) {
+        return later.toBuilder()
+                .previousType(earlier.getPreviousType())
+                .previousAmount(earlier.getPreviousAmount())
+                .previousDate(earlier.getPreviousDate())
+                .build();
+    }
+
+    private record Pending(TransactionMessage message, long firstSeenAt, long lastSeenAt) {
+        long dueAt(long windowMs, long maxWaitMs) {
+            return Math.min(lastSeenAt + windowMs, firstSeenAt + maxWaitMs);
+        }
+    }
+}
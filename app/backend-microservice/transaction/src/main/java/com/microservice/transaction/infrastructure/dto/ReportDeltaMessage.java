@@ -0,0 +1,23 @@
+package com.microservice.transaction.infrastructure.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Cantidades a sumar a los totales de un reporte ({@code period} en formato
+ * {@code yyyy-MM}). Se publica en JSON con la routing key {@code transaction.report-delta}.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ReportDeltaMessage {
+    private String userId;
+    private String period;
+    private BigDecimal incomeDelta;
+    private BigDecimal expenseDelta;
+}
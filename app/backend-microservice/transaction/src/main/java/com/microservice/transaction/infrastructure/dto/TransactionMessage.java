@@ -10,7 +10,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -20,7 +20,11 @@ public class TransactionMessage {
     private TransactionType type;
     private BigDecimal amount;
     private String category;
+    private Integer categoryId;
     private LocalDate date;
     private String description;
     private OffsetDateTime createdAt;
+    private TransactionType previousType;
+    private BigDecimal previousAmount;
+    private LocalDate previousDate;
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.microservice.transaction.infrastructure.listener;
+
+import com.microservice.transaction.event.TransactionCreatedEvent;
+import com.microservice.transaction.event.TransactionDeletedEvent;
+import com.microservice.transaction.event.TransactionUpdatedEvent;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.service.TransactionChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra cada evento de dominio en el change feed.
+ *
+ * <p>A diferencia de {@link TransactionEventListener}, es síncrono: se ejecuta
+ * en el hilo y la transacción de base de datos del servicio que publica el evento.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionChangeListener {
+
+    private final TransactionChangeService transactionChangeService;
+
+    @EventListener
+    public void onCreated(TransactionCreatedEvent event) {
+        transactionChangeService.recordChange(event.getTransaction(), ChangeOperation.UPSERT);
+    }
+
+    @EventListener
+    public void onUpdated(TransactionUpdatedEvent event) {
+        transactionChangeService.recordChange(event.getTransaction(), ChangeOperation.UPSERT);
+    }
+
+    @EventListener
+    public void onDeleted(TransactionDeletedEvent event) {
+        transactionChangeService.recordChange(event.getTransaction(), ChangeOperation.DELETE);
+    }
+}
@@ -1,15 +1,21 @@
 package com.microservice.transaction.infrastructure.listener;
 
+import com.microservice.transaction.event.ReportDeltaEvent;
 import com.microservice.transaction.event.TransactionCreatedEvent;
 import com.microservice.transaction.event.TransactionDeletedEvent;
 import com.microservice.transaction.event.TransactionUpdatedEvent;
 import com.microservice.transaction.infrastructure.TransactionMessageProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Publica los eventos de dominio en RabbitMQ una vez confirmada la transacción
+ * de base de datos, para no anunciar cambios que luego se revierten.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -18,23 +24,32 @@ public class TransactionEventListener {
     private final TransactionMessageProducer transactionMessageProducer;
 
     @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleTransactionCreatedEvent(TransactionCreatedEvent event) {
         log.info("Handling TransactionCreatedEvent for transaction: {}", event.getTransaction().getTransactionId());
         transactionMessageProducer.sendCreated(event.getTransaction());
     }
 
     @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleTransactionUpdatedEvent(TransactionUpdatedEvent event) {
         log.info("Handling TransactionUpdatedEvent for transaction: {}", event.getTransaction().getTransactionId());
-        transactionMessageProducer.sendUpdated(event.getTransaction());
+        transactionMessageProducer.sendUpdated(event.getTransaction(), event.getPreviousType(),
+                event.getPreviousAmount(), event.getPreviousDate());
     }
 
     @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleTransactionDeletedEvent(TransactionDeletedEvent event) {
         log.info("Handling TransactionDeletedEvent for transaction: {}", event.getTransaction().getTransactionId());
         transactionMessageProducer.sendDeleted(event.getTransaction());
     }
-}
\ No newline at end of file
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleReportDeltaEvent(ReportDeltaEvent event) {
+        log.info("Handling ReportDeltaEvent for user {} and period {}", event.getUserId(), event.getPeriod());
+        transactionMessageProducer.sendReportDelta(event.getUserId(), event.getPeriod(), event.getIncomeDelta(),
+                event.getExpenseDelta());
+    }
+}
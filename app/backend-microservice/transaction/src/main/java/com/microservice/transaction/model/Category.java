@@ -0,0 +1,40 @@
+package com.microservice.transaction.model;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Categoría de un usuario con id entero.
+ *
+ * <p>Las transacciones guardan el id ({@code category_id}) para filtrar y agrupar
+ * por una clave pequeña en lugar de por el texto. Las categorías no se borran: una
+ * vez asignado, un id sigue siendo válido aunque ya no lo use ninguna transacción.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "categories",
+        uniqueConstraints = @UniqueConstraint(name = Category.NAME_CONSTRAINT, columnNames = {"user_id", "name"}))
+public class Category {
+    public static final String NAME_CONSTRAINT = "uk_categories_user_name";
+
+    @Id
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "category_id")
+    private Integer categoryId;
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+}
@@ -0,0 +1,6 @@
+package com.microservice.transaction.model;
+
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
@@ -0,0 +1,63 @@
+package com.microservice.transaction.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Respuesta guardada de una creación con cabecera {@code Idempotency-Key}.
+ *
+ * <p>Se inserta en la misma transacción de base de datos que la transacción creada.
+ * La restricción única {@code (user_id, idempotency_key)} hace que de dos peticiones
+ * simultáneas con la misma clave solo confirme una; la otra se revierte y responde
+ * con lo guardado aquí.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = IdempotencyRecord.KEY_CONSTRAINT,
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+public class IdempotencyRecord {
+    public static final String KEY_CONSTRAINT = "uk_idempotency_keys_user_key";
+    public static final int MAX_KEY_LENGTH = 255;
+
+    @Id
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+    @Column(name = "idempotency_key", nullable = false, length = MAX_KEY_LENGTH)
+    private String idempotencyKey;
+    /** SHA-256 (hex) del cuerpo de la petición original. */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+    /** {@code TransactionResponse} original en JSON. */
+    @Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+    private String responseBody;
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = OffsetDateTime.now();
+        }
+    }
+}
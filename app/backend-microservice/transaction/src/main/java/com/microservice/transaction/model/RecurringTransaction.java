@@ -0,0 +1,72 @@
+package com.microservice.transaction.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Definición de una transacción recurrente (salario, alquiler, suscripciones).
+ *
+ * <p>{@code schedule} es una expresión cron de Spring de seis campos; solo cuentan los
+ * campos de día, mes y día de la semana, porque las transacciones tienen fecha y no
+ * hora. {@code nextOccurrence} es la próxima fecha pendiente de generar; {@code null}
+ * cuando la definición ya pasó de {@code endDate}.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "recurring_transactions", indexes = {
+        // Reclamo de definiciones vencidas por el planificador.
+        @Index(name = "idx_recurring_transactions_next_occurrence", columnList = "next_occurrence"),
+        @Index(name = "idx_recurring_transactions_user", columnList = "user_id")
+})
+public class RecurringTransaction {
+    public static final int MAX_SCHEDULE_LENGTH = 100;
+
+    @Id
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "recurring_id")
+    private Long recurringId;
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private TransactionType type;
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+    @Column(name = "category", nullable = false)
+    private String category;
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+    @Column(name = "description", length = 500)
+    private String description;
+    @Column(name = "schedule", nullable = false, length = MAX_SCHEDULE_LENGTH)
+    private String schedule;
+    @Column(name = "next_occurrence")
+    private LocalDate nextOccurrence;
+    @Column(name = "end_date")
+    private LocalDate endDate;
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = OffsetDateTime.now();
+        }
+    }
+}
@@ -20,7 +20,13 @@ import lombok.Setter;
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        // Listados y rangos de fechas; cubre la suma por periodo y tipo sin leer las filas.
+        @Index(name = "idx_transactions_user_date_type_amount", columnList = "user_id, date, type, amount"),
+        @Index(name = "idx_transactions_user_type_date", columnList = "user_id, type, date"),
+        @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, date"),
+        @Index(name = "idx_transactions_user_amount", columnList = "user_id, amount")
+})
 public class Transaction {
     @Id
     @EqualsAndHashCode.Include
@@ -36,12 +42,27 @@ public class Transaction {
     private BigDecimal amount;
     @Column(name = "category")
     private String category;
+    /**
+     * Id de {@link #category} en el diccionario del usuario ({@link Category}). Filtros
+     * y agregados por categoría usan esta columna; el nombre se conserva para mostrarlo
+     * y para la búsqueda por texto. {@code null} solo en filas antiguas pendientes del
+     * backfill.
+     */
+    @Column(name = "category_id")
+    private Integer categoryId;
     @Column(name = "date", nullable = false)
     private LocalDate date;
     @Column(name = "description", length = 500)
     private String description;
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
+    /**
+     * Versión para bloqueo optimista. {@code null} en una transacción nueva (Hibernate
+     * asigna 0 al insertar); las filas anteriores a la columna toman el default 0.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
 
     @PrePersist
     public void prePersist() {
@@ -0,0 +1,54 @@
+package com.microservice.transaction.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entrada del change feed de transacciones.
+ *
+ * <p>Se escribe en la misma transacción de base de datos que el cambio que
+ * registra, por lo que {@code seq} es monótonamente creciente y no hay cambios
+ * confirmados sin su entrada (ni entradas sin cambio).</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "transaction_changes", indexes = {
+        @Index(name = "idx_transaction_changes_user_seq", columnList = "user_id, seq"),
+        @Index(name = "idx_transaction_changes_changed_at", columnList = "changed_at")
+})
+public class TransactionChange {
+    @Id
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    private Long seq;
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 10)
+    private ChangeOperation operation;
+    @Column(name = "changed_at", nullable = false)
+    private OffsetDateTime changedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.changedAt == null) {
+            this.changedAt = OffsetDateTime.now();
+        }
+    }
+}
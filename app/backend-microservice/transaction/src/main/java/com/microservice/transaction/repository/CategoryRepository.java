@@ -0,0 +1,46 @@
+package com.microservice.transaction.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.microservice.transaction.model.Category;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repositorio del diccionario de categorías por usuario.
+ */
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Integer> {
+
+    Optional<Category> findByUserIdAndName(String userId, String name);
+
+    List<Category> findByUserIdAndNameIn(String userId, Collection<String> names);
+
+    /**
+     * Inserta la categoría si no existe. Si otra transacción ya la creó no hace nada y
+     * no lanza error, así que la transacción del llamante sigue siendo válida; si la
+     * otra aún no ha confirmado, espera a que termine.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO categories (user_id, name) VALUES (:userId, :name) "
+            + "ON DUPLICATE KEY UPDATE category_id = category_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") String userId, @Param("name") String name);
+
+    /**
+     * Lectura con bloqueo compartido ({@code FOR SHARE}): ve la última versión
+     * confirmada aunque la transacción del llamante tenga una instantánea anterior.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT c FROM Category c WHERE c.userId = :userId AND c.name = :name")
+    Optional<Category> findCurrent(@Param("userId") String userId, @Param("name") String name);
+}
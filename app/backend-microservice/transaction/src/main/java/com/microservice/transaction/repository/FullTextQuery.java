@@ -0,0 +1,47 @@
+package com.microservice.transaction.repository;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Convierte el texto que escribe el usuario en una consulta {@code MATCH ... AGAINST
+ * (... IN BOOLEAN MODE)} de MySQL.
+ *
+ * <p>El texto se parte en palabras y se descarta todo lo demás, así que los operadores
+ * del modo booleano ({@code + - < > ( ) ~ * " @}) escritos por el usuario no llegan a
+ * la consulta. Cada palabra se exige ({@code +}) y se busca como prefijo ({@code *}):
+ * {@code "netfl rent"} encuentra descripciones con ambas palabras, como
+ * {@code "Netflix rental"}.</p>
+ *
+ * <p>Las palabras de menos de {@value #MIN_TERM_LENGTH} caracteres no están en el
+ * índice ({@code innodb_ft_min_token_size}) y se ignoran.</p>
+ */
+public final class FullTextQuery {
+
+    static final int MIN_TERM_LENGTH = 3;
+    static final int MAX_TERM_LENGTH = 40;
+    static final int MAX_TERMS = 8;
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * @return la consulta en modo booleano, o vacío si el texto no contiene ninguna
+     *         palabra buscable
+     */
+    public static Optional<String> toBooleanMode(String text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        String query = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .map(term -> term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term)
+                .distinct()
+                .limit(MAX_TERMS)
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+        return query.isEmpty() ? Optional.empty() : Optional.of(query);
+    }
+}
@@ -0,0 +1,41 @@
+package com.microservice.transaction.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.microservice.transaction.model.RecurringTransaction;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+
+    /**
+     * Reclama un lote de definiciones vencidas: {@code SELECT ... FOR UPDATE SKIP LOCKED}.
+     *
+     * <p>Las filas quedan bloqueadas hasta el fin de la transacción del llamante. Otra
+     * réplica que reclame a la vez salta esas filas y toma las siguientes en lugar de
+     * esperar, así que varias réplicas reparten el trabajo sin generar dos veces la
+     * misma ocurrencia.</p>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.nextOccurrence <= :today "
+            + "ORDER BY r.nextOccurrence, r.recurringId")
+    List<RecurringTransaction> claimDue(@Param("today") LocalDate today, Pageable pageable);
+
+    Page<RecurringTransaction> findByUserIdOrderByRecurringIdDesc(String userId, Pageable pageable);
+
+    Optional<RecurringTransaction> findByRecurringIdAndUserId(Long recurringId, String userId);
+}
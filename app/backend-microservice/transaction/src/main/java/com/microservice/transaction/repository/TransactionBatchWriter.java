@@ -0,0 +1,93 @@
+package com.microservice.transaction.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.microservice.transaction.model.Transaction;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inserta transacciones en un único batch JDBC.
+ *
+ * <p>Hibernate no agrupa inserts de entidades con ids {@code IDENTITY} (necesita cada id
+ * antes del siguiente insert), así que {@code saveAll} haría un round trip por fila. Aquí
+ * se envía un batch y se leen los ids generados al final. Usa la conexión de la
+ * transacción en curso.</p>
+ *
+ * <p>El batch solo ahorra viajes a MySQL con {@code rewriteBatchedStatements=true} en la
+ * URL del datasource: Connector/J lo reescribe como un {@code INSERT} multi-fila. Los ids
+ * vuelven en el orden de las filas: el driver los calcula a partir de
+ * {@code LAST_INSERT_ID()} y InnoDB asigna valores consecutivos a las filas de un
+ * {@code INSERT ... VALUES} con número de filas conocido, en cualquier
+ * {@code innodb_autoinc_lock_mode}.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO transactions "
+            + "(user_id, type, amount, category, category_id, date, description, created_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param transactions transacciones nuevas; se completan con su id, {@code createdAt}
+     *                     y versión
+     * @return las mismas transacciones
+     */
+    public List<Transaction> insert(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return transactions;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"transaction_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Transaction transaction = transactions.get(i);
+                        ps.setString(1, transaction.getUserId());
+                        ps.setString(2, transaction.getType().name());
+                        ps.setBigDecimal(3, transaction.getAmount());
+                        ps.setString(4, transaction.getCategory());
+                        if (transaction.getCategoryId() == null) {
+                            ps.setNull(5, Types.INTEGER);
+                        } else {
+                            ps.setInt(5, transaction.getCategoryId());
+                        }
+                        ps.setObject(6, transaction.getDate());
+                        ps.setString(7, transaction.getDescription());
+                        ps.setTimestamp(8, Timestamp.from(now.toInstant()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return transactions.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            transaction.setTransactionId(((Number) keys.get(i).values().iterator().next()).longValue());
+            transaction.setCreatedAt(now);
+            transaction.setVersion(0L);
+        }
+        return transactions;
+    }
+}
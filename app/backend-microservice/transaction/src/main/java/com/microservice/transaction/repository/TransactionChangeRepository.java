@@ -0,0 +1,44 @@
+package com.microservice.transaction.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.microservice.transaction.model.TransactionChange;
+
+/**
+ * Repositorio del change feed de transacciones.
+ */
+@Repository
+public interface TransactionChangeRepository extends JpaRepository<TransactionChange, Long> {
+
+    /**
+     * Cambios de un usuario posteriores a un cursor, excluyendo los más recientes
+     * que {@code settledBefore} (ver ventana de asentamiento en el servicio).
+     * Usa el índice {@code (user_id, seq)}.
+     */
+    List<TransactionChange> findByUserIdAndSeqGreaterThanAndChangedAtBeforeOrderBySeqAsc(
+            String userId, Long seq, OffsetDateTime settledBefore, Pageable pageable);
+
+    /**
+     * Menor secuencia conservada; los cursores anteriores apuntan a cambios ya purgados.
+     */
+    @Query("SELECT MIN(c.seq) FROM TransactionChange c")
+    Long findMinSeq();
+
+    /**
+     * Mayor secuencia asentada; es el cursor inicial de un cliente recién sincronizado.
+     */
+    @Query("SELECT MAX(c.seq) FROM TransactionChange c WHERE c.changedAt < :settledBefore")
+    Long findMaxSettledSeq(@Param("settledBefore") OffsetDateTime settledBefore);
+
+    @Modifying
+    @Query("DELETE FROM TransactionChange c WHERE c.changedAt < :cutoff")
+    int deleteByChangedAtBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
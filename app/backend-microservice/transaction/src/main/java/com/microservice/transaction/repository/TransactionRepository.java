@@ -1,23 +1,139 @@
 package com.microservice.transaction.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.projection.PeriodTypeTotal;
 
+import jakarta.persistence.LockModeType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio JPA para acceso a datos de transacciones.
  * 
  * Proporciona métodos especializados para filtrar transacciones
  * por userId, garantizando aislamiento de datos por usuario.
+ * Las búsquedas con varios filtros usan {@link JpaSpecificationExecutor} con
+ * {@link com.microservice.transaction.repository.specification.TransactionSpecifications}.
  */
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
+
+    /**
+     * Busca una transacción solo si pertenece al usuario: la comprobación de
+     * propiedad va en la consulta, no en Java.
+     */
+    Optional<Transaction> findByTransactionIdAndUserId(Long transactionId, String userId);
+
+    /**
+     * Actualiza una transacción del usuario si su versión no ha cambiado e incrementa
+     * la versión.
+     *
+     * <p>Vacía el contexto de persistencia: la entidad leída antes queda desacoplada y
+     * modificarla no genera un segundo UPDATE.</p>
+     *
+     * @return filas afectadas; 0 si la transacción cambió, se eliminó o no es del usuario
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.type = :type, t.amount = :amount, t.category = :category, "
+            + "t.categoryId = :categoryId, t.date = :date, t.description = :description, t.version = t.version + 1 "
+            + "WHERE t.transactionId = :id AND t.userId = :userId AND t.version = :version")
+    int updateIfVersionMatches(
+            @Param("id") Long id,
+            @Param("userId") String userId,
+            @Param("version") Long version,
+            @Param("type") TransactionType type,
+            @Param("amount") BigDecimal amount,
+            @Param("category") String category,
+            @Param("categoryId") Integer categoryId,
+            @Param("date") LocalDate date,
+            @Param("description") String description);
+
+    /**
+     * Elimina una transacción del usuario si su versión no ha cambiado.
+     *
+     * @return filas afectadas; 0 si la transacción cambió, se eliminó o no es del usuario
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.transactionId = :id AND t.userId = :userId AND t.version = :version")
+    int deleteIfVersionMatches(
+            @Param("id") Long id,
+            @Param("userId") String userId,
+            @Param("version") Long version);
+
+    /**
+     * Lee y bloquea ({@code SELECT ... FOR UPDATE}) las transacciones del usuario con esos
+     * ids. Las operaciones masivas leen así cada lote antes de modificarlo, para que los
+     * importes que agregan no cambien hasta que confirmen.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.userId = :userId AND t.transactionId IN :ids")
+    List<Transaction> lockOwned(@Param("userId") String userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Cambia la categoría de un lote de transacciones del usuario e incrementa su versión,
+     * de modo que un {@code If-Match} anterior al cambio masivo responde 409.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.category = :category, t.categoryId = :categoryId, t.version = t.version + 1 "
+            + "WHERE t.userId = :userId AND t.transactionId IN :ids")
+    int recategorizeOwned(
+            @Param("userId") String userId,
+            @Param("ids") Collection<Long> ids,
+            @Param("category") String category,
+            @Param("categoryId") Integer categoryId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.userId = :userId AND t.transactionId IN :ids")
+    int deleteOwned(@Param("userId") String userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Búsqueda por texto en descripción y categoría, ordenada por relevancia.
+     *
+     * <p>Usa el índice FULLTEXT {@code ft_transactions_description_category} (ver
+     * {@code FullTextIndexInitializer}); solo funciona sobre MySQL. {@code query} debe
+     * venir de {@link FullTextQuery#toBooleanMode}. El {@code Pageable} no debe llevar
+     * orden: el orden lo fija la consulta.</p>
+     */
+    @Query(value = "SELECT * FROM transactions t "
+            + "WHERE t.user_id = :userId "
+            + "AND MATCH(t.description, t.category) AGAINST (:query IN BOOLEAN MODE) "
+            + "ORDER BY MATCH(t.description, t.category) AGAINST (:query IN BOOLEAN MODE) DESC, t.date DESC",
+            countQuery = "SELECT COUNT(*) FROM transactions t "
+                    + "WHERE t.user_id = :userId "
+                    + "AND MATCH(t.description, t.category) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Transaction> searchFullText(@Param("userId") String userId, @Param("query") String query, Pageable pageable);
+
+    /**
+     * Pares {@code (userId, categoría)} de filas sin {@code category_id}, para el backfill.
+     */
+    @Query("SELECT DISTINCT t.userId, t.category FROM Transaction t "
+            + "WHERE t.categoryId IS NULL AND t.category IS NOT NULL")
+    List<Object[]> findUncategorizedPairs(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Transaction t SET t.categoryId = :categoryId "
+            + "WHERE t.userId = :userId AND t.category = :category AND t.categoryId IS NULL")
+    int assignCategoryId(
+            @Param("userId") String userId,
+            @Param("category") String category,
+            @Param("categoryId") Integer categoryId);
+
     /**
      * Busca todas las transacciones de un usuario sin paginación.
      * 
@@ -40,4 +156,35 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
      * Busca transacciones dentro de un rango de fechas para un usuario.
      */
     Page<Transaction> findByUserIdAndDateBetweenOrderByDateDesc(String userId, java.time.LocalDate start, java.time.LocalDate end, Pageable pageable);
+
+    /**
+     * Lista los userIds distintos que tienen transacciones, paginados por cursor.
+     *
+     * <p>Se usa paginación keyset ({@code userId > :after}) en lugar de OFFSET para
+     * que recorrer todos los usuarios no degrade con el tamaño de la tabla.</p>
+     *
+     * @param after    último userId de la página anterior ({@code ""} para la primera)
+     * @param pageable tamaño de página (el ordenamiento lo fija la consulta)
+     * @return userIds ordenados ascendentemente
+     */
+    @Query("SELECT DISTINCT t.userId FROM Transaction t WHERE t.userId > :after ORDER BY t.userId")
+    List<String> findDistinctUserIdsAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * Suma los montos de un usuario agrupados por mes calendario y tipo,
+     * dentro de un rango de fechas inclusivo.
+     *
+     * @param userId ID del usuario
+     * @param start  fecha inicial (inclusive)
+     * @param end    fecha final (inclusive)
+     * @return una fila por (año, mes, tipo) con al menos una transacción
+     */
+    @Query("SELECT YEAR(t.date) AS year, MONTH(t.date) AS month, t.type AS type, SUM(t.amount) AS total "
+            + "FROM Transaction t "
+            + "WHERE t.userId = :userId AND t.date BETWEEN :start AND :end "
+            + "GROUP BY YEAR(t.date), MONTH(t.date), t.type")
+    List<PeriodTypeTotal> sumByUserIdGroupedByPeriodAndType(
+            @Param("userId") String userId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end);
 }
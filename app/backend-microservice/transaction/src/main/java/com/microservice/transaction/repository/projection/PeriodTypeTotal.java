@@ -0,0 +1,21 @@
+package com.microservice.transaction.repository.projection;
+
+import java.math.BigDecimal;
+
+import com.microservice.transaction.model.TransactionType;
+
+/**
+ * Proyección de la consulta agregada de montos por (año, mes, tipo) de un usuario.
+ *
+ * <p>Cada fila representa la suma de las transacciones de un tipo dentro de un
+ * mes calendario, calculada por la base de datos con {@code GROUP BY}.</p>
+ */
+public interface PeriodTypeTotal {
+    Integer getYear();
+
+    Integer getMonth();
+
+    TransactionType getType();
+
+    BigDecimal getTotal();
+}
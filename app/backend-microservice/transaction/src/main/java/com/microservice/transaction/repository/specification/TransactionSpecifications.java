@@ -0,0 +1,119 @@
+package com.microservice.transaction.repository.specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.microservice.transaction.dto.TransactionSearchCriteria;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+
+/**
+ * Predicados de búsqueda de transacciones.
+ *
+ * <p>Todas las búsquedas empiezan por {@link #ownedBy}: {@code user_id} es la primera
+ * columna de los índices de {@code transactions}, así que cada filtro se resuelve
+ * como un rango dentro de las filas del usuario. Los filtros vacíos no añaden
+ * predicado.</p>
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    /**
+     * @param categoryIds ids de las categorías pedidas en {@code criteria}, o {@code null}
+     *                    si no se filtra por categoría
+     */
+    public static Specification<Transaction> search(String userId, TransactionSearchCriteria criteria,
+            Collection<Integer> categoryIds) {
+        return Specification.allOf(
+                ownedBy(userId),
+                hasType(criteria.type()),
+                inCategories(categoryIds),
+                amountAtLeast(criteria.minAmount()),
+                amountAtMost(criteria.maxAmount()),
+                dateFrom(criteria.from()),
+                dateTo(criteria.to()),
+                descriptionContains(criteria.text()));
+    }
+
+    public static Specification<Transaction> ownedBy(String userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    public static Specification<Transaction> idIn(Collection<Long> transactionIds) {
+        return (root, query, cb) -> root.get("transactionId").in(transactionIds);
+    }
+
+    /**
+     * Paginación keyset por {@code transaction_id} para recorrer en lotes.
+     */
+    public static Specification<Transaction> idAfter(Long transactionId) {
+        return transactionId == null ? unrestricted()
+                : (root, query, cb) -> cb.greaterThan(root.get("transactionId"), transactionId);
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return type == null ? unrestricted() : (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    /**
+     * Filtra por {@code category_id}. Con {@code null} no filtra; con una colección vacía
+     * (ninguna de las categorías pedidas existe) no devuelve nada.
+     */
+    public static Specification<Transaction> inCategories(Collection<Integer> categoryIds) {
+        if (categoryIds == null) {
+            return unrestricted();
+        }
+        if (categoryIds.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return categoryIds.size() == 1
+                ? (root, query, cb) -> cb.equal(root.get("categoryId"), categoryIds.iterator().next())
+                : (root, query, cb) -> root.get("categoryId").in(categoryIds);
+    }
+
+    public static Specification<Transaction> amountAtLeast(BigDecimal min) {
+        return min == null ? unrestricted()
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), min);
+    }
+
+    public static Specification<Transaction> amountAtMost(BigDecimal max) {
+        return max == null ? unrestricted()
+                : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), max);
+    }
+
+    public static Specification<Transaction> dateFrom(LocalDate from) {
+        return from == null ? unrestricted()
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), from);
+    }
+
+    public static Specification<Transaction> dateTo(LocalDate to) {
+        return to == null ? unrestricted()
+                : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), to);
+    }
+
+    /**
+     * {@code LIKE '%texto%'} no puede usar un índice: se evalúa sobre las filas que ya
+     * dejaron pasar los demás filtros.
+     */
+    public static Specification<Transaction> descriptionContains(String text) {
+        if (text == null || text.isBlank()) {
+            return unrestricted();
+        }
+        String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("description")), pattern, '\\');
+    }
+
+    private static Specification<Transaction> unrestricted() {
+        return Specification.unrestricted();
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,29 @@
+package com.microservice.transaction.service;
+
+import com.microservice.transaction.dto.BulkDeleteRequest;
+import com.microservice.transaction.dto.BulkOperationResponse;
+import com.microservice.transaction.dto.BulkRecategorizeRequest;
+
+/**
+ * Operaciones masivas sobre las transacciones del usuario autenticado.
+ *
+ * <p>Se ejecutan por lotes con UPDATE/DELETE sobre listas de ids y publican un único
+ * evento agregado por período afectado, en lugar de un evento por transacción.</p>
+ */
+public interface BulkTransactionService {
+    /**
+     * Cambia la categoría de todas las transacciones del usuario que cumplen el filtro.
+     *
+     * @throws com.microservice.transaction.exception.ValidationException si un rango
+     *         del filtro está invertido
+     */
+    BulkOperationResponse recategorize(String userId, BulkRecategorizeRequest request);
+
+    /**
+     * Elimina las transacciones indicadas por id o todas las de un período.
+     *
+     * @throws com.microservice.transaction.exception.ValidationException si no se indica
+     *         exactamente uno de ids o período
+     */
+    BulkOperationResponse delete(String userId, BulkDeleteRequest request);
+}
@@ -0,0 +1,17 @@
+package com.microservice.transaction.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface CategoryService {
+    /**
+     * Id de la categoría {@code name} del usuario, creándola si no existe.
+     */
+    Integer intern(String userId, String name);
+
+    /**
+     * Ids de las categorías existentes del usuario con esos nombres; los nombres
+     * desconocidos se ignoran (no se crean).
+     */
+    Set<Integer> findIds(String userId, Collection<String> names);
+}
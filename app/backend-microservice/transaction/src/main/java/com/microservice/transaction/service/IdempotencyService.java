@@ -0,0 +1,18 @@
+package com.microservice.transaction.service;
+
+import com.microservice.transaction.dto.TransactionRequest;
+import com.microservice.transaction.dto.TransactionResponse;
+
+public interface IdempotencyService {
+    /**
+     * Crea la transacción una sola vez por {@code (userId, idempotencyKey)}; los
+     * reintentos con la misma clave y el mismo cuerpo reciben la respuesta original.
+     *
+     * @throws com.microservice.transaction.exception.IdempotencyKeyMismatchException
+     *         si la clave ya se usó con un cuerpo distinto
+     * @throws com.microservice.transaction.exception.ValidationException si la clave no es válida
+     */
+    TransactionResponse create(String userId, String idempotencyKey, TransactionRequest transactionRequest);
+
+    int pruneExpiredKeys();
+}
@@ -0,0 +1,38 @@
+package com.microservice.transaction.service;
+
+import com.microservice.transaction.dto.PaginatedResponse;
+import com.microservice.transaction.dto.RecurringTransactionRequest;
+import com.microservice.transaction.dto.RecurringTransactionResponse;
+import com.microservice.transaction.exception.NotFoundException;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Transacciones recurrentes: definiciones por usuario y su generación periódica.
+ */
+public interface RecurringTransactionService {
+    /**
+     * Crea una definición. La primera ocurrencia es la primera fecha del calendario en o
+     * después de {@code startDate}.
+     *
+     * @throws com.microservice.transaction.exception.ValidationException si el cron no es
+     *         válido, no tiene ninguna fecha antes de {@code endDate} o el importe no es positivo
+     */
+    RecurringTransactionResponse create(String userId, RecurringTransactionRequest request);
+
+    PaginatedResponse<RecurringTransactionResponse> getAll(String userId, Pageable pageable);
+
+    /**
+     * Elimina una definición. Las transacciones ya generadas se conservan.
+     *
+     * @throws NotFoundException si no existe o es de otro usuario
+     */
+    void delete(String userId, Long id);
+
+    /**
+     * Genera las ocurrencias vencidas hasta hoy.
+     *
+     * @return transacciones creadas
+     */
+    int materializeDue();
+}
@@ -0,0 +1,17 @@
+package com.microservice.transaction.service;
+
+import com.microservice.transaction.dto.TransactionChangesResponse;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.model.Transaction;
+
+import java.util.Collection;
+
+public interface TransactionChangeService {
+    void recordChange(Transaction transaction, ChangeOperation operation);
+
+    void recordChanges(Collection<Transaction> transactions, ChangeOperation operation);
+
+    TransactionChangesResponse getChanges(String userId, String since, int limit);
+
+    int pruneExpiredChanges();
+}
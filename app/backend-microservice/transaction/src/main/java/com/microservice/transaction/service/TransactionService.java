@@ -3,6 +3,9 @@ package com.microservice.transaction.service;
 import com.microservice.transaction.dto.PaginatedResponse;
 import com.microservice.transaction.dto.TransactionRequest;
 import com.microservice.transaction.dto.TransactionResponse;
+import com.microservice.transaction.dto.TransactionSearchCriteria;
+import com.microservice.transaction.exception.NotFoundException;
+import com.microservice.transaction.exception.TransactionConflictException;
 
 import org.springframework.data.domain.Pageable;
 
@@ -31,10 +34,14 @@ public interface TransactionService {
      * @param userId ID del usuario autenticado
      * @param id ID de la transacción a actualizar
      * @param transactionRequest nuevos datos
+     * @param expectedVersion versión que el cliente modificó ({@code If-Match}), o {@code null}
+     *                        para comprobar solo contra la versión recién leída
      * @return respuesta con la transacción actualizada
-     * @throws AccessDeniedException si la transacción pertenece a otro usuario
+     * @throws NotFoundException si la transacción no existe o pertenece a otro usuario
+     * @throws TransactionConflictException si la transacción cambió entretanto
      */
-    TransactionResponse updateTransaction(String userId, Long id, TransactionRequest transactionRequest);
+    TransactionResponse updateTransaction(String userId, Long id, TransactionRequest transactionRequest,
+            Long expectedVersion);
 
     /**
      * Obtiene una transacción específica del usuario autenticado.
@@ -61,8 +68,29 @@ public interface TransactionService {
      */
     PaginatedResponse<TransactionResponse> getByPeriod(String userId, String period, Pageable pageable);
 
+    /**
+     * Busca transacciones del usuario combinando filtros opcionales.
+     *
+     * @throws com.microservice.transaction.exception.ValidationException si un rango
+     *         está invertido o el texto es demasiado largo
+     */
+    PaginatedResponse<TransactionResponse> search(String userId, TransactionSearchCriteria criteria,
+            Pageable pageable);
+
+    /**
+     * Busca transacciones del usuario por texto en descripción y categoría, de más a
+     * menos relevante.
+     *
+     * @throws com.microservice.transaction.exception.ValidationException si el texto
+     *         no contiene ninguna palabra buscable
+     */
+    PaginatedResponse<TransactionResponse> searchText(String userId, String text, Pageable pageable);
+
     /**
      * Elimina una transacción específica.
+     *
+     * @param expectedVersion versión que el cliente vio ({@code If-Match}), o {@code null}
+     * @throws TransactionConflictException si la transacción cambió entretanto
      */
-    void delete(String userId, Long id);
+    void delete(String userId, Long id, Long expectedVersion);
 }
@@ -0,0 +1,34 @@
+package com.microservice.transaction.service;
+
+import java.util.List;
+
+import com.microservice.transaction.dto.PeriodTotalsResponse;
+import com.microservice.transaction.dto.UserIdPageResponse;
+
+/**
+ * Consultas agregadas de solo lectura para la comunicación entre servicios.
+ *
+ * <p>A diferencia de {@link TransactionService}, estas operaciones no están
+ * limitadas al usuario autenticado: las invoca el microservicio de reportes
+ * con un token de servicio para reconstruir o conciliar reportes.</p>
+ */
+public interface TransactionTotalsService {
+    /**
+     * Lista los usuarios con transacciones a partir de un cursor.
+     *
+     * @param after último userId ya procesado, o {@code null} para empezar desde el inicio
+     * @param limit cantidad máxima de userIds a retornar
+     * @return página de userIds y cursor para la siguiente página
+     */
+    UserIdPageResponse listUserIds(String after, int limit);
+
+    /**
+     * Calcula los totales por período mensual de un usuario.
+     *
+     * @param userId      ID del usuario
+     * @param startPeriod período inicial (yyyy-MM), o {@code null} para todo el historial
+     * @param endPeriod   período final (yyyy-MM), o {@code null} para todo el historial
+     * @return totales por período, ordenados ascendentemente
+     */
+    List<PeriodTotalsResponse> getPeriodTotals(String userId, String startPeriod, String endPeriod);
+}
@@ -0,0 +1,189 @@
+package com.microservice.transaction.service.impl;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.dto.BulkDeleteRequest;
+import com.microservice.transaction.dto.BulkOperationResponse;
+import com.microservice.transaction.dto.BulkRecategorizeRequest;
+import com.microservice.transaction.dto.TransactionSearchCriteria;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.repository.TransactionRepository;
+import com.microservice.transaction.repository.specification.TransactionSpecifications;
+import com.microservice.transaction.service.BulkTransactionService;
+import com.microservice.transaction.service.CategoryService;
+import com.microservice.transaction.service.TransactionChangeService;
+import com.microservice.transaction.service.port.TransactionEventPublisherPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cambio de categoría y borrado masivos.
+ *
+ * <h3>Lotes</h3>
+ * <p>Las transacciones afectadas se recorren por {@code transaction_id} (keyset) en lotes
+ * de {@code app.bulk.chunk-size}. Cada lote es una transacción de base de datos: lee y
+ * bloquea las filas, las modifica con un único UPDATE/DELETE por lista de ids y registra
+ * el change feed. Un fallo a mitad deja confirmados los lotes anteriores; repetir la
+ * operación continúa con lo que falta.</p>
+ *
+ * <h3>Eventos</h3>
+ * <p>No se publica un evento por transacción. El borrado suma los importes eliminados de
+ * todos los lotes confirmados y publica un único delta por período; {@code report} hace
+ * una escritura por período en lugar de una por transacción. El cambio de categoría no
+ * altera los totales de los reportes y no publica nada.</p>
+ */
+@Slf4j
+@Service
+public class BulkTransactionServiceImpl implements BulkTransactionService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionChangeService transactionChangeService;
+    private final CategoryService categoryService;
+    private final TransactionEventPublisherPort eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkTransactionServiceImpl(
+            TransactionRepository transactionRepository,
+            TransactionChangeService transactionChangeService,
+            CategoryService categoryService,
+            TransactionEventPublisherPort eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.bulk.chunk-size:500}") int chunkSize) {
+        this.transactionRepository = transactionRepository;
+        this.transactionChangeService = transactionChangeService;
+        this.categoryService = categoryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkOperationResponse recategorize(String userId, BulkRecategorizeRequest request) {
+        TransactionSearchCriteria filter = request.filter();
+        validateRange(filter.minAmount(), filter.maxAmount(), "minAmount", "maxAmount");
+        validateRange(filter.from(), filter.to(), "from", "to");
+
+        String category = request.category().trim();
+        Integer categoryId = categoryService.intern(userId, category);
+        Set<Integer> fromCategoryIds = filter.category() == null || filter.category().isEmpty() ? null
+                : categoryService.findIds(userId, filter.category());
+
+        int affected = inChunks(userId, TransactionSpecifications.search(userId, filter, fromCategoryIds),
+                chunk -> {
+                    List<Transaction> changed = chunk.stream()
+                            .filter(transaction -> !categoryId.equals(transaction.getCategoryId())
+                                    || !category.equals(transaction.getCategory()))
+                            .toList();
+                    if (!changed.isEmpty()) {
+                        transactionRepository.recategorizeOwned(userId, idsOf(changed), category, categoryId);
+                        transactionChangeService.recordChanges(changed, ChangeOperation.UPSERT);
+                    }
+                    return changed;
+                },
+                committed -> {
+                });
+        log.info("Recategorized {} transactions of user {} to '{}'", affected, userId, category);
+        return new BulkOperationResponse(affected);
+    }
+
+    @Override
+    public BulkOperationResponse delete(String userId, BulkDeleteRequest request) {
+        boolean byIds = request.transactionIds() != null && !request.transactionIds().isEmpty();
+        boolean byPeriod = request.period() != null;
+        if (byIds == byPeriod) {
+            throw new ValidationException("Provide exactly one of transactionIds or period");
+        }
+
+        Specification<Transaction> filter;
+        if (byIds) {
+            filter = Specification.allOf(TransactionSpecifications.ownedBy(userId),
+                    TransactionSpecifications.idIn(request.transactionIds()));
+        } else {
+            YearMonth period = YearMonth.parse(request.period());
+            filter = Specification.allOf(TransactionSpecifications.ownedBy(userId),
+                    TransactionSpecifications.dateFrom(period.atDay(1)),
+                    TransactionSpecifications.dateTo(period.atEndOfMonth()));
+        }
+
+        Map<YearMonth, PeriodDelta> deltas = new TreeMap<>();
+        int affected = 0;
+        try {
+            affected = inChunks(userId, filter,
+                    chunk -> {
+                        transactionRepository.deleteOwned(userId, idsOf(chunk));
+                        transactionChangeService.recordChanges(chunk, ChangeOperation.DELETE);
+                        return chunk;
+                    },
+                    committed -> committed.forEach(transaction -> deltas
+                            .computeIfAbsent(YearMonth.from(transaction.getDate()), period -> new PeriodDelta())
+                            .add(transaction.getType(), transaction.getAmount().negate())));
+        } finally {
+            // También tras un fallo: los lotes ya confirmados deben llegar a report.
+            deltas.forEach((period, delta) ->
+                    eventPublisher.publishReportDelta(userId, period, delta.income(), delta.expense()));
+        }
+        log.info("Deleted {} transactions of user {} across {} periods", affected, userId, deltas.size());
+        return new BulkOperationResponse(affected);
+    }
+
+    /**
+     * Recorre en lotes las transacciones que cumplen {@code filter}.
+     *
+     * @param operation modifica un lote ya bloqueado y devuelve las filas afectadas
+     * @param onCommit  recibe las filas afectadas tras confirmar el lote
+     * @return total de filas afectadas
+     */
+    private int inChunks(String userId, Specification<Transaction> filter,
+            Function<List<Transaction>, List<Transaction>> operation, Consumer<List<Transaction>> onCommit) {
+        int affected = 0;
+        Long lastId = null;
+        while (true) {
+            List<Long> ids = nextChunk(filter, lastId);
+            if (ids.isEmpty()) {
+                return affected;
+            }
+            List<Transaction> changed = transactionTemplate.execute(
+                    status -> operation.apply(transactionRepository.lockOwned(userId, ids)));
+            onCommit.accept(changed);
+            affected += changed.size();
+            if (ids.size() < chunkSize) {
+                return affected;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private List<Long> nextChunk(Specification<Transaction> filter, Long lastId) {
+        return transactionRepository.findBy(
+                        Specification.allOf(filter, TransactionSpecifications.idAfter(lastId)),
+                        query -> query.sortBy(Sort.by("transactionId")).limit(chunkSize).all())
+                .stream()
+                .map(Transaction::getTransactionId)
+                .toList();
+    }
+
+    private static List<Long> idsOf(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getTransactionId).toList();
+    }
+
+    private static <T extends Comparable<? super T>> void validateRange(T min, T max, String minName, String maxName) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new ValidationException(minName + " must not be greater than " + maxName);
+        }
+    }
+}
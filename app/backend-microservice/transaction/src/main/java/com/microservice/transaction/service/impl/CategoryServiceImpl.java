@@ -0,0 +1,126 @@
+package com.microservice.transaction.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.microservice.transaction.model.Category;
+import com.microservice.transaction.repository.CategoryRepository;
+import com.microservice.transaction.service.CategoryService;
+
+/**
+ * Diccionario de categorías por usuario con caché de interning.
+ *
+ * <p>Cada alta o edición de una transacción necesita el id de su categoría. Un
+ * usuario usa pocas categorías y casi siempre las mismas, así que los pares
+ * {@code (userId, nombre) → id} se guardan en una LRU acotada a
+ * {@code app.categories.cache-size} entradas y la base de datos solo se consulta la
+ * primera vez. Los ids nunca cambian ni se borran, por lo que la caché no necesita
+ * invalidación.</p>
+ *
+ * <p>Una categoría nueva se inserta en la transacción del llamante, sin ocupar una
+ * segunda conexión del pool. El alta es idempotente ({@code ON DUPLICATE KEY UPDATE}):
+ * si dos peticiones crean a la vez la misma categoría, la segunda espera a la primera
+ * y lee su id sin error. Un id solo entra en la caché cuando la transacción confirma,
+ * para no recordar categorías de una transacción revertida.</p>
+ */
+@Service
+public class CategoryServiceImpl implements CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final Map<String, Integer> cache;
+
+    public CategoryServiceImpl(
+            CategoryRepository categoryRepository,
+            @Value("${app.categories.cache-size:50000}") int cacheSize) {
+        this.categoryRepository = categoryRepository;
+        this.cache = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    @Transactional
+    public Integer intern(String userId, String name) {
+        String normalized = name.trim();
+        String cacheKey = cacheKey(userId, normalized);
+        synchronized (cache) {
+            Integer cached = cache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Integer id = categoryRepository.findByUserIdAndName(userId, normalized)
+                .map(Category::getCategoryId)
+                .orElseGet(() -> create(userId, normalized));
+        remember(cacheKey, id);
+        return id;
+    }
+
+    @Override
+    public Set<Integer> findIds(String userId, Collection<String> names) {
+        List<String> normalized = names.stream().map(String::trim).distinct().toList();
+        Set<Integer> ids = new HashSet<>();
+        List<String> missing = new ArrayList<>();
+        synchronized (cache) {
+            for (String name : normalized) {
+                Integer cached = cache.get(cacheKey(userId, name));
+                if (cached != null) {
+                    ids.add(cached);
+                } else {
+                    missing.add(name);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            categoryRepository.findByUserIdAndNameIn(userId, missing)
+                    .forEach(category -> ids.add(category.getCategoryId()));
+        }
+        return ids;
+    }
+
+    private Integer create(String userId, String name) {
+        categoryRepository.insertIfAbsent(userId, name);
+        return categoryRepository.findCurrent(userId, name)
+                .map(Category::getCategoryId)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Category '" + name + "' for user " + userId + " was not created"));
+    }
+
+    private void remember(String cacheKey, Integer id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(cacheKey, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(cacheKey, id);
+            }
+        });
+    }
+
+    private void put(String cacheKey, Integer id) {
+        synchronized (cache) {
+            cache.put(cacheKey, id);
+        }
+    }
+
+    private static String cacheKey(String userId, String name) {
+        return userId + '\n' + name;
+    }
+}
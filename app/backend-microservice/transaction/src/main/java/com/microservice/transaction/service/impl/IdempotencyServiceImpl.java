@@ -0,0 +1,229 @@
+package com.microservice.transaction.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.dto.TransactionRequest;
+import com.microservice.transaction.dto.TransactionResponse;
+import com.microservice.transaction.exception.IdempotencyKeyMismatchException;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.IdempotencyRecord;
+import com.microservice.transaction.repository.IdempotencyRecordRepository;
+import com.microservice.transaction.service.IdempotencyService;
+import com.microservice.transaction.service.TransactionService;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Creación idempotente de transacciones con la cabecera {@code Idempotency-Key}.
+ *
+ * <p>Los clientes móviles reintentan {@code POST /api/v1/transactions} tras un timeout
+ * aunque la primera petición se haya guardado. Con una clave, el primer intento crea
+ * la transacción y guarda su respuesta; los reintentos reciben esa misma respuesta sin
+ * un segundo insert ni un segundo evento.</p>
+ *
+ * <h3>Almacenamiento</h3>
+ * <ul>
+ *   <li>Memoria: LRU acotada a {@code app.idempotency.cache-size} entradas. Responde
+ *       los reintentos habituales, que llegan segundos después, sin ir a la base de
+ *       datos.</li>
+ *   <li>Base de datos ({@link IdempotencyRecord}): se escribe en la misma transacción
+ *       que la creación, así que sobrevive a reinicios y es compartida entre réplicas.
+ *       Su restricción única resuelve los reintentos simultáneos: el segundo insert
+ *       falla, su transacción se revierte y se responde con lo que guardó el primero.</li>
+ * </ul>
+ * <p>Las claves caducan a las {@code app.idempotency.ttl-hours}; pasado ese plazo la
+ * misma clave vuelve a crear. Las filas caducadas se purgan periódicamente.</p>
+ *
+ * <p>Reutilizar una clave con un cuerpo distinto es un error del cliente y responde
+ * 422 en lugar de devolver una transacción que no corresponde a la petición.</p>
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final TransactionService transactionService;
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    /** Conserva el offset original de {@code createdAt} para que la respuesta repetida sea idéntica. */
+    private final ObjectReader responseReader;
+    private final Duration ttl;
+    private final Map<String, Stored> cache;
+
+    public IdempotencyServiceImpl(
+            TransactionService transactionService,
+            IdempotencyRecordRepository recordRepository,
+            TransactionTemplate transactionTemplate,
+            JsonMapper jsonMapper,
+            @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${app.idempotency.cache-size:10000}") int cacheSize) {
+        this.transactionService = transactionService;
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonMapper = jsonMapper;
+        this.responseReader = jsonMapper.readerFor(TransactionResponse.class)
+                .without(DateTimeFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Stored> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public TransactionResponse create(String userId, String idempotencyKey, TransactionRequest dto) {
+        validateKey(idempotencyKey);
+        String requestHash = hash(dto);
+
+        Stored stored = lookup(userId, idempotencyKey);
+        if (stored != null) {
+            return replay(stored, requestHash, idempotencyKey);
+        }
+
+        TransactionResponse created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                TransactionResponse response = transactionService.create(userId, dto);
+                recordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .userId(userId)
+                        .idempotencyKey(idempotencyKey)
+                        .requestHash(requestHash)
+                        .transactionId(response.transactionId())
+                        .responseBody(jsonMapper.writeValueAsString(response))
+                        .build());
+                return response;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Otra petición con la misma clave confirmó antes; esta se ha revertido entera.
+            Stored winner = lookup(userId, idempotencyKey);
+            if (winner == null) {
+                throw e;
+            }
+            log.info("Concurrent request with idempotency key {} for user {} answered from the stored response",
+                    idempotencyKey, userId);
+            return replay(winner, requestHash, idempotencyKey);
+        }
+
+        remember(userId, idempotencyKey, new Stored(requestHash, created, OffsetDateTime.now()));
+        return created;
+    }
+
+    /**
+     * Purga las claves caducadas de la base de datos.
+     *
+     * @return número de claves eliminadas
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.idempotency.prune-cron:0 15 * * * *}")
+    public int pruneExpiredKeys() {
+        int deleted = recordRepository.deleteByCreatedAtBefore(OffsetDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            log.info("Pruned {} idempotency keys older than {}", deleted, ttl);
+        }
+        return deleted;
+    }
+
+    private Stored lookup(String userId, String idempotencyKey) {
+        String cacheKey = cacheKey(userId, idempotencyKey);
+        Stored stored;
+        synchronized (cache) {
+            stored = cache.get(cacheKey);
+        }
+        if (stored == null) {
+            stored = recordRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .map(this::toStored)
+                    .orElse(null);
+        }
+        if (stored == null) {
+            return null;
+        }
+        if (isExpired(stored)) {
+            synchronized (cache) {
+                cache.remove(cacheKey);
+            }
+            // Caducada pero aún sin purgar: se libera la clave para esta petición.
+            recordRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .ifPresent(recordRepository::delete);
+            return null;
+        }
+        remember(userId, idempotencyKey, stored);
+        return stored;
+    }
+
+    private TransactionResponse replay(Stored stored, String requestHash, String idempotencyKey) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(
+                    "Idempotency-Key " + idempotencyKey + " was already used with a different request body");
+        }
+        return stored.response();
+    }
+
+    private void remember(String userId, String idempotencyKey, Stored stored) {
+        synchronized (cache) {
+            cache.put(cacheKey(userId, idempotencyKey), stored);
+        }
+    }
+
+    private boolean isExpired(Stored stored) {
+        return stored.createdAt().isBefore(OffsetDateTime.now().minus(ttl));
+    }
+
+    private Stored toStored(IdempotencyRecord record) {
+        return new Stored(record.getRequestHash(),
+                responseReader.readValue(record.getResponseBody()),
+                record.getCreatedAt());
+    }
+
+    private static void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyRecord.MAX_KEY_LENGTH) {
+            throw new ValidationException(
+                    "Idempotency-Key must be between 1 and " + IdempotencyRecord.MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private static String cacheKey(String userId, String idempotencyKey) {
+        return userId + '\n' + idempotencyKey;
+    }
+
+    /**
+     * SHA-256 de los campos de la petición. El importe se normaliza para que
+     * {@code 150} y {@code 150.00} cuenten como el mismo cuerpo.
+     */
+    static String hash(TransactionRequest dto) {
+        String canonical = String.join("\u0000",
+                String.valueOf(dto.type()),
+                dto.amount() == null ? "" : dto.amount().stripTrailingZeros().toPlainString(),
+                String.valueOf(dto.category()),
+                String.valueOf(dto.date()),
+                dto.description() == null ? "\u0001" : dto.description());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Stored(String requestHash, TransactionResponse response, OffsetDateTime createdAt) {
+    }
+}
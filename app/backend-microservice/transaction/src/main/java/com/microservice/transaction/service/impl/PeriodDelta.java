@@ -0,0 +1,30 @@
+package com.microservice.transaction.service.impl;
+
+import java.math.BigDecimal;
+
+import com.microservice.transaction.model.TransactionType;
+
+/**
+ * Variación acumulada de los totales de un período, para publicar un único
+ * {@code ReportDeltaEvent} en lugar de un evento por transacción.
+ */
+final class PeriodDelta {
+    private BigDecimal income = BigDecimal.ZERO;
+    private BigDecimal expense = BigDecimal.ZERO;
+
+    void add(TransactionType type, BigDecimal amount) {
+        if (type == TransactionType.INCOME) {
+            income = income.add(amount);
+        } else if (type == TransactionType.EXPENSE) {
+            expense = expense.add(amount);
+        }
+    }
+
+    BigDecimal income() {
+        return income;
+    }
+
+    BigDecimal expense() {
+        return expense;
+    }
+}
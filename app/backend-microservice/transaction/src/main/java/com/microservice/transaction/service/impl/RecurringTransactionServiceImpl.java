@@ -0,0 +1,225 @@
+package com.microservice.transaction.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.dto.PaginatedResponse;
+import com.microservice.transaction.dto.RecurringTransactionMapper;
+import com.microservice.transaction.dto.RecurringTransactionRequest;
+import com.microservice.transaction.dto.RecurringTransactionResponse;
+import com.microservice.transaction.exception.NotFoundException;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.model.RecurringTransaction;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.repository.RecurringTransactionRepository;
+import com.microservice.transaction.repository.TransactionBatchWriter;
+import com.microservice.transaction.service.CategoryService;
+import com.microservice.transaction.service.RecurringTransactionService;
+import com.microservice.transaction.service.TransactionChangeService;
+import com.microservice.transaction.service.port.TransactionEventPublisherPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Definiciones de transacciones recurrentes y su generación.
+ *
+ * <h3>Generación</h3>
+ * <p>Cada réplica ejecuta {@link #materializeDue()} cada {@code app.recurring.poll-ms}. Una
+ * ejecución procesa lotes de {@code app.recurring.batch-size} definiciones; cada lote es
+ * una transacción de base de datos que:</p>
+ * <ol>
+ *   <li>reclama las definiciones vencidas con {@code FOR UPDATE SKIP LOCKED}: las réplicas
+ *       se reparten las filas en lugar de esperar unas a otras;</li>
+ *   <li>inserta todas sus ocurrencias en un único batch JDBC
+ *       ({@link TransactionBatchWriter});</li>
+ *   <li>adelanta {@code nextOccurrence} y registra el change feed.</li>
+ * </ol>
+ * <p>Las ocurrencias y el avance de la definición se confirman juntos, así que una
+ * ocurrencia no se genera dos veces ni se pierde si la réplica cae a mitad.</p>
+ *
+ * <h3>Carga el día 1</h3>
+ * <p>Casi todas las definiciones vencen a la vez. En lugar de generarlas todas en un
+ * pico, cada ejecución procesa como mucho {@code app.recurring.max-batches-per-run}
+ * lotes y el resto queda para la siguiente: el ritmo máximo contra MySQL es
+ * {@code batch-size × max-batches-per-run} definiciones por réplica y
+ * {@code poll-ms}. Una definición con muchas ocurrencias atrasadas genera como mucho
+ * {@code app.recurring.max-catch-up} por lote.</p>
+ *
+ * <h3>Eventos</h3>
+ * <p>No se publica un evento por ocurrencia: los importes se suman por usuario y período
+ * durante la ejecución y se publica un {@code ReportDeltaEvent} por cada par.</p>
+ */
+@Slf4j
+@Service
+public class RecurringTransactionServiceImpl implements RecurringTransactionService {
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final TransactionBatchWriter batchWriter;
+    private final TransactionChangeService transactionChangeService;
+    private final CategoryService categoryService;
+    private final TransactionEventPublisherPort eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxCatchUp;
+
+    public RecurringTransactionServiceImpl(
+            RecurringTransactionRepository recurringRepository,
+            TransactionBatchWriter batchWriter,
+            TransactionChangeService transactionChangeService,
+            CategoryService categoryService,
+            TransactionEventPublisherPort eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.recurring.batch-size:200}") int batchSize,
+            @Value("${app.recurring.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${app.recurring.max-catch-up:31}") int maxCatchUp) {
+        this.recurringRepository = recurringRepository;
+        this.batchWriter = batchWriter;
+        this.transactionChangeService = transactionChangeService;
+        this.categoryService = categoryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    @Override
+    @Transactional
+    public RecurringTransactionResponse create(String userId, RecurringTransactionRequest request) {
+        if (request.amount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new ValidationException("Amount must be greater than zero");
+        }
+        if (request.endDate() != null && request.endDate().isBefore(request.startDate())) {
+            throw new ValidationException("endDate must not be before startDate");
+        }
+        CronExpression cron = parseSchedule(request.schedule());
+        LocalDate first = nextOccurrence(cron, request.startDate().minusDays(1));
+        if (first == null || (request.endDate() != null && first.isAfter(request.endDate()))) {
+            throw new ValidationException("Schedule has no occurrence between startDate and endDate");
+        }
+
+        RecurringTransaction entity = RecurringTransactionMapper.toEntity(userId, request);
+        entity.setCategoryId(categoryService.intern(userId, request.category()));
+        entity.setNextOccurrence(first);
+        return RecurringTransactionMapper.toResponse(recurringRepository.save(entity));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<RecurringTransactionResponse> getAll(String userId, Pageable pageable) {
+        Page<RecurringTransaction> page = recurringRepository.findByUserIdOrderByRecurringIdDesc(userId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        List<RecurringTransactionResponse> content = page.map(RecurringTransactionMapper::toResponse).getContent();
+
+        return new PaginatedResponse<>(
+                content,
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast());
+    }
+
+    @Override
+    @Transactional
+    public void delete(String userId, Long id) {
+        RecurringTransaction definition = recurringRepository.findByRecurringIdAndUserId(id, userId)
+                .orElseThrow(() -> new NotFoundException("Recurring transaction not found"));
+        recurringRepository.delete(definition);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.recurring.poll-ms:60000}",
+            initialDelayString = "${app.recurring.initial-delay-ms:30000}")
+    public int materializeDue() {
+        return materializeDue(LocalDate.now());
+    }
+
+    int materializeDue(LocalDate today) {
+        Map<PeriodKey, PeriodDelta> deltas = new HashMap<>();
+        int created = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Batch result = transactionTemplate.execute(status -> materializeBatch(today));
+                result.occurrences().forEach(transaction -> deltas
+                        .computeIfAbsent(new PeriodKey(transaction.getUserId(), YearMonth.from(transaction.getDate())),
+                                key -> new PeriodDelta())
+                        .add(transaction.getType(), transaction.getAmount()));
+                created += result.occurrences().size();
+                if (result.claimed() < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            // También tras un fallo: los lotes ya confirmados deben llegar a report.
+            deltas.forEach((key, delta) ->
+                    eventPublisher.publishReportDelta(key.userId(), key.period(), delta.income(), delta.expense()));
+        }
+        if (created > 0) {
+            log.info("Generated {} recurring transactions across {} user periods", created, deltas.size());
+        }
+        return created;
+    }
+
+    private Batch materializeBatch(LocalDate today) {
+        List<RecurringTransaction> due = recurringRepository.claimDue(today, PageRequest.of(0, batchSize));
+        List<Transaction> occurrences = new ArrayList<>();
+        for (RecurringTransaction definition : due) {
+            CronExpression cron = CronExpression.parse(definition.getSchedule());
+            LocalDate next = definition.getNextOccurrence();
+            for (int i = 0; i < maxCatchUp && next != null && !next.isAfter(today); i++) {
+                occurrences.add(RecurringTransactionMapper.toOccurrence(definition, next));
+                next = nextOccurrence(cron, next);
+                if (next != null && definition.getEndDate() != null && next.isAfter(definition.getEndDate())) {
+                    next = null;
+                }
+            }
+            // Entidad gestionada: los UPDATE se envían al confirmar, agrupados por hibernate.jdbc.batch_size.
+            definition.setNextOccurrence(next);
+        }
+        transactionChangeService.recordChanges(batchWriter.insert(occurrences), ChangeOperation.UPSERT);
+        return new Batch(due.size(), occurrences);
+    }
+
+    private static CronExpression parseSchedule(String schedule) {
+        try {
+            return CronExpression.parse(schedule.trim());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid schedule '" + schedule + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Primera fecha del calendario estrictamente posterior a {@code after}; {@code null}
+     * si no hay ninguna.
+     */
+    static LocalDate nextOccurrence(CronExpression cron, LocalDate after) {
+        LocalDateTime next = cron.next(after.atTime(LocalTime.MAX));
+        return next == null ? null : next.toLocalDate();
+    }
+
+    private record Batch(int claimed, List<Transaction> occurrences) {
+    }
+
+    private record PeriodKey(String userId, YearMonth period) {
+    }
+}
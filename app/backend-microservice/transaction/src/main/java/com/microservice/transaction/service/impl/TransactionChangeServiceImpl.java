@@ -0,0 +1,193 @@
+package com.microservice.transaction.service.impl;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.microservice.transaction.dto.TransactionChangeResponse;
+import com.microservice.transaction.dto.TransactionChangesResponse;
+import com.microservice.transaction.dto.TransactionMapper;
+import com.microservice.transaction.exception.ChangeCursorExpiredException;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionChange;
+import com.microservice.transaction.repository.TransactionChangeRepository;
+import com.microservice.transaction.repository.TransactionRepository;
+import com.microservice.transaction.service.TransactionChangeService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Change feed de transacciones para sincronización incremental de clientes.
+ *
+ * <h3>Cursor</h3>
+ * <p>El cursor es la última secuencia ({@code seq}) entregada. Un cliente sin
+ * cursor obtiene primero el cursor actual (respuesta vacía), descarga la lista
+ * completa una vez y desde entonces solo pide {@code changes?since=<cursor>}.</p>
+ *
+ * <h3>Ventana de asentamiento</h3>
+ * <p>La secuencia se asigna al insertar, no al confirmar: una transacción lenta
+ * puede confirmar la secuencia N después de que otra ya confirmó N+1. Para que un
+ * cliente no salte la N, solo se entregan cambios más antiguos que
+ * {@code app.changes.settle-ms}.</p>
+ *
+ * <h3>Compactación y retención</h3>
+ * <p>Dentro de una página solo se entrega el último cambio de cada transacción,
+ * con su estado actual. Los cambios más antiguos que {@code app.changes.retention-days}
+ * se purgan periódicamente; un cursor anterior a lo conservado recibe 410 Gone y el
+ * cliente debe volver a descargar la lista completa.</p>
+ */
+@Slf4j
+@Service
+public class TransactionChangeServiceImpl implements TransactionChangeService {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final TransactionChangeRepository changeRepository;
+    private final TransactionRepository transactionRepository;
+    private final long settleMs;
+    private final int retentionDays;
+
+    public TransactionChangeServiceImpl(
+            TransactionChangeRepository changeRepository,
+            TransactionRepository transactionRepository,
+            @Value("${app.changes.settle-ms:1000}") long settleMs,
+            @Value("${app.changes.retention-days:30}") int retentionDays) {
+        this.changeRepository = changeRepository;
+        this.transactionRepository = transactionRepository;
+        this.settleMs = settleMs;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Registra un cambio. Se une a la transacción de base de datos en curso, de
+     * modo que el cambio y su entrada en el feed se confirman juntos.
+     */
+    @Override
+    @Transactional
+    public void recordChange(Transaction transaction, ChangeOperation operation) {
+        changeRepository.save(TransactionChange.builder()
+                .userId(transaction.getUserId())
+                .transactionId(transaction.getTransactionId())
+                .operation(operation)
+                .build());
+    }
+
+    /**
+     * Variante de {@link #recordChange} para las operaciones masivas: una entrada por
+     * transacción, en la transacción de base de datos del lote.
+     */
+    @Override
+    @Transactional
+    public void recordChanges(Collection<Transaction> transactions, ChangeOperation operation) {
+        changeRepository.saveAll(transactions.stream()
+                .map(transaction -> TransactionChange.builder()
+                        .userId(transaction.getUserId())
+                        .transactionId(transaction.getTransactionId())
+                        .operation(operation)
+                        .build())
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionChangesResponse getChanges(String userId, String since, int limit) {
+        OffsetDateTime settledBefore = OffsetDateTime.now().minusNanos(settleMs * 1_000_000);
+        if (since == null || since.isBlank()) {
+            Long head = changeRepository.findMaxSettledSeq(settledBefore);
+            return new TransactionChangesResponse(List.of(), String.valueOf(head == null ? 0 : head), false);
+        }
+
+        long sinceSeq = parseCursor(since);
+        Long minSeq = changeRepository.findMinSeq();
+        if (minSeq != null && sinceSeq < minSeq - 1) {
+            throw new ChangeCursorExpiredException(
+                    "Change cursor " + since + " is older than the retained history; a full resync is required");
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<TransactionChange> fetched = changeRepository
+                .findByUserIdAndSeqGreaterThanAndChangedAtBeforeOrderBySeqAsc(
+                        userId, sinceSeq, settledBefore, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = fetched.size() > pageSize;
+        List<TransactionChange> page = hasMore ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = page.isEmpty() ? String.valueOf(sinceSeq)
+                : String.valueOf(page.get(page.size() - 1).getSeq());
+
+        return new TransactionChangesResponse(toResponses(userId, compact(page)), nextCursor, hasMore);
+    }
+
+    /**
+     * Purga los cambios fuera del período de retención.
+     *
+     * @return número de cambios eliminados
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.changes.prune-cron:0 30 3 * * *}")
+    public int pruneExpiredChanges() {
+        int deleted = changeRepository.deleteByChangedAtBefore(OffsetDateTime.now().minusDays(retentionDays));
+        log.info("Pruned {} transaction changes older than {} days", deleted, retentionDays);
+        return deleted;
+    }
+
+    /**
+     * Conserva solo el último cambio de cada transacción, en orden de secuencia.
+     */
+    private List<TransactionChange> compact(List<TransactionChange> page) {
+        Map<Long, TransactionChange> latest = new LinkedHashMap<>();
+        for (TransactionChange change : page) {
+            latest.remove(change.getTransactionId());
+            latest.put(change.getTransactionId(), change);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private List<TransactionChangeResponse> toResponses(String userId, List<TransactionChange> changes) {
+        List<Long> upsertIds = changes.stream()
+                .filter(change -> change.getOperation() == ChangeOperation.UPSERT)
+                .map(TransactionChange::getTransactionId)
+                .toList();
+        Map<Long, Transaction> current = upsertIds.isEmpty() ? Map.of()
+                : transactionRepository.findAllById(upsertIds).stream()
+                        .filter(transaction -> userId.equals(transaction.getUserId()))
+                        .collect(Collectors.toMap(Transaction::getTransactionId, Function.identity()));
+
+        List<TransactionChangeResponse> responses = new ArrayList<>(changes.size());
+        for (TransactionChange change : changes) {
+            Transaction transaction = current.get(change.getTransactionId());
+            if (change.getOperation() == ChangeOperation.UPSERT && transaction != null) {
+                responses.add(new TransactionChangeResponse(change.getSeq(), change.getTransactionId(),
+                        ChangeOperation.UPSERT, TransactionMapper.toResponse(transaction)));
+            } else {
+                // Eliminada después de este cambio: el tombstone posterior llegará en otra página.
+                responses.add(new TransactionChangeResponse(change.getSeq(), change.getTransactionId(),
+                        ChangeOperation.DELETE, null));
+            }
+        }
+        return responses;
+    }
+
+    private long parseCursor(String since) {
+        try {
+            long seq = Long.parseLong(since);
+            if (seq < 0) {
+                throw new NumberFormatException();
+            }
+            return seq;
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid change cursor: " + since);
+        }
+    }
+}
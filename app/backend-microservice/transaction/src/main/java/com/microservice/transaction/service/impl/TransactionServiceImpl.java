@@ -1,26 +1,36 @@
 package com.microservice.transaction.service.impl;
 
 import java.util.List;
+import java.util.Set;
 
 import com.microservice.transaction.dto.PaginatedResponse;
 import com.microservice.transaction.dto.TransactionMapper;
 import com.microservice.transaction.dto.TransactionRequest;
 import com.microservice.transaction.dto.TransactionResponse;
+import com.microservice.transaction.dto.TransactionSearchCriteria;
 import com.microservice.transaction.exception.NotFoundException;
+import com.microservice.transaction.exception.TransactionConflictException;
 import com.microservice.transaction.exception.ValidationException;
 import com.microservice.transaction.service.port.TransactionEventPublisherPort;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.FullTextQuery;
 import com.microservice.transaction.repository.TransactionRepository;
+import com.microservice.transaction.repository.specification.TransactionSpecifications;
+import com.microservice.transaction.service.CategoryService;
 import com.microservice.transaction.service.TransactionService;
 
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * Implementación del servicio de transacciones con aislamiento de datos.
@@ -43,41 +53,63 @@ import java.math.BigDecimal;
  *   </li>
  * </ol>
  *
+ * <h3>Actualización y borrado</h3>
+ * <p>La transacción se lee filtrando por {@code userId} (se necesita su estado
+ * anterior para el evento) y se escribe con un UPDATE/DELETE condicionado a
+ * {@code (transaction_id, user_id, version)}. Si otra petición la modificó entre la
+ * lectura y la escritura, el UPDATE no afecta a ninguna fila y se responde 409 en
+ * lugar de pisar su cambio.</p>
+ *
  * @see TransactionService
- * @see JwtAuthenticationFilter
+ * @see com.microservice.security.JwtAuthenticationFilter
  */
 @RequiredArgsConstructor
 @Service
 public class TransactionServiceImpl implements TransactionService {
+    private static final int MAX_SEARCH_TEXT_LENGTH = 100;
+
     private final TransactionRepository transactionRepository;
     private final TransactionEventPublisherPort eventPublisher;
+    private final CategoryService categoryService;
 
     @Override
+    @Transactional
     public TransactionResponse create(String userId, TransactionRequest dto) {
         validateAmount(dto.amount());
         
         Transaction entity = TransactionMapper.toRequest(userId, dto);
-        
+        entity.setCategoryId(categoryService.intern(userId, dto.category()));
+
         Transaction saved = transactionRepository.save(entity);
         eventPublisher.publishCreated(saved);
         return TransactionMapper.toResponse(saved);
     }
 
     @Override
-    public TransactionResponse updateTransaction(String userId, Long id, TransactionRequest dto) {
+    @Transactional
+    public TransactionResponse updateTransaction(String userId, Long id, TransactionRequest dto,
+            Long expectedVersion) {
         validateAmount(dto.amount());
 
-        Transaction existing = transactionRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
+        Transaction existing = findOwned(userId, id);
+        checkVersion(existing, expectedVersion);
 
-        // Validar que la transacción pertenece al usuario autenticado
-        validateTransactionOwnership(userId, existing);
+        TransactionType previousType = existing.getType();
+        BigDecimal previousAmount = existing.getAmount();
+        LocalDate previousDate = existing.getDate();
+        Integer categoryId = categoryService.intern(userId, dto.category());
+        int updated = transactionRepository.updateIfVersionMatches(id, userId, existing.getVersion(),
+                dto.type(), dto.amount(), dto.category(), categoryId, dto.date(), dto.description());
+        if (updated == 0) {
+            throw conflict(id);
+        }
 
+        // La entidad ya está desacoplada: se completa en memoria con lo que se acaba de escribir.
         applyUpdates(existing, dto, userId);
-
-        Transaction saved = transactionRepository.save(existing);
-        eventPublisher.publishUpdated(saved);
-        return TransactionMapper.toResponse(saved);
+        existing.setCategoryId(categoryId);
+        existing.setVersion(existing.getVersion() + 1);
+        eventPublisher.publishUpdated(existing, previousType, previousAmount, previousDate);
+        return TransactionMapper.toResponse(existing);
     }
 
     private void validateAmount(BigDecimal amount) {
@@ -105,6 +137,7 @@ public class TransactionServiceImpl implements TransactionService {
      * @throws NotFoundException si la transacción no existe o no pertenece al usuario
      */
     @Override
+    @Transactional(readOnly = true)
     public TransactionResponse getById(String userId, Long id) {
         Transaction found = transactionRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Transaction not found"));
@@ -151,6 +184,81 @@ public class TransactionServiceImpl implements TransactionService {
                 page.isLast());
     }
 
+    private Transaction findOwned(String userId, Long id) {
+        return transactionRepository.findByTransactionIdAndUserId(id, userId)
+                .orElseThrow(() -> new NotFoundException("Transaction not found"));
+    }
+
+    private void checkVersion(Transaction existing, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw conflict(existing.getTransactionId());
+        }
+    }
+
+    private TransactionConflictException conflict(Long id) {
+        return new TransactionConflictException(
+                "Transaction " + id + " was modified by another request; reload it and try again");
+    }
+
+    /**
+     * Búsqueda con filtros combinados, resuelta en la base de datos con los índices
+     * {@code (user_id, ...)} de {@code transactions}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<TransactionResponse> search(String userId, TransactionSearchCriteria criteria,
+            Pageable pageable) {
+        validateRange(criteria.minAmount(), criteria.maxAmount(), "minAmount", "maxAmount");
+        validateRange(criteria.from(), criteria.to(), "from", "to");
+        if (criteria.text() != null && criteria.text().length() > MAX_SEARCH_TEXT_LENGTH) {
+            throw new ValidationException("text must be at most " + MAX_SEARCH_TEXT_LENGTH + " characters");
+        }
+
+        Set<Integer> categoryIds = criteria.category() == null || criteria.category().isEmpty() ? null
+                : categoryService.findIds(userId, criteria.category());
+        Page<Transaction> page = transactionRepository.findAll(
+                TransactionSpecifications.search(userId, criteria, categoryIds), pageable);
+        List<TransactionResponse> content = page.map(TransactionMapper::toResponse).getContent();
+
+        return new PaginatedResponse<>(
+                content,
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast());
+    }
+
+    /**
+     * Búsqueda de texto con el índice FULLTEXT de MySQL. El orden de {@code pageable}
+     * se ignora: los resultados van por relevancia y, a igual relevancia, por fecha.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<TransactionResponse> searchText(String userId, String text, Pageable pageable) {
+        String query = FullTextQuery.toBooleanMode(text)
+                .orElseThrow(() -> new ValidationException(
+                        "Search text must contain at least one word of 3 or more characters"));
+
+        Page<Transaction> page = transactionRepository.searchFullText(userId, query,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        List<TransactionResponse> content = page.map(TransactionMapper::toResponse).getContent();
+
+        return new PaginatedResponse<>(
+                content,
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast());
+    }
+
+    private static <T extends Comparable<? super T>> void validateRange(T min, T max, String minName, String maxName) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new ValidationException(minName + " must not be greater than " + maxName);
+        }
+    }
+
     /**
      * Valida que una transacción pertenece al usuario autenticado.
      * Lanza una excepción si no es así (para mantener concepto de no divulgar IDs de otros usuarios).
@@ -166,14 +274,14 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
-    public void delete(String userId, Long id) {
-        Transaction existing = transactionRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
-
-        // Validar que la transacción pertenece al usuario autenticado
-        validateTransactionOwnership(userId, existing);
+    @Transactional
+    public void delete(String userId, Long id, Long expectedVersion) {
+        Transaction existing = findOwned(userId, id);
+        checkVersion(existing, expectedVersion);
 
-        transactionRepository.delete(existing);
+        if (transactionRepository.deleteIfVersionMatches(id, userId, existing.getVersion()) == 0) {
+            throw conflict(id);
+        }
         eventPublisher.publishDeleted(existing);
     }
 }
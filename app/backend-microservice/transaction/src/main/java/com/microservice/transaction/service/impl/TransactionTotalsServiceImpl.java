@@ -0,0 +1,81 @@
+package com.microservice.transaction.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.microservice.transaction.dto.PeriodTotalsResponse;
+import com.microservice.transaction.dto.UserIdPageResponse;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.TransactionRepository;
+import com.microservice.transaction.repository.projection.PeriodTypeTotal;
+import com.microservice.transaction.service.TransactionTotalsService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementación de las consultas agregadas entre servicios.
+ *
+ * <p>Las sumas se calculan en la base de datos ({@code SUM ... GROUP BY}) para
+ * no transferir filas individuales: un usuario con miles de transacciones se
+ * resume en una fila por (período, tipo).</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class TransactionTotalsServiceImpl implements TransactionTotalsService {
+    private static final int MAX_PAGE_SIZE = 1000;
+    // Límites del tipo DATE de MySQL; cubren todo el historial sin filtrar por fecha.
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserIdPageResponse listUserIds(String after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<String> userIds = transactionRepository.findDistinctUserIdsAfter(
+                after == null ? "" : after, PageRequest.of(0, pageSize));
+        String nextCursor = userIds.size() < pageSize ? null : userIds.get(userIds.size() - 1);
+        return new UserIdPageResponse(userIds, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PeriodTotalsResponse> getPeriodTotals(String userId, String startPeriod, String endPeriod) {
+        LocalDate start = startPeriod == null ? MIN_DATE : parsePeriod(startPeriod).atDay(1);
+        LocalDate end = endPeriod == null ? MAX_DATE : parsePeriod(endPeriod).atEndOfMonth();
+
+        Map<String, BigDecimal[]> totalsByPeriod = new TreeMap<>();
+        for (PeriodTypeTotal row : transactionRepository.sumByUserIdGroupedByPeriodAndType(userId, start, end)) {
+            String period = YearMonth.of(row.getYear(), row.getMonth()).toString();
+            BigDecimal[] totals = totalsByPeriod.computeIfAbsent(
+                    period, p -> new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO });
+            int index = row.getType() == TransactionType.INCOME ? 0 : 1;
+            totals[index] = totals[index].add(row.getTotal());
+        }
+
+        List<PeriodTotalsResponse> result = new ArrayList<>(totalsByPeriod.size());
+        totalsByPeriod.forEach((period, totals) ->
+                result.add(new PeriodTotalsResponse(period, totals[0], totals[1])));
+        return result;
+    }
+
+    private YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid period format: " + period + ". Expected format: yyyy-MM");
+        }
+    }
+}
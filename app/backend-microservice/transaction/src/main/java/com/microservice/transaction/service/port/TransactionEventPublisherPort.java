@@ -1,9 +1,16 @@
 package com.microservice.transaction.service.port;
 
 import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 public interface TransactionEventPublisherPort {
     void publishCreated(Transaction transaction);
-    void publishUpdated(Transaction transaction);
+    void publishUpdated(Transaction transaction, TransactionType previousType, BigDecimal previousAmount,
+                        LocalDate previousDate);
     void publishDeleted(Transaction transaction);
+    void publishReportDelta(String userId, YearMonth period, BigDecimal incomeDelta, BigDecimal expenseDelta);
 }
@@ -25,6 +25,7 @@ import java.time.OffsetDateTime;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -65,10 +66,11 @@ class TransactionControllerTest {
                 "Alimentacion",
                 LocalDate.of(2025, 3, 10),
                 "Compra semanal",
-                OffsetDateTime.parse("2025-03-10T10:00:00-05:00")
+                OffsetDateTime.parse("2025-03-10T10:00:00-05:00"),
+                0L
         );
 
-        when(transactionService.updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class)))
+        when(transactionService.updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class), isNull()))
                 .thenReturn(response);
 
         mockMvc.perform(put("/api/v1/transactions/{id}", transactionId)
@@ -82,7 +84,7 @@ class TransactionControllerTest {
                                 + "}"))
                 .andExpect(status().isOk());
 
-        verify(transactionService).updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class));
+        verify(transactionService).updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class), isNull());
     }
 
     @Test
@@ -90,7 +92,7 @@ class TransactionControllerTest {
     void shouldReturn404_whenTransactionNotFound() throws Exception {
         Long transactionId = 999L;
 
-        when(transactionService.updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class)))
+        when(transactionService.updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class), isNull()))
                 .thenThrow(new NotFoundException("Transaction not found"));
 
         mockMvc.perform(put("/api/v1/transactions/{id}", transactionId)
@@ -104,7 +106,7 @@ class TransactionControllerTest {
                                 + "}"))
                 .andExpect(status().isNotFound());
 
-        verify(transactionService).updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class));
+        verify(transactionService).updateTransaction(eq("user-123"), eq(transactionId), any(TransactionRequest.class), isNull());
     }
 
     @Test
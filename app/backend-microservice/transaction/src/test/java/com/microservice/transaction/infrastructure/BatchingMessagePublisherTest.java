@@ -0,0 +1,161 @@
+package com.microservice.transaction.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BatchingMessagePublisherTest {
+
+    private static final String EXCHANGE = "transaction-exchange";
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final RabbitOperations operations = mock(RabbitOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<CorrelationData> sent = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private BatchingMessagePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new BatchingMessagePublisher(rabbitTemplate, new JacksonJsonMessageConverter(), EXCHANGE,
+                50, 10, 100, 2, 200, meterRegistry);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            int before = sent.size();
+            Object result = callback.doInRabbit(operations);
+            batchSizes.add(sent.size() - before);
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    /** Responde a cada envío con la confirmación que decida {@code broker}. */
+    private void brokerAnswers(Consumer<CorrelationData> broker) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            sent.add(correlation);
+            broker.accept(correlation);
+            return null;
+        }).when(operations).send(eq(EXCHANGE), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private double published(String result) {
+        return meterRegistry.get("transaction.messaging.published").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("should send buffered messages as one batch on a single channel")
+    void shouldBatchMessages() {
+        brokerAnswers(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+        publisher.start();
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish("transaction.created", "message-" + i);
+        }
+        publisher.stop();
+
+        verify(rabbitTemplate, times(1)).invoke(any());
+        assertThat(batchSizes).containsExactly(5);
+        assertThat(sent).extracting(CorrelationData::getId).doesNotHaveDuplicates();
+        assertThat(published("confirmed")).isEqualTo(5);
+        assertThat(publisher.inFlightCount()).isZero();
+        assertThat(publisher.bufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should retry a nacked message and drop it after the last attempt")
+    void shouldRetryNacks() {
+        brokerAnswers(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(false, "full")));
+        publisher.start();
+
+        publisher.publish("transaction.updated", "message");
+        publisher.stop();
+
+        assertThat(sent).hasSize(2);
+        assertThat(published("retried")).isEqualTo(1);
+        assertThat(published("failed")).isEqualTo(1);
+        assertThat(published("confirmed")).isZero();
+    }
+
+    @Test
+    @DisplayName("should treat a missing confirm as a failed attempt")
+    void shouldRetryOnConfirmTimeout() {
+        List<CorrelationData> attempts = new ArrayList<>();
+        brokerAnswers(correlation -> {
+            attempts.add(correlation);
+            if (attempts.size() > 1) {
+                correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            }
+        });
+        publisher.start();
+
+        publisher.publish("transaction.deleted", "message");
+        publisher.stop();
+
+        assertThat(published("retried")).isEqualTo(1);
+        assertThat(published("confirmed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should publish directly when the background sender is not running")
+    void shouldPublishDirectlyWhenStopped() {
+        brokerAnswers(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+
+        publisher.publish("transaction.created", "message");
+
+        assertThat(published("confirmed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should count messages as failed when the broker is unreachable while stopped")
+    void shouldFailWhenBrokerUnavailable() {
+        doThrow(new AmqpConnectException(new RuntimeException("down"))).when(rabbitTemplate).invoke(any());
+
+        publisher.publish("transaction.created", "message");
+
+        assertThat(published("failed")).isEqualTo(1);
+        assertThat(publisher.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should drop a nacked message sent while stopped instead of leaving it in the buffer")
+    void shouldNotStrandRetriesWhenStopped() {
+        brokerAnswers(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(false, "full")));
+
+        publisher.publish("transaction.created", "message");
+
+        assertThat(sent).hasSize(1);
+        assertThat(published("failed")).isEqualTo(1);
+        assertThat(published("retried")).isZero();
+        assertThat(publisher.bufferedCount()).isZero();
+    }
+}
@@ -0,0 +1,140 @@
+package com.microservice.transaction.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+
+import com.microservice.transaction.infrastructure.dto.TransactionMessage;
+import com.microservice.transaction.model.TransactionType;
+
+class TransactionMessageConverterTest {
+
+    /**
+     * Codificación v1 de {@link #sample()}. El test del consumidor en {@code report}
+     * decodifica los mismos bytes.
+     */
+    static final String SAMPLE_V1 = "01000000000000002a002435353065383430302d653239622d343164342d613731362d"
+            + "3434363635353434303030300102000000000001e2400000502f0004466f6f640100054c756e6368";
+
+    private final JacksonJsonMessageConverter jsonConverter = new JacksonJsonMessageConverter();
+    private final TransactionMessageConverter converter = new TransactionMessageConverter(jsonConverter, true);
+
+    private static TransactionMessage sample() {
+        return TransactionMessage.builder()
+                .transactionId(42L)
+                .userId("550e8400-e29b-41d4-a716-446655440000")
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("1234.56"))
+                .date(LocalDate.of(2026, 3, 15))
+                .category("Food")
+                .description("Lunch")
+                .build();
+    }
+
+    @Test
+    @DisplayName("should encode TransactionMessage in the documented v1 layout")
+    void shouldEncodeV1Layout() {
+        Message message = converter.toMessage(sample(), new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType())
+                .isEqualTo(TransactionMessageConverter.CONTENT_TYPE);
+        assertThat(HexFormat.of().formatHex(message.getBody())).isEqualTo(SAMPLE_V1);
+    }
+
+    @Test
+    @DisplayName("should round-trip every field, including optional ones")
+    void shouldRoundTrip() {
+        TransactionMessage original = sample();
+        original.setPreviousAmount(new BigDecimal("999.10"));
+        original.setPreviousDate(LocalDate.of(2026, 3, 1));
+        original.setCreatedAt(OffsetDateTime.of(2026, 3, 15, 12, 30, 0, 0, ZoneOffset.ofHours(-5)));
+        original.setCategoryId(17);
+        original.setPreviousType(TransactionType.INCOME);
+
+        Object decoded = converter.fromMessage(converter.toMessage(original, new MessageProperties()));
+
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("should be much smaller than the JSON encoding")
+    void shouldBeSmallerThanJson() {
+        int binary = converter.toMessage(sample(), new MessageProperties()).getBody().length;
+        int json = jsonConverter.toMessage(sample(), new MessageProperties()).getBody().length;
+
+        assertThat(binary).isEqualTo(75);
+        assertThat(binary).isLessThan(json / 2);
+    }
+
+    @Test
+    @DisplayName("should fall back to JSON when the amount does not fit a scaled long")
+    void shouldFallBackToJsonForHugeAmounts() {
+        TransactionMessage huge = sample();
+        huge.setAmount(new BigDecimal("99999999999999999999.99"));
+
+        Message message = converter.toMessage(huge, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
+    @Test
+    @DisplayName("should fall back to JSON when a legacy row has no category")
+    void shouldFallBackToJsonForNullCategory() {
+        TransactionMessage legacy = sample();
+        legacy.setCategory(null);
+
+        Message message = converter.toMessage(legacy, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
+    @Test
+    @DisplayName("should send JSON when binary output is disabled and still read both formats")
+    void shouldHonourJsonFormat() {
+        TransactionMessageConverter jsonOnly = new TransactionMessageConverter(jsonConverter, false);
+
+        Message json = jsonOnly.toMessage(sample(), new MessageProperties());
+        Message binary = converter.toMessage(sample(), new MessageProperties());
+
+        assertThat(json.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(jsonOnly.fromMessage(binary)).isEqualTo(sample());
+        assertThat(jsonOnly.fromMessage(json)).isEqualTo(sample());
+    }
+
+    /**
+     * Comparación aproximada de coste de decodificación. No forma parte de la suite:
+     * {@code mvn test -Dtest=TransactionMessageConverterTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkDecode() {
+        Message binary = converter.toMessage(sample(), new MessageProperties());
+        Message json = jsonConverter.toMessage(sample(), new MessageProperties());
+        int iterations = 200_000;
+        for (int round = 0; round < 3; round++) {
+            long binaryNs = time(() -> converter.fromMessage(binary), iterations);
+            long jsonNs = time(() -> jsonConverter.fromMessage(json), iterations);
+            System.out.printf("round %d: binary %d B %d ns/op, json %d B %d ns/op%n", round,
+                    binary.getBody().length, binaryNs / iterations, json.getBody().length, jsonNs / iterations);
+        }
+    }
+
+    private static long time(Runnable decode, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            decode.run();
+        }
+        return System.nanoTime() - start;
+    }
+}
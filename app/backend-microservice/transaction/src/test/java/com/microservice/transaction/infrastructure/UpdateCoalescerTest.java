@@ -0,0 +1,135 @@
+package com.microservice.transaction.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.microservice.transaction.infrastructure.dto.TransactionMessage;
+import com.microservice.transaction.model.TransactionType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UpdateCoalescerTest {
+
+    private static final long WINDOW_MS = 1_000;
+    private static final long MAX_WAIT_MS = 5_000;
+
+    private final BatchingMessagePublisher publisher = mock(BatchingMessagePublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpdateCoalescer coalescer = new UpdateCoalescer(publisher, WINDOW_MS, MAX_WAIT_MS, meterRegistry);
+
+    private static TransactionMessage update(Long id, TransactionType type, String amount, String previousAmount,
+            LocalDate date, LocalDate previousDate) {
+        return TransactionMessage.builder()
+                .transactionId(id)
+                .userId("user-123")
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .category("Hogar")
+                .previousType(type)
+                .previousAmount(new BigDecimal(previousAmount))
+                .previousDate(previousDate)
+                .build();
+    }
+
+    private List<TransactionMessage> published() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(publisher, atLeastOnce()).publish(eq(UpdateCoalescer.ROUTING_KEY), captor.capture());
+        return captor.getAllValues().stream().map(TransactionMessage.class::cast).toList();
+    }
+
+    @Test
+    @DisplayName("should publish one net change with the first previous values and the last new values")
+    void shouldMergeUpdatesToTheSameTransaction() {
+        LocalDate d1 = LocalDate.of(2025, 3, 1);
+        LocalDate d2 = LocalDate.of(2025, 3, 2);
+        LocalDate d3 = LocalDate.of(2025, 3, 3);
+        coalescer.submit(update(1L, TransactionType.EXPENSE, "20.00", "10.00", d2, d1));
+        coalescer.submit(update(1L, TransactionType.EXPENSE, "30.00", "20.00", d3, d2));
+
+        coalescer.flushExpired(System.currentTimeMillis() + WINDOW_MS);
+
+        assertThat(published()).singleElement().satisfies(message -> {
+            assertThat(message.getAmount()).isEqualByComparingTo("30.00");
+            assertThat(message.getDate()).isEqualTo(d3);
+            assertThat(message.getPreviousAmount()).isEqualByComparingTo("10.00");
+            assertThat(message.getPreviousDate()).isEqualTo(d1);
+        });
+        assertThat(meterRegistry.get("transaction.messaging.updates.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should hold an update until its window ends, but never past the maximum wait")
+    void shouldRespectWindowAndMaxWait() {
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        long start = System.currentTimeMillis();
+        coalescer.submit(update(1L, TransactionType.EXPENSE, "20.00", "10.00", date, date));
+
+        coalescer.flushExpired(start);
+        verify(publisher, never()).publish(any(), any());
+
+        coalescer.flushExpired(start + MAX_WAIT_MS + WINDOW_MS);
+        assertThat(published()).hasSize(1);
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep the type of the first update when merging a type change")
+    void shouldMergeAcrossTypeChanges() {
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        coalescer.submit(update(1L, TransactionType.INCOME, "20.00", "10.00", date, date).toBuilder()
+                .previousType(TransactionType.EXPENSE)
+                .build());
+        coalescer.submit(update(1L, TransactionType.INCOME, "30.00", "20.00", date, date));
+
+        coalescer.flushExpired(System.currentTimeMillis() + WINDOW_MS);
+
+        assertThat(published()).singleElement().satisfies(message -> {
+            assertThat(message.getType()).isEqualTo(TransactionType.INCOME);
+            assertThat(message.getAmount()).isEqualByComparingTo("30.00");
+            assertThat(message.getPreviousType()).isEqualTo(TransactionType.EXPENSE);
+            assertThat(message.getPreviousAmount()).isEqualByComparingTo("10.00");
+        });
+    }
+
+    @Test
+    @DisplayName("should publish the pending update on demand and on shutdown")
+    void shouldFlushOnDemand() {
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        coalescer.submit(update(1L, TransactionType.EXPENSE, "20.00", "10.00", date, date));
+        coalescer.submit(update(2L, TransactionType.EXPENSE, "20.00", "10.00", date, date));
+
+        coalescer.flush(1L);
+        coalescer.flush(3L);
+        coalescer.destroy();
+
+        verify(publisher, times(2)).publish(eq(UpdateCoalescer.ROUTING_KEY), any());
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should publish immediately when the window is zero")
+    void shouldPassThroughWithoutWindow() {
+        UpdateCoalescer passThrough = new UpdateCoalescer(publisher, 0, 0, meterRegistry);
+        LocalDate date = LocalDate.of(2025, 3, 1);
+
+        passThrough.submit(update(1L, TransactionType.EXPENSE, "20.00", "10.00", date, date));
+
+        assertThat(published()).hasSize(1);
+        assertThat(passThrough.pendingCount()).isZero();
+    }
+}
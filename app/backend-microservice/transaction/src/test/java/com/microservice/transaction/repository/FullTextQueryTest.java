@@ -0,0 +1,46 @@
+package com.microservice.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FullTextQueryTest {
+
+    @Test
+    @DisplayName("should require every word as a prefix")
+    void shouldRequireEveryWordAsPrefix() {
+        assertThat(FullTextQuery.toBooleanMode("Netflix rent")).contains("+netflix* +rent*");
+    }
+
+    @Test
+    @DisplayName("should drop boolean-mode operators typed by the user")
+    void shouldDropOperators() {
+        assertThat(FullTextQuery.toBooleanMode("-netflix +(rent) \"café\" ~uber* @3 <gym>"))
+                .contains("+netflix* +rent* +café* +uber* +gym*");
+    }
+
+    @Test
+    @DisplayName("should ignore words shorter than the indexed token size and repeated words")
+    void shouldIgnoreShortAndRepeatedWords() {
+        assertThat(FullTextQuery.toBooleanMode("a de rent RENT")).contains("+rent*");
+    }
+
+    @Test
+    @DisplayName("should cap the number and length of terms")
+    void shouldCapTerms() {
+        String query = FullTextQuery.toBooleanMode("one two three four five six seven eight nine ten "
+                + "x".repeat(100)).orElseThrow();
+
+        assertThat(query.split(" ")).hasSize(FullTextQuery.MAX_TERMS);
+        assertThat(FullTextQuery.toBooleanMode("y".repeat(100)))
+                .contains("+" + "y".repeat(FullTextQuery.MAX_TERM_LENGTH) + "*");
+    }
+
+    @Test
+    @DisplayName("should return empty when nothing is searchable")
+    void shouldReturnEmptyWhenNothingSearchable() {
+        assertThat(FullTextQuery.toBooleanMode(null)).isEmpty();
+        assertThat(FullTextQuery.toBooleanMode("  +-*() a b ")).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+package com.microservice.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.model.RecurringTransaction;
+import com.microservice.transaction.model.TransactionType;
+
+/**
+ * {@link RecurringTransactionRepository#claimDue} contra H2 con dos transacciones reales:
+ * la segunda debe saltar las filas que bloquea la primera en lugar de esperar.
+ *
+ * <p>H2 bloquea todas las filas que cumplen el {@code WHERE} antes de aplicar el límite,
+ * mientras que MySQL recorre el índice de {@code next_occurrence} y solo bloquea las
+ * devueltas; por eso se comprueba que los reclamos no se solapan, no qué filas recibe
+ * el segundo.</p>
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecurringTransactionRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private RecurringTransactionRepository recurringRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        recurringRepository.saveAll(IntStream.range(0, 5).mapToObj(i -> RecurringTransaction.builder()
+                .userId("user-" + i)
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("10.00"))
+                .category("Suscripciones")
+                .categoryId(1)
+                .schedule("0 0 0 1 * *")
+                .nextOccurrence(i < 4 ? TODAY.minusDays(i) : TODAY.plusDays(1))
+                .createdAt(OffsetDateTime.now())
+                .build()).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        recurringRepository.deleteAll();
+    }
+
+    private List<String> claimUsers(int limit) {
+        return recurringRepository.claimDue(TODAY, PageRequest.of(0, limit)).stream()
+                .map(RecurringTransaction::getUserId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("should claim due definitions, oldest first, up to the page size")
+    void shouldClaimOldestDueFirst() {
+        List<String> claimed = transactionTemplate.execute(status -> claimUsers(10));
+
+        assertThat(claimed).containsExactly("user-3", "user-2", "user-1", "user-0");
+    }
+
+    @Test
+    @DisplayName("should skip rows locked by another claim instead of waiting for them")
+    void shouldSkipLockedRows() throws Exception {
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<String> users = claimUsers(2);
+                    claimed.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return users;
+                }));
+
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+        List<String> second = transactionTemplate.execute(status -> claimUsers(10));
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).containsExactly("user-3", "user-2");
+        assertThat(second).doesNotContain("user-3", "user-2");
+    }
+}
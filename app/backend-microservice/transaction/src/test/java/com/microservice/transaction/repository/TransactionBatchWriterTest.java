@@ -0,0 +1,70 @@
+package com.microservice.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+
+/**
+ * Inserta un lote real en H2 y comprueba que cada transacción recibe el id de su propia
+ * fila, en el orden del lote.
+ */
+@DataJpaTest
+@Import(TransactionBatchWriter.class)
+class TransactionBatchWriterTest {
+
+    @Autowired
+    private TransactionBatchWriter batchWriter;
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private static Transaction occurrence(int i) {
+        return Transaction.builder()
+                .userId("user-123")
+                .type(i % 2 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(10 + i))
+                .category("Suscripciones")
+                .categoryId(i % 3 == 0 ? null : 4)
+                .date(LocalDate.of(2025, 1, 1).plusMonths(i))
+                .description("Ocurrencia " + i)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should assign each inserted row its generated id in batch order")
+    void shouldAssignGeneratedIdsInOrder() {
+        List<Transaction> batch = IntStream.range(0, 12).mapToObj(TransactionBatchWriterTest::occurrence).toList();
+
+        List<Transaction> inserted = batchWriter.insert(batch);
+
+        assertThat(inserted).extracting(Transaction::getTransactionId).doesNotContainNull().isSorted()
+                .doesNotHaveDuplicates();
+        assertThat(inserted).allSatisfy(transaction -> {
+            assertThat(transaction.getVersion()).isZero();
+            assertThat(transaction.getCreatedAt()).isNotNull();
+            Transaction stored = transactionRepository.findById(transaction.getTransactionId()).orElseThrow();
+            assertThat(stored.getDescription()).isEqualTo(transaction.getDescription());
+            assertThat(stored.getAmount()).isEqualByComparingTo(transaction.getAmount());
+            assertThat(stored.getCategoryId()).isEqualTo(transaction.getCategoryId());
+            assertThat(stored.getDate()).isEqualTo(transaction.getDate());
+        });
+    }
+
+    @Test
+    @DisplayName("should do nothing for an empty batch")
+    void shouldIgnoreEmptyBatch() {
+        assertThat(batchWriter.insert(List.of())).isEmpty();
+        assertThat(transactionRepository.count()).isZero();
+    }
+}
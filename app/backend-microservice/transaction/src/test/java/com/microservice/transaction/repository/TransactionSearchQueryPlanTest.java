@@ -0,0 +1,140 @@
+package com.microservice.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.microservice.transaction.dto.TransactionSearchCriteria;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.specification.TransactionSpecifications;
+
+/**
+ * Comprueba con {@code EXPLAIN} de H2 que las búsquedas usan los índices de
+ * {@code transactions} en lugar de recorrer la tabla.
+ *
+ * <p>Los valores se generan en línea en el SQL ({@code value_handling_mode=inline})
+ * para pasar a {@code EXPLAIN} exactamente la consulta que genera Hibernate.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.microservice.transaction.repository.TransactionSearchQueryPlanTest$CapturingInspector"
+})
+class TransactionSearchQueryPlanTest {
+
+    private static final String USER_ID = "user-123";
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Transaction> rows = new ArrayList<>();
+        for (int user = 0; user < 20; user++) {
+            for (int i = 0; i < 50; i++) {
+                rows.add(Transaction.builder()
+                        .userId(user == 0 ? USER_ID : "user-" + user)
+                        .type(i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE)
+                        .amount(BigDecimal.valueOf(10 + i * 7L))
+                        .category(List.of("Hogar", "Comida", "Ocio", "Salario", "Transporte").get(i % 5))
+                        .categoryId(user * 5 + i % 5 + 1)
+                        .date(LocalDate.of(2025, 1, 1).plusDays(i * 7L))
+                        .description("Movimiento " + i)
+                        .build());
+            }
+        }
+        transactionRepository.saveAllAndFlush(rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private String plan(TransactionSearchCriteria criteria) {
+        return plan(criteria, null);
+    }
+
+    private String plan(TransactionSearchCriteria criteria, Set<Integer> categoryIds) {
+        CapturingInspector.STATEMENTS.clear();
+        List<Transaction> found = transactionRepository.findAll(
+                TransactionSpecifications.search(USER_ID, criteria, categoryIds), Sort.by(Sort.Direction.DESC, "date"));
+        assertThat(found).isNotEmpty().allMatch(transaction -> USER_ID.equals(transaction.getUserId()));
+        String select = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        return jdbcTemplate.queryForObject("EXPLAIN " + select, String.class);
+    }
+
+    private static TransactionSearchCriteria criteria(TransactionType type, List<String> categories,
+            BigDecimal minAmount, BigDecimal maxAmount, LocalDate from, LocalDate to, String text) {
+        return new TransactionSearchCriteria(type, categories, minAmount, maxAmount, from, to, text);
+    }
+
+    @Test
+    @DisplayName("date range uses the (user_id, date, ...) index")
+    void dateRangeUsesUserDateIndex() {
+        String plan = plan(criteria(null, null, null, null,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 6, 30), null));
+
+        assertThat(plan).containsIgnoringCase("IDX_TRANSACTIONS_USER_DATE_TYPE_AMOUNT");
+    }
+
+    @Test
+    @DisplayName("type filter uses the (user_id, type, date) index")
+    void typeUsesUserTypeDateIndex() {
+        String plan = plan(criteria(TransactionType.INCOME, null, null, null,
+                LocalDate.of(2025, 1, 1), null, null));
+
+        assertThat(plan).containsIgnoringCase("IDX_TRANSACTIONS_USER_TYPE_DATE");
+    }
+
+    @Test
+    @DisplayName("category filter uses the (user_id, category_id, date) index")
+    void categoryUsesUserCategoryDateIndex() {
+        String plan = plan(criteria(null, List.of("Comida"), null, null,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 12, 31), null), Set.of(2));
+
+        assertThat(plan).containsIgnoringCase("IDX_TRANSACTIONS_USER_CATEGORY_DATE");
+    }
+
+    @Test
+    @DisplayName("amount range uses the (user_id, amount) index")
+    void amountRangeUsesUserAmountIndex() {
+        String plan = plan(criteria(null, null, new BigDecimal("100"), new BigDecimal("150"), null, null, null));
+
+        assertThat(plan).containsIgnoringCase("IDX_TRANSACTIONS_USER_AMOUNT");
+    }
+
+    @Test
+    @DisplayName("description text is filtered after an index lookup, never by a table scan")
+    void descriptionTextNeverScansTheTable() {
+        String plan = plan(criteria(null, null, null, null, null, null, "movimiento 1"));
+
+        assertThat(plan).containsIgnoringCase("IDX_TRANSACTIONS_USER_").doesNotContainIgnoringCase("tableScan");
+    }
+}
@@ -0,0 +1,146 @@
+package com.microservice.transaction.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.dto.BulkDeleteRequest;
+import com.microservice.transaction.dto.BulkRecategorizeRequest;
+import com.microservice.transaction.dto.TransactionSearchCriteria;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.TransactionRepository;
+import com.microservice.transaction.service.CategoryService;
+import com.microservice.transaction.service.TransactionChangeService;
+import com.microservice.transaction.service.port.TransactionEventPublisherPort;
+
+class BulkTransactionServiceImplTest {
+
+    private static final String USER_ID = "user-123";
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionChangeService changeService = mock(TransactionChangeService.class);
+    private final CategoryService categoryService = mock(CategoryService.class);
+    private final TransactionEventPublisherPort eventPublisher = mock(TransactionEventPublisherPort.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final BulkTransactionServiceImpl service = new BulkTransactionServiceImpl(transactionRepository,
+            changeService, categoryService, eventPublisher, transactionTemplate, 2);
+
+    private final Transaction salary = transaction(1L, TransactionType.INCOME, "1000.00", LocalDate.of(2025, 3, 1));
+    private final Transaction rent = transaction(2L, TransactionType.EXPENSE, "400.00", LocalDate.of(2025, 3, 5));
+    private final Transaction food = transaction(3L, TransactionType.EXPENSE, "50.00", LocalDate.of(2025, 4, 2));
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    private static Transaction transaction(Long id, TransactionType type, String amount, LocalDate date) {
+        return Transaction.builder()
+                .transactionId(id)
+                .userId(USER_ID)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .category("Hogar")
+                .categoryId(1)
+                .date(date)
+                .version(0L)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void chunks(List<Transaction> first, List<Transaction> second) {
+        when(transactionRepository.findBy(any(Specification.class), any())).thenReturn((Object) first, (Object) second);
+        when(transactionRepository.lockOwned(eq(USER_ID), anyList())).thenReturn(first, second);
+    }
+
+    @Test
+    @DisplayName("should delete in chunks and publish one aggregated delta per period")
+    void shouldDeleteInChunksAndAggregateDeltas() {
+        chunks(List.of(salary, rent), List.of(food));
+
+        int affected = service.delete(USER_ID,
+                new BulkDeleteRequest(List.of(1L, 2L, 3L, 99L), null)).affected();
+
+        assertThat(affected).isEqualTo(3);
+        verify(transactionRepository).deleteOwned(USER_ID, List.of(1L, 2L));
+        verify(transactionRepository).deleteOwned(USER_ID, List.of(3L));
+        verify(changeService, times(2)).recordChanges(anyList(), eq(ChangeOperation.DELETE));
+        verify(eventPublisher).publishReportDelta(USER_ID, YearMonth.of(2025, 3),
+                new BigDecimal("-1000.00"), new BigDecimal("-400.00"));
+        verify(eventPublisher).publishReportDelta(USER_ID, YearMonth.of(2025, 4),
+                BigDecimal.ZERO, new BigDecimal("-50.00"));
+        verify(eventPublisher, never()).publishDeleted(any());
+    }
+
+    @Test
+    @DisplayName("should still publish the deltas of committed chunks when a later chunk fails")
+    void shouldPublishCommittedDeltasOnFailure() {
+        chunks(List.of(salary, rent), List.of(food));
+        when(transactionRepository.deleteOwned(USER_ID, List.of(3L))).thenThrow(new QueryTimeoutException("lock wait"));
+
+        assertThatThrownBy(() -> service.delete(USER_ID, new BulkDeleteRequest(null, "2025-03")))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        verify(eventPublisher).publishReportDelta(USER_ID, YearMonth.of(2025, 3),
+                new BigDecimal("-1000.00"), new BigDecimal("-400.00"));
+        verify(eventPublisher, never()).publishReportDelta(eq(USER_ID), eq(YearMonth.of(2025, 4)), any(), any());
+    }
+
+    @Test
+    @DisplayName("should require exactly one of ids or period")
+    void shouldRejectAmbiguousDelete() {
+        assertThatThrownBy(() -> service.delete(USER_ID, new BulkDeleteRequest(List.of(1L), "2025-03")))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.delete(USER_ID, new BulkDeleteRequest(List.of(), null)))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(transactionRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should recategorize only rows not already in the target category and publish no report delta")
+    void shouldRecategorizeChangedRowsOnly() {
+        Transaction alreadyThere = transaction(4L, TransactionType.EXPENSE, "20.00", LocalDate.of(2025, 3, 9));
+        alreadyThere.setCategory("Comida");
+        alreadyThere.setCategoryId(7);
+        chunks(List.of(rent, alreadyThere), List.of());
+        when(categoryService.intern(USER_ID, "Comida")).thenReturn(7);
+
+        int affected = service.recategorize(USER_ID, new BulkRecategorizeRequest(
+                new TransactionSearchCriteria(null, null, null, null, null, null, null), " Comida ")).affected();
+
+        assertThat(affected).isEqualTo(1);
+        verify(transactionRepository).recategorizeOwned(USER_ID, List.of(2L), "Comida", 7);
+        verify(changeService).recordChanges(List.of(rent), ChangeOperation.UPSERT);
+        verifyNoInteractions(eventPublisher);
+    }
+}
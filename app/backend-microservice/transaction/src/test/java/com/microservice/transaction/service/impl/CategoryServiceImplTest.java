@@ -0,0 +1,88 @@
+package com.microservice.transaction.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.microservice.transaction.model.Category;
+import com.microservice.transaction.repository.CategoryRepository;
+
+class CategoryServiceImplTest {
+
+    private static final String USER_ID = "user-123";
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CategoryServiceImpl service = new CategoryServiceImpl(categoryRepository, 100);
+
+    private static Category category(int id, String name) {
+        return Category.builder().categoryId(id).userId(USER_ID).name(name).build();
+    }
+
+    @Test
+    @DisplayName("should resolve an existing category once and answer repeats from memory")
+    void shouldCacheExistingCategory() {
+        when(categoryRepository.findByUserIdAndName(USER_ID, "Comida")).thenReturn(Optional.of(category(3, "Comida")));
+
+        assertThat(service.intern(USER_ID, "Comida")).isEqualTo(3);
+        assertThat(service.intern(USER_ID, " Comida ")).isEqualTo(3);
+
+        verify(categoryRepository, times(1)).findByUserIdAndName(USER_ID, "Comida");
+        verify(categoryRepository, never()).insertIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("should create a category the user has not used before and read its id back")
+    void shouldCreateNewCategory() {
+        when(categoryRepository.findByUserIdAndName(USER_ID, "Ocio")).thenReturn(Optional.empty());
+        when(categoryRepository.findCurrent(USER_ID, "Ocio")).thenReturn(Optional.of(category(9, "Ocio")));
+
+        assertThat(service.intern(USER_ID, "Ocio")).isEqualTo(9);
+
+        verify(categoryRepository).insertIfAbsent(USER_ID, "Ocio");
+    }
+
+    @Test
+    @DisplayName("should cache a category only after the surrounding transaction commits")
+    void shouldCacheOnlyAfterCommit() {
+        when(categoryRepository.findByUserIdAndName(USER_ID, "Ocio")).thenReturn(Optional.empty());
+        when(categoryRepository.findCurrent(USER_ID, "Ocio")).thenReturn(Optional.of(category(9, "Ocio")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.intern(USER_ID, "Ocio");
+            service.intern(USER_ID, "Ocio");
+            verify(categoryRepository, times(2)).insertIfAbsent(USER_ID, "Ocio");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.intern(USER_ID, "Ocio")).isEqualTo(9);
+        verify(categoryRepository, times(2)).insertIfAbsent(USER_ID, "Ocio");
+    }
+
+    @Test
+    @DisplayName("should resolve filter names from memory and the database, ignoring unknown names")
+    void shouldFindIdsIgnoringUnknownNames() {
+        when(categoryRepository.findByUserIdAndName(USER_ID, "Comida")).thenReturn(Optional.of(category(3, "Comida")));
+        service.intern(USER_ID, "Comida");
+        when(categoryRepository.findByUserIdAndNameIn(USER_ID, List.of("Hogar", "Inexistente")))
+                .thenReturn(List.of(category(5, "Hogar")));
+
+        assertThat(service.findIds(USER_ID, List.of("Comida", "Hogar", "Inexistente")))
+                .containsExactlyInAnyOrder(3, 5);
+    }
+}
@@ -0,0 +1,174 @@
+package com.microservice.transaction.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.dto.TransactionRequest;
+import com.microservice.transaction.dto.TransactionResponse;
+import com.microservice.transaction.exception.IdempotencyKeyMismatchException;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.IdempotencyRecord;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.IdempotencyRecordRepository;
+import com.microservice.transaction.service.TransactionService;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class IdempotencyServiceImplTest {
+
+    private static final String USER_ID = "user-123";
+    private static final String KEY = "4f8c2a9e-retry";
+
+    private final TransactionService transactionService = mock(TransactionService.class);
+    private final IdempotencyRecordRepository recordRepository = mock(IdempotencyRecordRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private final TransactionRequest request = new TransactionRequest(TransactionType.EXPENSE,
+            new BigDecimal("150.00"), "Alimentacion", LocalDate.of(2025, 3, 10), "Compra semanal");
+    private final TransactionResponse response = new TransactionResponse(7L, USER_ID, TransactionType.EXPENSE,
+            new BigDecimal("150.00"), "Alimentacion", LocalDate.of(2025, 3, 10), "Compra semanal",
+            OffsetDateTime.parse("2025-03-10T10:00:00-05:00"), 0L);
+
+    private IdempotencyServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService();
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(transactionService.create(USER_ID, request)).thenReturn(response);
+        lenient().when(recordRepository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+    }
+
+    private IdempotencyServiceImpl newService() {
+        return new IdempotencyServiceImpl(transactionService, recordRepository, transactionTemplate, jsonMapper,
+                24, 100);
+    }
+
+    private IdempotencyRecord storedRecord(TransactionRequest original, OffsetDateTime createdAt) {
+        return IdempotencyRecord.builder()
+                .userId(USER_ID)
+                .idempotencyKey(KEY)
+                .requestHash(IdempotencyServiceImpl.hash(original))
+                .transactionId(response.transactionId())
+                .responseBody(jsonMapper.writeValueAsString(response))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should create once and store the response with the request hash")
+    void shouldCreateAndStoreResponse() {
+        TransactionResponse result = service.create(USER_ID, KEY, request);
+
+        assertThat(result).isEqualTo(response);
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getTransactionId()).isEqualTo(7L);
+        assertThat(captor.getValue().getRequestHash()).isEqualTo(IdempotencyServiceImpl.hash(request));
+        assertThat(captor.getValue().getResponseBody()).contains("\"transactionId\":7");
+    }
+
+    @Test
+    @DisplayName("should answer a retry from memory without creating again")
+    void shouldReplayRetryFromMemory() {
+        service.create(USER_ID, KEY, request);
+        TransactionResponse retry = service.create(USER_ID, KEY, request);
+
+        assertThat(retry).isEqualTo(response);
+        verify(transactionService, times(1)).create(any(), any());
+        verify(recordRepository, times(1)).findByUserIdAndIdempotencyKey(USER_ID, KEY);
+    }
+
+    @Test
+    @DisplayName("should answer a retry after a restart from the stored record")
+    void shouldReplayRetryFromDatabase() {
+        when(recordRepository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+                .thenReturn(Optional.of(storedRecord(request, OffsetDateTime.now().minusMinutes(5))));
+
+        TransactionResponse retry = service.create(USER_ID, KEY, request);
+
+        assertThat(retry).isEqualTo(response);
+        verify(transactionService, never()).create(any(), any());
+    }
+
+    @Test
+    @DisplayName("should treat equivalent amounts as the same request body")
+    void shouldNormaliseAmountInHash() {
+        TransactionRequest sameAmount = new TransactionRequest(TransactionType.EXPENSE,
+                new BigDecimal("150"), "Alimentacion", LocalDate.of(2025, 3, 10), "Compra semanal");
+
+        assertThat(IdempotencyServiceImpl.hash(sameAmount)).isEqualTo(IdempotencyServiceImpl.hash(request));
+    }
+
+    @Test
+    @DisplayName("should reject a key reused with a different request body")
+    void shouldRejectKeyReuseWithDifferentBody() {
+        service.create(USER_ID, KEY, request);
+        TransactionRequest other = new TransactionRequest(TransactionType.EXPENSE,
+                new BigDecimal("99.00"), "Alimentacion", LocalDate.of(2025, 3, 10), "Compra semanal");
+
+        assertThatThrownBy(() -> service.create(USER_ID, KEY, other))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        verify(transactionService, times(1)).create(any(), any());
+    }
+
+    @Test
+    @DisplayName("should answer with the winner's response when a concurrent request stored the key first")
+    void shouldReplayAfterConcurrentInsert() {
+        when(recordRepository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(storedRecord(request, OffsetDateTime.now())));
+        doThrow(new DataIntegrityViolationException(IdempotencyRecord.KEY_CONSTRAINT))
+                .when(recordRepository).saveAndFlush(any(IdempotencyRecord.class));
+
+        TransactionResponse result = service.create(USER_ID, KEY, request);
+
+        assertThat(result).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("should create again once the stored key has expired")
+    void shouldCreateAgainAfterExpiry() {
+        IdempotencyRecord expired = storedRecord(request, OffsetDateTime.now().minusHours(25));
+        when(recordRepository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.of(expired));
+
+        service.create(USER_ID, KEY, request);
+
+        verify(recordRepository).delete(expired);
+        verify(transactionService).create(USER_ID, request);
+    }
+
+    @Test
+    @DisplayName("should reject blank or oversized keys")
+    void shouldValidateKey() {
+        assertThatThrownBy(() -> service.create(USER_ID, " ", request)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.create(USER_ID, "k".repeat(256), request))
+                .isInstanceOf(ValidationException.class);
+        verify(transactionService, never()).create(any(), any());
+    }
+}
@@ -0,0 +1,153 @@
+package com.microservice.transaction.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.microservice.transaction.dto.RecurringTransactionRequest;
+import com.microservice.transaction.dto.RecurringTransactionResponse;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.model.RecurringTransaction;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.RecurringTransactionRepository;
+import com.microservice.transaction.repository.TransactionBatchWriter;
+import com.microservice.transaction.service.CategoryService;
+import com.microservice.transaction.service.TransactionChangeService;
+import com.microservice.transaction.service.port.TransactionEventPublisherPort;
+
+class RecurringTransactionServiceImplTest {
+
+    private static final String USER_ID = "user-123";
+    private static final String MONTHLY = "0 0 0 1 * *";
+
+    private final RecurringTransactionRepository recurringRepository = mock(RecurringTransactionRepository.class);
+    private final TransactionBatchWriter batchWriter = mock(TransactionBatchWriter.class);
+    private final TransactionChangeService changeService = mock(TransactionChangeService.class);
+    private final CategoryService categoryService = mock(CategoryService.class);
+    private final TransactionEventPublisherPort eventPublisher = mock(TransactionEventPublisherPort.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(batchWriter.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(recurringRepository.save(any(RecurringTransaction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private RecurringTransactionServiceImpl service(int batchSize, int maxBatchesPerRun) {
+        return new RecurringTransactionServiceImpl(recurringRepository, batchWriter, changeService, categoryService,
+                eventPublisher, transactionTemplate, batchSize, maxBatchesPerRun, 31);
+    }
+
+    private static RecurringTransaction definition(Long id, TransactionType type, String amount,
+            LocalDate nextOccurrence, LocalDate endDate) {
+        return RecurringTransaction.builder()
+                .recurringId(id)
+                .userId(USER_ID)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .category(type == TransactionType.INCOME ? "Salario" : "Suscripciones")
+                .categoryId(type == TransactionType.INCOME ? 1 : 2)
+                .schedule(MONTHLY)
+                .nextOccurrence(nextOccurrence)
+                .endDate(endDate)
+                .build();
+    }
+
+    @Test
+    @DisplayName("create — first occurrence is the first scheduled date on or after the start date")
+    void shouldScheduleFirstOccurrence() {
+        when(categoryService.intern(USER_ID, "Salario")).thenReturn(1);
+
+        RecurringTransactionResponse response = service(200, 20).create(USER_ID, new RecurringTransactionRequest(
+                TransactionType.INCOME, new BigDecimal("2500.00"), "Salario", "Nómina", MONTHLY,
+                LocalDate.of(2025, 3, 15), null));
+
+        assertThat(response.nextOccurrence()).isEqualTo(LocalDate.of(2025, 4, 1));
+        ArgumentCaptor<RecurringTransaction> captor = ArgumentCaptor.forClass(RecurringTransaction.class);
+        verify(recurringRepository).save(captor.capture());
+        assertThat(captor.getValue().getCategoryId()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("create — rejects an invalid schedule without saving")
+    void shouldRejectInvalidSchedule() {
+        assertThatThrownBy(() -> service(200, 20).create(USER_ID, new RecurringTransactionRequest(
+                TransactionType.EXPENSE, new BigDecimal("9.99"), "Suscripciones", null, "every month",
+                LocalDate.of(2025, 3, 1), null)))
+                .isInstanceOf(ValidationException.class);
+
+        verify(recurringRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("materialize — catches up missed dates, stops at the end date and publishes one delta per period")
+    void shouldMaterializeDueOccurrences() {
+        RecurringTransaction salary = definition(1L, TransactionType.INCOME, "2500.00",
+                LocalDate.of(2025, 1, 1), null);
+        RecurringTransaction subscription = definition(2L, TransactionType.EXPENSE, "10.00",
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 15));
+        when(recurringRepository.claimDue(eq(LocalDate.of(2025, 3, 10)), any()))
+                .thenReturn(List.of(salary, subscription));
+
+        int created = service(200, 20).materializeDue(LocalDate.of(2025, 3, 10));
+
+        assertThat(created).isEqualTo(5);
+        assertThat(salary.getNextOccurrence()).isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(subscription.getNextOccurrence()).isNull();
+        ArgumentCaptor<List<Transaction>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(Transaction::getDate).containsExactly(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1));
+        verify(changeService).recordChanges(inserted.getValue(), ChangeOperation.UPSERT);
+        verify(eventPublisher).publishReportDelta(USER_ID, YearMonth.of(2025, 1),
+                new BigDecimal("2500.00"), new BigDecimal("10.00"));
+        verify(eventPublisher).publishReportDelta(USER_ID, YearMonth.of(2025, 2),
+                new BigDecimal("2500.00"), new BigDecimal("10.00"));
+        verify(eventPublisher).publishReportDelta(USER_ID, YearMonth.of(2025, 3),
+                new BigDecimal("2500.00"), BigDecimal.ZERO);
+        verify(eventPublisher, never()).publishCreated(any());
+    }
+
+    @Test
+    @DisplayName("materialize — claims at most max-batches-per-run batches and leaves the rest for the next run")
+    void shouldLimitBatchesPerRun() {
+        LocalDate today = LocalDate.of(2025, 3, 1);
+        when(recurringRepository.claimDue(eq(today), any()))
+                .thenAnswer(invocation -> List.of(definition(1L, TransactionType.EXPENSE, "10.00", today, null)));
+
+        int created = service(1, 2).materializeDue(today);
+
+        assertThat(created).isEqualTo(2);
+        verify(recurringRepository, times(2)).claimDue(eq(today), any());
+        verify(eventPublisher, times(1)).publishReportDelta(USER_ID, YearMonth.of(2025, 3),
+                BigDecimal.ZERO, new BigDecimal("20.00"));
+    }
+}
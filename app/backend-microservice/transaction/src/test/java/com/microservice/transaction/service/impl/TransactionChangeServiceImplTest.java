@@ -0,0 +1,132 @@
+package com.microservice.transaction.service.impl;
+
+import com.microservice.transaction.dto.TransactionChangeResponse;
+import com.microservice.transaction.dto.TransactionChangesResponse;
+import com.microservice.transaction.exception.ChangeCursorExpiredException;
+import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.model.ChangeOperation;
+import com.microservice.transaction.model.Transaction;
+import com.microservice.transaction.model.TransactionChange;
+import com.microservice.transaction.model.TransactionType;
+import com.microservice.transaction.repository.TransactionChangeRepository;
+import com.microservice.transaction.repository.TransactionRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionChangeServiceImplTest {
+    @Mock
+    private TransactionChangeRepository changeRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TransactionChangeServiceImpl changeService;
+
+    @BeforeEach
+    void setUp() {
+        changeService = new TransactionChangeServiceImpl(changeRepository, transactionRepository, 0, 30);
+    }
+
+    @Test
+    @DisplayName("getChanges — compacts to the latest change per transaction and returns tombstones")
+    void getChanges_compactsAndReturnsTombstones() {
+        when(changeRepository.findMinSeq()).thenReturn(1L);
+        when(changeRepository.findByUserIdAndSeqGreaterThanAndChangedAtBeforeOrderBySeqAsc(
+                eq("user-001"), eq(10L), any(), any())).thenReturn(List.of(
+                        change(11L, 5L, ChangeOperation.UPSERT),
+                        change(12L, 6L, ChangeOperation.UPSERT),
+                        change(13L, 5L, ChangeOperation.UPSERT),
+                        change(14L, 6L, ChangeOperation.DELETE)));
+        when(transactionRepository.findAllById(List.of(5L))).thenReturn(List.of(transaction(5L)));
+
+        TransactionChangesResponse response = changeService.getChanges("user-001", "10", 100);
+
+        List<TransactionChangeResponse> changes = response.changes();
+        assertEquals(2, changes.size());
+        assertEquals(13L, changes.get(0).seq());
+        assertEquals(ChangeOperation.UPSERT, changes.get(0).operation());
+        assertEquals(new BigDecimal("20.00"), changes.get(0).transaction().amount());
+        assertEquals(ChangeOperation.DELETE, changes.get(1).operation());
+        assertNull(changes.get(1).transaction());
+        assertEquals("14", response.nextCursor());
+        assertFalse(response.hasMore());
+    }
+
+    @Test
+    @DisplayName("getChanges — reports hasMore and advances the cursor to the last change of the page")
+    void getChanges_withMoreThanLimit_setsHasMore() {
+        when(changeRepository.findMinSeq()).thenReturn(1L);
+        when(changeRepository.findByUserIdAndSeqGreaterThanAndChangedAtBeforeOrderBySeqAsc(
+                eq("user-001"), eq(0L), any(), any())).thenReturn(List.of(
+                        change(1L, 7L, ChangeOperation.DELETE),
+                        change(2L, 8L, ChangeOperation.DELETE)));
+
+        TransactionChangesResponse response = changeService.getChanges("user-001", "0", 1);
+
+        assertEquals(1, response.changes().size());
+        assertEquals("1", response.nextCursor());
+        assertTrue(response.hasMore());
+    }
+
+    @Test
+    @DisplayName("getChanges — without cursor returns the current head cursor only")
+    void getChanges_withoutCursor_returnsHead() {
+        when(changeRepository.findMaxSettledSeq(any())).thenReturn(42L);
+
+        TransactionChangesResponse response = changeService.getChanges("user-001", null, 100);
+
+        assertTrue(response.changes().isEmpty());
+        assertEquals("42", response.nextCursor());
+        verify(changeRepository, never()).findByUserIdAndSeqGreaterThanAndChangedAtBeforeOrderBySeqAsc(
+                any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getChanges — cursor older than retained history is rejected as expired")
+    void getChanges_withPrunedCursor_throwsExpired() {
+        when(changeRepository.findMinSeq()).thenReturn(500L);
+
+        assertThrows(ChangeCursorExpiredException.class, () -> changeService.getChanges("user-001", "10", 100));
+    }
+
+    @Test
+    @DisplayName("getChanges — malformed cursor is a validation error")
+    void getChanges_withMalformedCursor_throwsValidation() {
+        assertThrows(ValidationException.class, () -> changeService.getChanges("user-001", "abc", 100));
+    }
+
+    private TransactionChange change(Long seq, Long transactionId, ChangeOperation operation) {
+        return TransactionChange.builder()
+                .seq(seq)
+                .userId("user-001")
+                .transactionId(transactionId)
+                .operation(operation)
+                .build();
+    }
+
+    private Transaction transaction(Long id) {
+        return Transaction.builder()
+                .transactionId(id)
+                .userId("user-001")
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("20.00"))
+                .category("Comida")
+                .date(LocalDate.of(2026, 2, 1))
+                .build();
+    }
+}
@@ -2,11 +2,14 @@ package com.microservice.transaction.service.impl;
 
 import com.microservice.transaction.dto.TransactionRequest;
 import com.microservice.transaction.dto.TransactionResponse;
+import com.microservice.transaction.dto.TransactionSearchCriteria;
 import com.microservice.transaction.model.Transaction;
 import com.microservice.transaction.model.TransactionType;
 import com.microservice.transaction.repository.TransactionRepository;
 import com.microservice.transaction.exception.NotFoundException;
+import com.microservice.transaction.exception.TransactionConflictException;
 import com.microservice.transaction.exception.ValidationException;
+import com.microservice.transaction.service.CategoryService;
 import com.microservice.transaction.service.port.TransactionEventPublisherPort;
 
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +21,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,6 +41,8 @@ class TransactionServiceImplTest {
     private TransactionRepository transactionRepository;
     @Mock
     private TransactionEventPublisherPort eventPublisher;
+    @Mock
+    private CategoryService categoryService;
     @InjectMocks
     private TransactionServiceImpl transactionService;
     @Captor
@@ -131,34 +140,93 @@ class TransactionServiceImplTest {
                 .date(LocalDate.of(2025, 3, 9))
                 .description("Compra anterior")
                 .createdAt(OffsetDateTime.parse("2025-03-09T10:00:00-05:00"))
+                .version(2L)
                 .build();
 
-        Transaction saved = Transaction.builder()
-                .transactionId(transactionId)
-                .userId("user-123")
-                .type(TransactionType.EXPENSE)
-                .amount(new BigDecimal("150.00"))
-                .category("Alimentacion")
-                .date(LocalDate.of(2025, 3, 10))
-                .description("Compra semanal")
-                .createdAt(existing.getCreatedAt())
-                .build();
-
-        when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(existing));
-        when(transactionRepository.save(any(Transaction.class))).thenReturn(saved);
+        when(transactionRepository.findByTransactionIdAndUserId(transactionId, userId))
+                .thenReturn(Optional.of(existing));
+        when(categoryService.intern(userId, "Alimentacion")).thenReturn(7);
+        when(transactionRepository.updateIfVersionMatches(transactionId, userId, 2L, TransactionType.EXPENSE,
+                new BigDecimal("150.00"), "Alimentacion", 7, LocalDate.of(2025, 3, 10), "Compra semanal"))
+                .thenReturn(1);
 
-        TransactionResponse response = transactionService.updateTransaction(userId, transactionId, request);
+        TransactionResponse response = transactionService.updateTransaction(userId, transactionId, request, null);
 
         assertAll("Respuesta de actualizacion",
                 () -> assertNotNull(response, "La respuesta no debe ser nula"),
                 () -> assertEquals(transactionId, response.transactionId(), "El ID debe coincidir"),
                 () -> assertEquals(new BigDecimal("150.00"), response.amount(), "El monto debe actualizarse"),
-                () -> assertEquals("Alimentacion", response.category(), "La categoria debe actualizarse")
+                () -> assertEquals("Alimentacion", response.category(), "La categoria debe actualizarse"),
+                () -> assertEquals(3L, response.version(), "La version debe incrementarse"),
+                () -> assertEquals(7, existing.getCategoryId(), "Debe guardar el id de la nueva categoria")
         );
 
-        verify(transactionRepository).findById(transactionId);
-        verify(transactionRepository).save(any(Transaction.class));
-        verify(eventPublisher).publishUpdated(saved);
+        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(eventPublisher).publishUpdated(existing, TransactionType.EXPENSE, new BigDecimal("100.00"),
+                LocalDate.of(2025, 3, 9));
+    }
+
+    @Test
+    @DisplayName("update — stale If-Match: throws conflict without writing")
+    void shouldRejectUpdate_whenExpectedVersionIsStale() {
+        String userId = "user-123";
+        TransactionRequest request = new TransactionRequest(TransactionType.EXPENSE, new BigDecimal("150.00"),
+                "Alimentacion", LocalDate.of(2025, 3, 10), "Compra semanal");
+        when(transactionRepository.findByTransactionIdAndUserId(123L, userId))
+                .thenReturn(Optional.of(Transaction.builder().transactionId(123L).userId(userId).version(5L).build()));
+
+        assertThrows(TransactionConflictException.class,
+                () -> transactionService.updateTransaction(userId, 123L, request, 4L));
+
+        verify(transactionRepository, never()).updateIfVersionMatches(any(), any(), any(), any(), any(), any(),
+                any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("update — concurrent change: throws conflict when no row matches the version")
+    void shouldRejectUpdate_whenRowChangedConcurrently() {
+        String userId = "user-123";
+        TransactionRequest request = new TransactionRequest(TransactionType.EXPENSE, new BigDecimal("150.00"),
+                "Alimentacion", LocalDate.of(2025, 3, 10), "Compra semanal");
+        when(transactionRepository.findByTransactionIdAndUserId(123L, userId))
+                .thenReturn(Optional.of(Transaction.builder().transactionId(123L).userId(userId).version(5L)
+                        .amount(new BigDecimal("100.00")).date(LocalDate.of(2025, 3, 9)).build()));
+        when(transactionRepository.updateIfVersionMatches(any(), any(), any(), any(), any(), any(), any(), any(),
+                any()))
+                .thenReturn(0);
+
+        assertThrows(TransactionConflictException.class,
+                () -> transactionService.updateTransaction(userId, 123L, request, null));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("delete — happy path: deletes with a version-checked statement and publishes event")
+    void shouldDeleteTransaction_whenVersionMatches() {
+        String userId = "user-123";
+        Transaction existing = Transaction.builder().transactionId(123L).userId(userId).version(1L).build();
+        when(transactionRepository.findByTransactionIdAndUserId(123L, userId)).thenReturn(Optional.of(existing));
+        when(transactionRepository.deleteIfVersionMatches(123L, userId, 1L)).thenReturn(1);
+
+        transactionService.delete(userId, 123L, 1L);
+
+        verify(transactionRepository, never()).delete(any(Transaction.class));
+        verify(eventPublisher).publishDeleted(existing);
+    }
+
+    @Test
+    @DisplayName("delete — concurrent change: throws conflict and does not publish event")
+    void shouldRejectDelete_whenRowChangedConcurrently() {
+        String userId = "user-123";
+        when(transactionRepository.findByTransactionIdAndUserId(123L, userId))
+                .thenReturn(Optional.of(Transaction.builder().transactionId(123L).userId(userId).version(1L).build()));
+        when(transactionRepository.deleteIfVersionMatches(123L, userId, 1L)).thenReturn(0);
+
+        assertThrows(TransactionConflictException.class, () -> transactionService.delete(userId, 123L, null));
+
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -174,15 +242,16 @@ class TransactionServiceImplTest {
                 "Compra semanal"
         );
 
-        when(transactionRepository.findById(transactionId)).thenReturn(Optional.empty());
+        when(transactionRepository.findByTransactionIdAndUserId(transactionId, userId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class,
-                () -> transactionService.updateTransaction(userId, transactionId, request),
+                () -> transactionService.updateTransaction(userId, transactionId, request, null),
                 "Should throw NotFoundException when transaction does not exist"
         );
 
-        verify(transactionRepository).findById(transactionId);
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionRepository).findByTransactionIdAndUserId(transactionId, userId);
+        verify(transactionRepository, never()).updateIfVersionMatches(any(), any(), any(), any(), any(), any(),
+                any(), any(), any());
         verifyNoInteractions(eventPublisher);
     }
 
@@ -199,10 +268,43 @@ class TransactionServiceImplTest {
         );
 
         assertThrows(ValidationException.class,
-                () -> transactionService.updateTransaction(userId, 123L, request),
+                () -> transactionService.updateTransaction(userId, 123L, request, null),
                 "Should reject negative amount"
         );
 
         verifyNoInteractions(transactionRepository, eventPublisher);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("search — bad request: rejects inverted ranges without querying")
+    void shouldRejectSearch_whenRangeIsInverted() {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(null, null,
+                new BigDecimal("50.00"), new BigDecimal("10.00"), null, null, null);
+
+        assertThrows(ValidationException.class,
+                () -> transactionService.search("user-123", criteria, Pageable.unpaged()));
+
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("search text — ranks with the sanitized query and ignores the requested sort")
+    void shouldSearchTextWithSanitizedQuery() {
+        when(transactionRepository.searchFullText("user-123", "+netflix*", PageRequest.of(1, 20)))
+                .thenReturn(Page.empty(PageRequest.of(1, 20)));
+
+        transactionService.searchText("user-123", "(Netflix)",
+                PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "date")));
+
+        verify(transactionRepository).searchFullText("user-123", "+netflix*", PageRequest.of(1, 20));
+    }
+
+    @Test
+    @DisplayName("search text — bad request: rejects text without searchable words")
+    void shouldRejectSearchText_whenNothingSearchable() {
+        assertThrows(ValidationException.class,
+                () -> transactionService.searchText("user-123", " a ", PageRequest.of(0, 10)));
+
+        verifyNoInteractions(transactionRepository);
+    }
+}